@@ -1,20 +1,170 @@
 package org.skybank.core;
 
 
+import org.skybank.core.application.admission.AdmissionControlledAccountService;
+import org.skybank.core.application.admission.AdmissionControlledAuthService;
+import org.skybank.core.application.admission.AdmissionController;
+import org.skybank.core.application.admission.AdmissionPolicy;
+import org.skybank.core.application.hot.HotAccountFolder;
+import org.skybank.core.application.hot.HotAccountPolicy;
+import org.skybank.core.application.index.BalanceIndex;
+import org.skybank.core.application.projection.AccountProjection;
+import org.skybank.core.application.projection.AccountQueryService;
+import org.skybank.core.application.standing.StandingOrderPolicy;
+import org.skybank.core.application.standing.StandingOrderScheduler;
+import org.skybank.core.application.velocity.EndOfDayVelocityRecorder;
+import org.skybank.core.application.velocity.VelocityCheckedAccountService;
+import org.skybank.core.application.velocity.VelocityLimits;
+import org.skybank.core.application.velocity.VelocityPolicy;
+import org.skybank.core.domain.event.CompositeAccountEventListener;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.repository.AccountRepository;
 import org.skybank.core.domain.service.AccountService;
 import org.skybank.core.domain.service.AuthService;
 import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
 import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.audit.AuditOverflowPolicy;
+import org.skybank.core.infrastructure.audit.BinaryAuditLog;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.infrastructure.persistence.JdbcAccountRepository;
+import org.skybank.core.infrastructure.persistence.JdbcRepositoryPolicy;
+import org.skybank.core.infrastructure.replication.LocalJournalSource;
+import org.skybank.core.infrastructure.replication.ReadReplica;
+import org.skybank.core.infrastructure.replication.ReplicaReadRouter;
+import org.skybank.core.infrastructure.replication.ReplicaRoutedAccountService;
+import org.skybank.core.infrastructure.replication.StalenessBound;
 import org.skybank.core.presentation.ConsolePresenter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
 public class App 
 {
+    private static final long PROJECTION_WAIT_MILLIS = 50;
+
     public static void main(String[] args) {
-        AuthService authService = new AuthServiceImpl();
-        AccountService accountService = new AccountServiceImpl();
-        ConsolePresenter consolePresenter = new ConsolePresenter(authService, accountService);
+        Wiring wiring = wire(args);
+        Runtime.getRuntime().addShutdownHook(new Thread(wiring::close, "skybank-shutdown"));
+        ConsolePresenter consolePresenter = new ConsolePresenter(wiring.authService, wiring.accountService, wiring.accountQueries);
 
         consolePresenter.start();
     }
-}
 
+    /**
+     * Builds the services for {@code args}:
+     * <ul>
+     *   <li>{@code --h2 <dir>} keeps accounts in an embedded H2 database under {@code dir}, next to
+     *       the audit log and standing orders (which live in the working directory otherwise) and
+     *       a transaction journal file, so replicas, the projection and velocity windows are
+     *       rebuilt from it on the next start</li>
+     *   <li>{@code --replicas <n>} serves statements from {@code n} in-process read replicas
+     *       (1 by default, 0 reads everything from the primary)</li>
+     * </ul>
+     */
+    static Wiring wire(String[] args) {
+        Path h2Directory = null;
+        int replicaCount = 1;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--h2" -> h2Directory = Paths.get(args[i + 1]);
+                case "--replicas" -> replicaCount = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Path dataDirectory = h2Directory != null ? h2Directory : Paths.get(".");
+        try {
+            Files.createDirectories(dataDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create data directory " + dataDirectory, e);
+        }
+        Wiring wiring = new Wiring();
+        wiring.journal = h2Directory != null ? new TransactionJournal(h2Directory.resolve("journal.bin")) : new TransactionJournal();
+        wiring.onClose(wiring.journal::close);
+        wiring.velocityLimits = new VelocityLimits(VelocityPolicy.defaults());
+        wiring.balanceIndex = new BalanceIndex();
+        CompositeAccountEventListener eventListener = new CompositeAccountEventListener(wiring.journal, wiring.balanceIndex,
+                new EndOfDayVelocityRecorder(wiring.velocityLimits, FxRateTable.defaults()));
+        if (h2Directory != null) {
+            JdbcAccountRepository jdbcRepository = JdbcAccountRepository.h2(h2Directory, JdbcRepositoryPolicy.defaults(), eventListener);
+            wiring.onClose(jdbcRepository::close);
+            wiring.accountRepository = jdbcRepository;
+        } else {
+            wiring.accountRepository = new InMemoryAccountRepository(eventListener);
+        }
+        // Accounts loaded from the database were never opened through the listener.
+        wiring.balanceIndex.indexAll(wiring.accountRepository.findAll());
+        AccountProjection accountProjection = new AccountProjection(wiring.journal);
+        accountProjection.start();
+        wiring.onClose(accountProjection::close);
+        wiring.accountQueries = new AccountQueryService(accountProjection, wiring.accountRepository, PROJECTION_WAIT_MILLIS);
+        BinaryAuditLog auditLog = new BinaryAuditLog(dataDirectory.resolve("audit"), 8192, 16L << 20, AuditOverflowPolicy.DROP_AND_MARK);
+        wiring.onClose(auditLog::close);
+        List<ReadReplica> replicas = new ArrayList<>(replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            ReadReplica replica = new ReadReplica("local-" + i, new LocalJournalSource(wiring.journal));
+            replica.start();
+            wiring.onClose(replica::close);
+            replicas.add(replica);
+        }
+        wiring.readRouter = new ReplicaReadRouter(wiring.accountRepository, wiring.journal, replicas, new StalenessBound(1_000, 50));
+
+        AdmissionController admissionController = new AdmissionController(AdmissionPolicy.defaults());
+        wiring.authService = new AdmissionControlledAuthService(new AuthServiceImpl(wiring.accountRepository, accountProjection, auditLog), admissionController);
+        wiring.velocityLimits.restore(wiring.journal, FxRateTable.defaults(), System.currentTimeMillis());
+        wiring.accountService = new AdmissionControlledAccountService(
+                new ReplicaRoutedAccountService(
+                        new VelocityCheckedAccountService(new AccountServiceImpl(auditLog), wiring.velocityLimits, FxRateTable.defaults(), auditLog),
+                        wiring.readRouter),
+                admissionController);
+        // Scheduled postings act as the customer, so they pass the same limits as the console.
+        AccountService scheduledService = new AdmissionControlledAccountService(
+                new VelocityCheckedAccountService(new AccountServiceImpl(auditLog), wiring.velocityLimits, FxRateTable.defaults(), auditLog),
+                admissionController);
+        StandingOrderScheduler standingOrders = new StandingOrderScheduler(wiring.accountRepository, scheduledService,
+                StandingOrderPolicy.defaults(), dataDirectory.resolve("standing-orders"));
+        standingOrders.start();
+        wiring.onClose(standingOrders::close);
+        HotAccountFolder hotAccounts = new HotAccountFolder(wiring.accountRepository, HotAccountPolicy.defaults());
+        hotAccounts.start();
+        wiring.onClose(hotAccounts::close);
+        return wiring;
+    }
+
+    /**
+     * The running services; {@link #close()} stops them in the reverse of the order they started.
+     */
+    static final class Wiring implements AutoCloseable {
+        TransactionJournal journal;
+        AccountRepository accountRepository;
+        BalanceIndex balanceIndex;
+        ReplicaReadRouter readRouter;
+        VelocityLimits velocityLimits;
+        AuthService authService;
+        AccountService accountService;
+        AccountQueryService accountQueries;
+        private final Deque<Runnable> closers = new ArrayDeque<>();
+
+        private void onClose(Runnable closer) {
+            closers.push(closer);
+        }
+
+        @Override
+        public synchronized void close() {
+            while (!closers.isEmpty()) {
+                closers.pop().run();
+            }
+        }
+    }
+}
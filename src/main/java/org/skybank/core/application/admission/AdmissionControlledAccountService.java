@@ -0,0 +1,70 @@
+package org.skybank.core.application.admission;
+
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.context.SessionContext;
+import org.skybank.core.domain.exception.AdmissionRejectedException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.service.AccountService;
+
+public class AdmissionControlledAccountService implements AccountService {
+    private final AccountService delegate;
+    private final AdmissionController admissionController;
+
+    public AdmissionControlledAccountService(AccountService delegate, AdmissionController admissionController) {
+        this.delegate = delegate;
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public void deposit(long amount, CurrencyCode currency) {
+        long start = admit();
+        try {
+            delegate.deposit(amount, currency);
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    @Override
+    public void withdraw(long amount, CurrencyCode currency) {
+        long start = admit();
+        try {
+            delegate.withdraw(amount, currency);
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    @Override
+    public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
+        long start = admit();
+        try {
+            return delegate.exchange(amount, from, to);
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    @Override
+    public void printStatement() {
+        long start = admit();
+        try {
+            delegate.printStatement();
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    private long admit() {
+        long start = System.nanoTime();
+        Account currentAccount = AccountContext.getCurrentAccount();
+        String accountNumber = currentAccount != null ? currentAccount.getAccountNumber() : null;
+
+        AdmissionResult result = admissionController.tryAdmit(accountNumber, SessionContext.getCurrentSession(), start);
+        if (!result.isAdmitted()) {
+            throw new AdmissionRejectedException(result.name());
+        }
+        return start;
+    }
+}
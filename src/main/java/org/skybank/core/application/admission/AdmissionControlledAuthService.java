@@ -0,0 +1,64 @@
+package org.skybank.core.application.admission;
+
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.application.dto.response.CreateAccountResponse;
+import org.skybank.core.application.dto.response.SignInResponse;
+import org.skybank.core.application.dto.response.SignOutResponse;
+import org.skybank.core.application.mapper.AuthMapper;
+import org.skybank.core.domain.context.SessionContext;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.service.AuthService;
+
+public class AdmissionControlledAuthService implements AuthService {
+    private final AuthService delegate;
+    private final AdmissionController admissionController;
+    private final AuthMapper authMapper = AuthMapper.INSTANCE;
+
+    public AdmissionControlledAuthService(AuthService delegate, AdmissionController admissionController) {
+        this.delegate = delegate;
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public CreateAccountResponse createAccount() {
+        long start = System.nanoTime();
+        AdmissionResult result = admissionController.tryAdmit(null, SessionContext.getCurrentSession(), start);
+        if (!result.isAdmitted()) {
+            return authMapper.toCreateAccountErrorResponse(rejectionMessage(result));
+        }
+        try {
+            return delegate.createAccount();
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    @Override
+    public SignInResponse signIn(SignInRequest request) {
+        long start = System.nanoTime();
+        String accountNumber = request != null ? request.accountNumber() : null;
+        AdmissionResult result = admissionController.tryAdmit(accountNumber, SessionContext.getCurrentSession(), start);
+        if (!result.isAdmitted()) {
+            return authMapper.toSignInErrorResponse(rejectionMessage(result));
+        }
+        try {
+            return delegate.signIn(request);
+        } finally {
+            admissionController.complete(start);
+        }
+    }
+
+    @Override
+    public SignOutResponse signOut() {
+        return delegate.signOut();
+    }
+
+    @Override
+    public Account getCurrentAccount() {
+        return delegate.getCurrentAccount();
+    }
+
+    private String rejectionMessage(AdmissionResult result) {
+        return "Request rejected: " + result;
+    }
+}
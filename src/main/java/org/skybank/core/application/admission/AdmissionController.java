@@ -0,0 +1,116 @@
+package org.skybank.core.application.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether an operation may proceed: per-account and per-session token buckets first,
+ * then the global adaptive concurrency limit. A call rejected by a later check gets back the
+ * tokens it took, so rejections do not eat into an account's or session's budget. Every admitted
+ * call must be paired with {@link #complete(long)} so the concurrency slot is returned and latency
+ * is sampled.
+ *
+ * <p>Buckets are created per account number and per session, so {@link #tryAdmit} sweeps out
+ * buckets that have refilled completely at most once a second; dropping a full bucket loses
+ * nothing, as a new one starts full.
+ */
+public class AdmissionController {
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final AdmissionPolicy policy;
+    private final ConcurrentMap<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final AtomicLong lastEvictionNanos = new AtomicLong(NEVER);
+
+    public AdmissionController(AdmissionPolicy policy) {
+        this.policy = policy;
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(
+                policy.initialConcurrency(),
+                policy.minConcurrency(),
+                policy.maxConcurrency(),
+                policy.latencyTargetNanos(),
+                policy.backoffRatio()
+        );
+    }
+
+    public AdmissionResult tryAdmit(String accountNumber, String sessionId, long nowNanos) {
+        maybeEvictIdle(nowNanos);
+        TokenBucket account = accountNumber != null ? accountBucket(accountNumber, nowNanos) : null;
+        if (account != null && !account.tryAcquire(nowNanos)) {
+            return AdmissionResult.ACCOUNT_RATE_EXCEEDED;
+        }
+        TokenBucket session = sessionId != null ? sessionBucket(sessionId, nowNanos) : null;
+        if (session != null && !session.tryAcquire(nowNanos)) {
+            refund(account);
+            return AdmissionResult.SESSION_RATE_EXCEEDED;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            refund(account);
+            refund(session);
+            return AdmissionResult.OVERLOADED;
+        }
+        return AdmissionResult.ADMITTED;
+    }
+
+    public void complete(long startNanos) {
+        long now = System.nanoTime();
+        concurrencyLimit.release(now - startNanos, now);
+    }
+
+    public void evictIdle(long nowNanos) {
+        accountBuckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+        sessionBuckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+    }
+
+    /**
+     * Account and session buckets currently held.
+     */
+    public int bucketCount() {
+        return accountBuckets.size() + sessionBuckets.size();
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return concurrencyLimit.getInFlight();
+    }
+
+    private void maybeEvictIdle(long nowNanos) {
+        long last = lastEvictionNanos.get();
+        if (last == NEVER) {
+            lastEvictionNanos.compareAndSet(NEVER, nowNanos);
+        } else if (nowNanos - last >= EVICTION_INTERVAL_NANOS && lastEvictionNanos.compareAndSet(last, nowNanos)) {
+            evictIdle(nowNanos);
+        }
+    }
+
+    private static void refund(TokenBucket bucket) {
+        if (bucket != null) {
+            bucket.refund();
+        }
+    }
+
+    private TokenBucket accountBucket(String accountNumber, long nowNanos) {
+        TokenBucket bucket = accountBuckets.get(accountNumber);
+        if (bucket == null) {
+            bucket = accountBuckets.computeIfAbsent(accountNumber,
+                    key -> new TokenBucket(policy.accountRatePerSecond(), policy.accountBurst(), nowNanos));
+        }
+        return bucket;
+    }
+
+    private TokenBucket sessionBucket(String sessionId, long nowNanos) {
+        TokenBucket bucket = sessionBuckets.get(sessionId);
+        if (bucket == null) {
+            bucket = sessionBuckets.computeIfAbsent(sessionId,
+                    key -> new TokenBucket(policy.sessionRatePerSecond(), policy.sessionBurst(), nowNanos));
+        }
+        return bucket;
+    }
+}
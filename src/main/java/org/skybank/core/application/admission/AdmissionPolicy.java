@@ -0,0 +1,23 @@
+package org.skybank.core.application.admission;
+
+public record AdmissionPolicy(
+        double accountRatePerSecond,
+        int accountBurst,
+        double sessionRatePerSecond,
+        int sessionBurst,
+        int initialConcurrency,
+        int minConcurrency,
+        int maxConcurrency,
+        long latencyTargetNanos,
+        double backoffRatio
+) {
+    public static AdmissionPolicy defaults() {
+        return new AdmissionPolicy(
+                50, 20,
+                100, 40,
+                64, 4, 1024,
+                50_000_000L,
+                0.9
+        );
+    }
+}
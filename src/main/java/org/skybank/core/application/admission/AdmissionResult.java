@@ -0,0 +1,12 @@
+package org.skybank.core.application.admission;
+
+public enum AdmissionResult {
+    ADMITTED,
+    ACCOUNT_RATE_EXCEEDED,
+    SESSION_RATE_EXCEEDED,
+    OVERLOADED;
+
+    public boolean isAdmitted() {
+        return this == ADMITTED;
+    }
+}
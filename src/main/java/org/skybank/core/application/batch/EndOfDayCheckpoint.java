@@ -0,0 +1,93 @@
+package org.skybank.core.application.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Set of partitions already posted for one business date. Every completed partition rewrites the
+ * file through a temporary file and an atomic rename, so a crash leaves either the old or the new
+ * state on disk, never a torn one. A checkpoint for a different date or layout is ignored.
+ */
+public class EndOfDayCheckpoint {
+    private static final Logger logger = LoggerFactory.getLogger(EndOfDayCheckpoint.class);
+    private static final int MAGIC = 0x534B454F;
+
+    private final Path file;
+    private final LocalDate businessDate;
+    private final int partitionCount;
+    private final BitSet done;
+
+    private EndOfDayCheckpoint(Path file, LocalDate businessDate, int partitionCount, BitSet done) {
+        this.file = file;
+        this.businessDate = businessDate;
+        this.partitionCount = partitionCount;
+        this.done = done;
+    }
+
+    public static EndOfDayCheckpoint open(Path file, LocalDate businessDate, int partitionCount) {
+        if (file != null && Files.exists(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() == MAGIC && in.readLong() == businessDate.toEpochDay() && in.readInt() == partitionCount) {
+                    long[] words = new long[in.readInt()];
+                    for (int i = 0; i < words.length; i++) {
+                        words[i] = in.readLong();
+                    }
+                    BitSet done = BitSet.valueOf(words);
+                    logger.info("Resuming end-of-day {} with {} of {} partitions already posted",
+                            businessDate, done.cardinality(), partitionCount);
+                    return new EndOfDayCheckpoint(file, businessDate, partitionCount, done);
+                }
+                logger.info("Ignoring end-of-day checkpoint {} for another run", file);
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable end-of-day checkpoint {}: {}", file, e.getMessage());
+            }
+        }
+        return new EndOfDayCheckpoint(file, businessDate, partitionCount, new BitSet(partitionCount));
+    }
+
+    public synchronized boolean isDone(int partition) {
+        return done.get(partition);
+    }
+
+    public synchronized int doneCount() {
+        return done.cardinality();
+    }
+
+    public synchronized void markDone(int partition) {
+        done.set(partition);
+        if (file != null) {
+            write();
+        }
+    }
+
+    private void write() {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                long[] words = done.toLongArray();
+                out.writeInt(MAGIC);
+                out.writeLong(businessDate.toEpochDay());
+                out.writeInt(partitionCount);
+                out.writeInt(words.length);
+                for (long word : words) {
+                    out.writeLong(word);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write end-of-day checkpoint " + file, e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.skybank.core.application.batch;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Nightly interest and fee run. Accounts are hashed into a fixed number of partitions, which a
+ * fork/join pool processes in parallel. Each account is locked only while its closing balances
+ * are rolled up and its postings are appended, so live traffic on that account waits for at most
+ * one account's worth of work. Balances are rolled back to the business-date cut-over, so
+ * transactions arriving during the run do not affect the accrual.
+ *
+ * <p>Each account's postings go in through {@link Account#postEndOfDay} in one call, together with
+ * the business date they close, so a store persists them and the date as a unit. Restart safety
+ * comes from two levels: a partition is recorded in an {@link EndOfDayCheckpoint} only after the
+ * repository has flushed its postings, and skipped on the next run; and every account remembers
+ * the last business date it was posted for, so a partition interrupted half way is never posted
+ * twice.
+ */
+public class EndOfDayEngine {
+    private static final Logger logger = LoggerFactory.getLogger(EndOfDayEngine.class);
+    private static final long BASIS_POINTS = 10_000;
+
+    private final AccountRepository accountRepository;
+    private final EndOfDayPolicy policy;
+    private final Path checkpointFile;
+    private final ForkJoinPool pool;
+    private volatile boolean stopRequested;
+
+    public EndOfDayEngine(AccountRepository accountRepository, EndOfDayPolicy policy, Path checkpointFile) {
+        this(accountRepository, policy, checkpointFile, ForkJoinPool.commonPool());
+    }
+
+    public EndOfDayEngine(AccountRepository accountRepository, EndOfDayPolicy policy, Path checkpointFile, ForkJoinPool pool) {
+        this.accountRepository = accountRepository;
+        this.policy = policy;
+        this.checkpointFile = checkpointFile;
+        this.pool = pool;
+    }
+
+    public EndOfDayReport run(LocalDate businessDate) {
+        long start = System.nanoTime();
+        stopRequested = false;
+
+        long cutOffMillis = businessDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() - 1;
+        EndOfDayCheckpoint checkpoint = EndOfDayCheckpoint.open(checkpointFile, businessDate, policy.partitionCount());
+        List<List<Account>> partitions = partition(accountRepository, policy.partitionCount());
+
+        Run run = new Run(businessDate.toEpochDay(), cutOffMillis, new Date(cutOffMillis), checkpoint, partitions);
+        Totals totals = pool.invoke(new PartitionTask(run, 0, partitions.size()));
+
+        boolean completed = checkpoint.doneCount() == policy.partitionCount();
+        EndOfDayReport report = new EndOfDayReport(businessDate, completed, pool.getParallelism(),
+                totals.partitionsRun, totals.partitionsSkipped, totals.accounts,
+                totals.interestPostings, totals.feePostings, totals.interestPaidBase, totals.feesChargedBase,
+                System.nanoTime() - start);
+        logger.info("End-of-day {} {}: {} accounts in {} ms on {} threads ({} partitions run, {} skipped)",
+                businessDate, completed ? "completed" : "stopped", report.accountsProcessed(),
+                report.wallClockNanos() / 1_000_000, report.parallelism(),
+                report.partitionsRun(), report.partitionsSkipped());
+        return report;
+    }
+
+    /**
+     * Asks a running batch to stop at the next partition boundary; the checkpoint lets a later
+     * {@link #run} pick up where it left off.
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    static List<List<Account>> partition(AccountRepository accountRepository, int partitionCount) {
+        int expected = accountRepository.count() / partitionCount + 1;
+        List<List<Account>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>(expected));
+        }
+        for (Account account : accountRepository.findAll()) {
+            partitions.get(Math.floorMod(account.getAccountNumber().hashCode(), partitionCount)).add(account);
+        }
+        return partitions;
+    }
+
+    private void processPartition(Run run, int partition, Totals totals) {
+        long[] closing = new long[CurrencyCode.COUNT];
+        List<Transaction> postings = new ArrayList<>(CurrencyCode.COUNT + 1);
+        for (Account account : run.partitions.get(partition)) {
+            synchronized (account) {
+                if (account.getLastEndOfDay() >= run.epochDay) {
+                    continue;
+                }
+                closingBalances(account, run.cutOffMillis, closing);
+
+                postings.clear();
+                long baseInterest = 0;
+                for (CurrencyCode currency : CurrencyCode.values()) {
+                    long interest = dailyInterest(closing[currency.code()]);
+                    if (interest > 0) {
+                        postings.add(new Transaction(run.postingDate, interest, 0, currency));
+                        if (currency == CurrencyCode.BASE) {
+                            baseInterest = interest;
+                        }
+                    }
+                }
+
+                long base = account.getBalance(CurrencyCode.BASE) + baseInterest;
+                long fee = 0;
+                if (policy.maintenanceFee() > 0 && closing[CurrencyCode.BASE.code()] < policy.feeWaiverBalance() && base > 0) {
+                    fee = Math.min(policy.maintenanceFee(), base);
+                    postings.add(new Transaction(run.postingDate, -fee, 0, CurrencyCode.BASE));
+                }
+
+                account.postEndOfDay(List.copyOf(postings), run.epochDay);
+                totals.interestPostings += fee > 0 ? postings.size() - 1 : postings.size();
+                totals.interestPaidBase += baseInterest;
+                if (fee > 0) {
+                    totals.feePostings++;
+                    totals.feesChargedBase += fee;
+                }
+                totals.accounts++;
+            }
+        }
+    }
+
+    private static void closingBalances(Account account, long cutOffMillis, long[] closing) {
+        // Folds pending hot-account credits first, so the balances and the history agree.
+        long[] current = account.getBalances();
+        System.arraycopy(current, 0, closing, 0, closing.length);
+        List<Transaction> transactions = account.getTransactions();
+        if (transactions == null) {
+            return;
+        }
+        for (int i = transactions.size() - 1; i >= 0; i--) {
+            Transaction transaction = transactions.get(i);
+            if (transaction.getDate().getTime() <= cutOffMillis) {
+                break;
+            }
+            closing[transaction.getCurrency().code()] -= transaction.getAmount();
+        }
+    }
+
+    long dailyInterest(long balance) {
+        if (balance <= 0 || policy.interestRateBasisPoints() == 0) {
+            return 0;
+        }
+        long divisor = BASIS_POINTS * policy.dayCountBasis();
+        long high = Math.multiplyHigh(balance, policy.interestRateBasisPoints());
+        long product = balance * policy.interestRateBasisPoints();
+        if (high == 0 && product >= 0) {
+            return roundHalfEven(product / divisor, product % divisor, divisor);
+        }
+        BigInteger[] division = BigInteger.valueOf(balance)
+                .multiply(BigInteger.valueOf(policy.interestRateBasisPoints()))
+                .divideAndRemainder(BigInteger.valueOf(divisor));
+        return roundHalfEven(division[0].longValueExact(), division[1].longValue(), divisor);
+    }
+
+    private static long roundHalfEven(long quotient, long remainder, long divisor) {
+        long twice = remainder * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+            return quotient + 1;
+        }
+        return quotient;
+    }
+
+    private static final class Run {
+        final long epochDay;
+        final long cutOffMillis;
+        final Date postingDate;
+        final EndOfDayCheckpoint checkpoint;
+        final List<List<Account>> partitions;
+
+        Run(long epochDay, long cutOffMillis, Date postingDate, EndOfDayCheckpoint checkpoint, List<List<Account>> partitions) {
+            this.epochDay = epochDay;
+            this.cutOffMillis = cutOffMillis;
+            this.postingDate = postingDate;
+            this.checkpoint = checkpoint;
+            this.partitions = partitions;
+        }
+    }
+
+    private static final class Totals {
+        long accounts;
+        long interestPostings;
+        long feePostings;
+        long interestPaidBase;
+        long feesChargedBase;
+        int partitionsRun;
+        int partitionsSkipped;
+
+        Totals add(Totals other) {
+            accounts += other.accounts;
+            interestPostings += other.interestPostings;
+            feePostings += other.feePostings;
+            interestPaidBase += other.interestPaidBase;
+            feesChargedBase += other.feesChargedBase;
+            partitionsRun += other.partitionsRun;
+            partitionsSkipped += other.partitionsSkipped;
+            return this;
+        }
+    }
+
+    private final class PartitionTask extends RecursiveTask<Totals> {
+        private final Run run;
+        private final int from;
+        private final int to;
+
+        PartitionTask(Run run, int from, int to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                PartitionTask left = new PartitionTask(run, from, middle);
+                left.fork();
+                Totals right = new PartitionTask(run, middle, to).compute();
+                return right.add(left.join());
+            }
+
+            Totals totals = new Totals();
+            if (run.checkpoint.isDone(from)) {
+                totals.partitionsSkipped++;
+            } else if (!stopRequested) {
+                processPartition(run, from, totals);
+                accountRepository.flush();
+                run.checkpoint.markDone(from);
+                totals.partitionsRun++;
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.skybank.core.application.batch;
+
+/**
+ * Parameters of the nightly run. Interest is paid daily on every positive balance at
+ * {@code interestRateBasisPoints / 10000 / dayCountBasis}; the maintenance fee is charged in the
+ * base currency when its balance is below {@code feeWaiverBalance}, never overdrawing the account.
+ */
+public record EndOfDayPolicy(
+        long interestRateBasisPoints,
+        int dayCountBasis,
+        long maintenanceFee,
+        long feeWaiverBalance,
+        int partitionCount
+) {
+    public EndOfDayPolicy {
+        if (interestRateBasisPoints < 0 || dayCountBasis <= 0 || maintenanceFee < 0 || partitionCount <= 0) {
+            throw new IllegalArgumentException("Invalid end-of-day policy");
+        }
+    }
+
+    public static EndOfDayPolicy defaults() {
+        return new EndOfDayPolicy(150, 365, 5, 100_000, 1024);
+    }
+}
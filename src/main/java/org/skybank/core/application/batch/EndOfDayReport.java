@@ -0,0 +1,21 @@
+package org.skybank.core.application.batch;
+
+import java.time.LocalDate;
+
+public record EndOfDayReport(
+        LocalDate businessDate,
+        boolean completed,
+        int parallelism,
+        int partitionsRun,
+        int partitionsSkipped,
+        long accountsProcessed,
+        long interestPostings,
+        long feePostings,
+        long interestPaidBase,
+        long feesChargedBase,
+        long wallClockNanos
+) {
+    public double accountsPerSecond() {
+        return wallClockNanos == 0 ? 0 : accountsProcessed * 1_000_000_000.0 / wallClockNanos;
+    }
+}
@@ -4,6 +4,6 @@ package org.skybank.core.application.dto.response;
 
 public record AccountResponse(
         String accountNumber,
-        int balance,
+        long balance,
         int transactionCount
 ) {}
\ No newline at end of file
@@ -4,5 +4,5 @@ public record CreateAccountResponse(
         boolean success,
         String message,
         String accountNumber,
-        int balance
+        long balance
 ) {}
@@ -0,0 +1,114 @@
+package org.skybank.core.application.hot;
+
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts receiving accounts such as merchant and settlement accounts into hot mode, where deposits
+ * are striped instead of serializing on the account, and folds their pending credits into the
+ * balances and transaction logs in the background.
+ */
+public class HotAccountFolder implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HotAccountFolder.class);
+
+    private final AccountRepository accountRepository;
+    private final HotAccountPolicy policy;
+    private final Set<Account> hotAccounts = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService folder;
+
+    public HotAccountFolder(AccountRepository accountRepository, HotAccountPolicy policy) {
+        this.accountRepository = accountRepository;
+        this.policy = policy;
+    }
+
+    public Account promote(String accountNumber) {
+        Account account = find(accountNumber);
+        account.enableHotMode(policy.stripes(), policy.maxPendingPerStripe());
+        hotAccounts.add(account);
+        logger.info("Account {} is now hot", accountNumber);
+        return account;
+    }
+
+    public void demote(String accountNumber) {
+        Account account = find(accountNumber);
+        hotAccounts.remove(account);
+        account.disableHotMode();
+    }
+
+    public boolean isHot(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).map(Account::isHot).orElse(false);
+    }
+
+    public int hotAccountCount() {
+        return hotAccounts.size();
+    }
+
+    /**
+     * Folds the pending credits of every hot account.
+     *
+     * @return the number of credits folded
+     */
+    public int foldAll() {
+        int folded = 0;
+        for (Account account : hotAccounts) {
+            folded += account.foldCredits();
+        }
+        return folded;
+    }
+
+    /**
+     * Runs {@link #foldAll()} every fold interval on a background thread.
+     */
+    public synchronized void start() {
+        if (folder != null) {
+            return;
+        }
+        folder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-account-folder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        folder.scheduleWithFixedDelay(() -> {
+            try {
+                foldAll();
+            } catch (RuntimeException e) {
+                logger.error("Folding hot account credits failed", e);
+            }
+        }, policy.foldIntervalMillis(), policy.foldIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background fold and folds whatever is still pending.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = folder;
+            folder = null;
+        }
+        if (running != null) {
+            running.shutdown();
+            try {
+                running.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        foldAll();
+    }
+
+    private Account find(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+    }
+}
@@ -0,0 +1,23 @@
+package org.skybank.core.application.hot;
+
+/**
+ * @param stripes              credit stripes per hot account, rounded up to a power of two
+ * @param maxPendingPerStripe  buffered credits after which the depositor that filled a stripe
+ *                             folds the account itself
+ * @param foldIntervalMillis   period of the background fold
+ */
+public record HotAccountPolicy(
+        int stripes,
+        int maxPendingPerStripe,
+        long foldIntervalMillis
+) {
+    public HotAccountPolicy {
+        if (stripes <= 0 || maxPendingPerStripe <= 0 || foldIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid hot account policy");
+        }
+    }
+
+    public static HotAccountPolicy defaults() {
+        return new HotAccountPolicy(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), 4_096, 50);
+    }
+}
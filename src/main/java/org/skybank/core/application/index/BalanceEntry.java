@@ -0,0 +1,10 @@
+package org.skybank.core.application.index;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+public record BalanceEntry(
+        String accountNumber,
+        CurrencyCode currency,
+        long balance
+) {
+}
@@ -0,0 +1,184 @@
+package org.skybank.core.application.index;
+
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Secondary index of account balances, one concurrent skip list per currency ordered by
+ * (balance, account number), kept up to date from account events. Each transaction costs one
+ * insert and one removal, O(log n); top-N and range scans cost O(log n) plus the size of the
+ * result and never walk the accounts.
+ * <p>
+ * Every account opened is indexed in the base currency; other currencies are indexed from their
+ * first transaction. Scans are weakly consistent: an account whose balance changes during a scan
+ * is reported at most once, with either its old or its new balance. Balances set directly rather
+ * than through transactions are only picked up by {@link #index(Account)}.
+ */
+public class BalanceIndex implements AccountEventListener {
+    private static final Comparator<Key> ORDER = Comparator.comparingLong(Key::balance).thenComparing(Key::accountNumber);
+
+    private final List<ConcurrentSkipListSet<Key>> byCurrency = new ArrayList<>(CurrencyCode.COUNT);
+    private final AtomicInteger[] sizes = new AtomicInteger[CurrencyCode.COUNT];
+    private final ConcurrentMap<String, Slots> accounts = new ConcurrentHashMap<>();
+
+    public BalanceIndex() {
+        for (int i = 0; i < CurrencyCode.COUNT; i++) {
+            byCurrency.add(new ConcurrentSkipListSet<>(ORDER));
+            sizes[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public void onAccountOpened(Account account) {
+        update(account.getAccountNumber(), CurrencyCode.BASE, account.getBalance(CurrencyCode.BASE));
+    }
+
+    @Override
+    public void onTransaction(Account account, Transaction transaction) {
+        update(account.getAccountNumber(), transaction.getCurrency(), transaction.getBalance());
+    }
+
+    /**
+     * (Re)indexes the current balances of an account that existed before the index was attached.
+     */
+    public void index(Account account) {
+        synchronized (account) {
+            long[] balances = account.getBalances();
+            for (CurrencyCode currency : CurrencyCode.values()) {
+                if (currency == CurrencyCode.BASE || balances[currency.code()] != 0) {
+                    update(account.getAccountNumber(), currency, balances[currency.code()]);
+                }
+            }
+        }
+    }
+
+    public void indexAll(Collection<Account> accounts) {
+        for (Account account : accounts) {
+            index(account);
+        }
+    }
+
+    public void remove(String accountNumber) {
+        Slots slots = accounts.remove(accountNumber);
+        if (slots == null) {
+            return;
+        }
+        for (CurrencyCode currency : CurrencyCode.values()) {
+            Key key = slots.current.getAndSet(currency.code(), null);
+            if (key != null && set(currency).remove(key)) {
+                sizes[currency.code()].decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The {@code n} largest balances in {@code currency}, largest first.
+     */
+    public List<BalanceEntry> top(CurrencyCode currency, int n) {
+        return collect(currency, set(currency).descendingSet(), n);
+    }
+
+    /**
+     * The {@code n} smallest balances in {@code currency}, smallest first.
+     */
+    public List<BalanceEntry> bottom(CurrencyCode currency, int n) {
+        return collect(currency, set(currency), n);
+    }
+
+    /**
+     * Up to {@code limit} balances in {@code currency} between {@code min} and {@code max}
+     * inclusive, in ascending order.
+     */
+    public List<BalanceEntry> range(CurrencyCode currency, long min, long max, int limit) {
+        if (min > max) {
+            return List.of();
+        }
+        Key from = new Key(min, "", null);
+        NavigableSet<Key> keys = max == Long.MAX_VALUE
+                ? set(currency).tailSet(from, true)
+                : set(currency).subSet(from, true, new Key(max + 1, "", null), false);
+        return collect(currency, keys, limit);
+    }
+
+    /**
+     * Up to {@code limit} balances in {@code currency} strictly below {@code threshold}, in
+     * ascending order.
+     */
+    public List<BalanceEntry> below(CurrencyCode currency, long threshold, int limit) {
+        return collect(currency, set(currency).headSet(new Key(threshold, "", null), false), limit);
+    }
+
+    /**
+     * The indexed balance of an account, if it has one in {@code currency}.
+     */
+    public Long balanceOf(String accountNumber, CurrencyCode currency) {
+        Slots slots = accounts.get(accountNumber);
+        Key key = slots == null ? null : slots.current.get(currency.code());
+        return key == null ? null : key.balance();
+    }
+
+    public int size(CurrencyCode currency) {
+        return sizes[currency.code()].get();
+    }
+
+    // Updates to one account arrive under its monitor, so they never race each other. The new key
+    // is inserted before it becomes current and the old one removed after, so a concurrent scan
+    // always finds one of them.
+    private void update(String accountNumber, CurrencyCode currency, long balance) {
+        Slots slots = accounts.computeIfAbsent(accountNumber, ignored -> new Slots());
+        Key stale = slots.current.get(currency.code());
+        if (stale != null && stale.balance() == balance) {
+            return;
+        }
+        Key fresh = new Key(balance, accountNumber, slots);
+        NavigableSet<Key> keys = set(currency);
+        keys.add(fresh);
+        slots.current.set(currency.code(), fresh);
+        if (stale == null) {
+            sizes[currency.code()].incrementAndGet();
+        } else {
+            keys.remove(stale);
+        }
+    }
+
+    private List<BalanceEntry> collect(CurrencyCode currency, NavigableSet<Key> keys, int limit) {
+        List<BalanceEntry> result = new ArrayList<>(Math.min(Math.max(limit, 0), 1_024));
+        Set<String> seen = new HashSet<>();
+        Iterator<Key> iterator = keys.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            Key key = iterator.next();
+            // Skip keys superseded since the scan started, and anything reported already.
+            if (key.slots().current.get(currency.code()) == key && seen.add(key.accountNumber())) {
+                result.add(new BalanceEntry(key.accountNumber(), currency, key.balance()));
+            }
+        }
+        return result;
+    }
+
+    private ConcurrentSkipListSet<Key> set(CurrencyCode currency) {
+        return byCurrency.get(currency.code());
+    }
+
+    private record Key(long balance, String accountNumber, Slots slots) {
+    }
+
+    private static final class Slots {
+        final AtomicReferenceArray<Key> current = new AtomicReferenceArray<>(CurrencyCode.COUNT);
+    }
+}
@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import org.skybank.core.application.dto.response.*;
+import org.skybank.core.application.projection.AccountView;
 import org.skybank.core.domain.model.Account;
 
 
@@ -16,6 +17,14 @@ public interface AuthMapper {
     @Mapping(target = "transactionCount", expression = "java(account.getTransactions() != null ? account.getTransactions().size() : 0)")
     AccountResponse toAccountResponse(Account account);
 
+    default AccountResponse toAccountResponse(AccountView view) {
+        return new AccountResponse(
+                view.accountNumber(),
+                view.balance(),
+                view.transactionCount()
+        );
+    }
+
 
     @Mapping(target = "success", constant = "true")
     @Mapping(target = "message", constant = "Account created and signed in successfully")
@@ -29,6 +38,14 @@ public interface AuthMapper {
         );
     }
 
+    default SignInResponse toSignInResponse(AccountView view) {
+        return new SignInResponse(
+                true,
+                "Signed in successfully",
+                toAccountResponse(view)
+        );
+    }
+
    default CreateAccountResponse toCreateAccountErrorResponse(String errorMessage) {
         return new CreateAccountResponse(
                 false,
@@ -0,0 +1,141 @@
+package org.skybank.core.application.projection;
+
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.JournalEntryType;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.replication.JournalTailer;
+import org.skybank.core.infrastructure.replication.LocalJournalSource;
+import org.skybank.core.infrastructure.replication.ReplicationLag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Read side of the account model. An updater thread consumes the transaction journal and keeps
+ * one immutable {@link AccountView} per account in a concurrent map, so reads never touch the
+ * mutable {@code Account} objects. Views can be rebuilt from the full journal history at any time.
+ */
+public class AccountProjection implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AccountProjection.class);
+
+    private final TransactionJournal journal;
+    private volatile ConcurrentMap<String, AccountView> views = new ConcurrentHashMap<>();
+    private volatile JournalTailer tailer;
+
+    public AccountProjection(TransactionJournal journal) {
+        this.journal = journal;
+    }
+
+    public synchronized void start() {
+        if (tailer == null) {
+            tailer = newTailer(views);
+            tailer.start(0);
+        }
+    }
+
+    public Optional<AccountView> find(String accountNumber) {
+        return Optional.ofNullable(views.get(accountNumber));
+    }
+
+    /**
+     * Returns the view once it reflects at least {@code minPosition}, waiting up to
+     * {@code maxWaitMillis}; empty if the projection is still behind.
+     */
+    public Optional<AccountView> find(String accountNumber, long minPosition, long maxWaitMillis) {
+        JournalTailer current = tailer;
+        if (current == null || !current.awaitPosition(minPosition, maxWaitMillis)) {
+            return Optional.empty();
+        }
+        return find(accountNumber);
+    }
+
+    /**
+     * Returns the view once it reflects the calling thread's last write. A thread that has not
+     * written to the journal waits for the head as of this call instead, so it never gets a view
+     * older than the write model it could have read directly.
+     */
+    public Optional<AccountView> findOwnWrites(String accountNumber, long maxWaitMillis) {
+        long minPosition = journal.lastPositionWrittenByCurrentThread();
+        if (minPosition == 0) {
+            minPosition = journal.lastPosition();
+        }
+        return find(accountNumber, minPosition, maxWaitMillis);
+    }
+
+    public long projectedPosition() {
+        JournalTailer current = tailer;
+        return current != null ? current.appliedPosition() : 0;
+    }
+
+    public ReplicationLag lag() {
+        JournalTailer current = tailer;
+        long head = journal.lastPosition();
+        if (current == null) {
+            return new ReplicationLag(0, head, head, 0, 0, 0);
+        }
+        return current.lag();
+    }
+
+    public int size() {
+        return views.size();
+    }
+
+    /**
+     * Discards every view and replays the journal from the first entry. Reads keep being served
+     * from the old views until the rebuilt set has caught up with the head seen at call time.
+     */
+    public synchronized boolean rebuild(long timeoutMillis) {
+        long target = journal.lastPosition();
+        ConcurrentMap<String, AccountView> rebuilt = new ConcurrentHashMap<>();
+        JournalTailer rebuilding = newTailer(rebuilt);
+        rebuilding.start(0);
+        if (!rebuilding.awaitPosition(target, timeoutMillis)) {
+            rebuilding.close();
+            logger.warn("Projection rebuild did not reach position {} within {} ms", target, timeoutMillis);
+            return false;
+        }
+
+        JournalTailer previous = tailer;
+        views = rebuilt;
+        tailer = rebuilding;
+        if (previous != null) {
+            previous.close();
+        }
+        logger.info("Projection rebuilt from history up to position {}", rebuilding.appliedPosition());
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (tailer != null) {
+            tailer.close();
+            tailer = null;
+        }
+    }
+
+    private JournalTailer newTailer(ConcurrentMap<String, AccountView> target) {
+        return new JournalTailer("projection", new LocalJournalSource(journal), entry -> apply(target, entry));
+    }
+
+    private static void apply(ConcurrentMap<String, AccountView> target, JournalEntry entry) {
+        if (entry.type() == JournalEntryType.OPEN) {
+            target.putIfAbsent(entry.accountNumber(),
+                    AccountView.opened(entry.accountNumber(), entry.balance(), entry.position()));
+            return;
+        }
+        AccountView current = target.get(entry.accountNumber());
+        if (current == null) {
+            current = AccountView.opened(entry.accountNumber(), 0, entry.position());
+        }
+        if (entry.currency() == CurrencyCode.BASE) {
+            current = current.apply(entry.amount(), entry.balance(), entry.timestampMillis(), entry.position());
+        } else {
+            current = current.apply(0, current.balance(), entry.timestampMillis(), entry.position());
+        }
+        target.put(entry.accountNumber(), current);
+    }
+}
@@ -0,0 +1,70 @@
+package org.skybank.core.application.projection;
+
+import org.skybank.core.application.dto.response.AccountResponse;
+import org.skybank.core.application.mapper.AuthMapper;
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.repository.AccountRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Balance and summary reads served from {@link AccountProjection}. The caller's own writes are
+ * always visible; if the projection cannot catch up within the wait budget the read falls back
+ * to the write model.
+ */
+public class AccountQueryService {
+    private final AccountProjection projection;
+    private final AccountRepository accountRepository;
+    private final long maxWaitMillis;
+    private final AuthMapper authMapper = AuthMapper.INSTANCE;
+
+    public AccountQueryService(AccountProjection projection, AccountRepository accountRepository, long maxWaitMillis) {
+        this.projection = projection;
+        this.accountRepository = accountRepository;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public AccountResponse getAccount(String accountNumber) {
+        return authMapper.toAccountResponse(getSummary(accountNumber));
+    }
+
+    public long getBalance(String accountNumber) {
+        return getSummary(accountNumber).balance();
+    }
+
+    /**
+     * The projected view, or one computed the same way from the write model when the projection
+     * is behind: totals and balance in the base currency, the count over every currency.
+     */
+    public AccountView getSummary(String accountNumber) {
+        Optional<AccountView> view = projection.findOwnWrites(accountNumber, maxWaitMillis);
+        if (view.isPresent()) {
+            return view.get();
+        }
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(account -> {
+                    List<Transaction> history = account.getTransactionSnapshot();
+                    long balance = 0;
+                    long deposited = 0;
+                    long withdrawn = 0;
+                    long last = 0;
+                    for (Transaction transaction : history) {
+                        last = transaction.getDate().getTime();
+                        if (transaction.getCurrency() != CurrencyCode.BASE) {
+                            continue;
+                        }
+                        if (transaction.getAmount() > 0) {
+                            deposited += transaction.getAmount();
+                        } else {
+                            withdrawn -= transaction.getAmount();
+                        }
+                        balance = transaction.getBalance();
+                    }
+                    return new AccountView(account.getAccountNumber(), balance, history.size(), deposited, withdrawn, last, 0);
+                })
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+    }
+}
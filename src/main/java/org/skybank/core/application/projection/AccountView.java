@@ -0,0 +1,31 @@
+package org.skybank.core.application.projection;
+
+/**
+ * Immutable read-side view of an account, replaced wholesale on every projected event. Balance
+ * and totals are in the base currency; the transaction count covers every currency.
+ */
+public record AccountView(
+        String accountNumber,
+        long balance,
+        int transactionCount,
+        long totalDeposited,
+        long totalWithdrawn,
+        long lastTransactionMillis,
+        long position
+) {
+    static AccountView opened(String accountNumber, long balance, long position) {
+        return new AccountView(accountNumber, balance, 0, 0, 0, 0, position);
+    }
+
+    AccountView apply(long amount, long balanceAfter, long timestampMillis, long position) {
+        return new AccountView(
+                accountNumber,
+                balanceAfter,
+                transactionCount + 1,
+                amount > 0 ? totalDeposited + amount : totalDeposited,
+                amount < 0 ? totalWithdrawn - amount : totalWithdrawn,
+                timestampMillis,
+                position
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package org.skybank.core.application.query;
+
+/**
+ * Count, sum, minimum and maximum of the signed amounts of the matching transactions, in minor
+ * units of the queried currency. Minimum and maximum are zero when nothing matched.
+ */
+public record Aggregate(long count, long sum, long min, long max) {
+
+    public static final Aggregate EMPTY = new Aggregate(0, 0, 0, 0);
+
+    public double average() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public Aggregate plus(Aggregate other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new Aggregate(count + other.count, sum + other.sum, Math.min(min, other.min), Math.max(max, other.max));
+    }
+}
@@ -0,0 +1,30 @@
+package org.skybank.core.application.query;
+
+final class AggregateAccumulator {
+    long count;
+    long sum;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+
+    void add(long amount) {
+        count++;
+        sum += amount;
+        if (amount < min) {
+            min = amount;
+        }
+        if (amount > max) {
+            max = amount;
+        }
+    }
+
+    void merge(AggregateAccumulator other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    Aggregate toAggregate() {
+        return count == 0 ? Aggregate.EMPTY : new Aggregate(count, sum, min, max);
+    }
+}
@@ -0,0 +1,53 @@
+package org.skybank.core.application.query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Filter and aggregate loops over one contiguous row range. {@link #best()} returns the SIMD
+ * implementation when it was compiled in (the {@code vector} Maven profile) and the runtime has
+ * {@code jdk.incubator.vector} enabled, and the scalar loops otherwise.
+ */
+interface ColumnKernels {
+
+    void aggregate(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, AggregateAccumulator into);
+
+    /**
+     * Writes the indices of the matching rows to {@code out} starting at {@code position} and
+     * returns the new position; {@code out} must have room for {@code to - from} more rows.
+     */
+    int select(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, int[] out, int position);
+
+    String name();
+
+    static ColumnKernels scalar() {
+        return ScalarColumnKernels.INSTANCE;
+    }
+
+    static ColumnKernels best() {
+        return Holder.BEST;
+    }
+
+    final class Holder {
+        private static final Logger logger = LoggerFactory.getLogger(ColumnKernels.class);
+        private static final ColumnKernels BEST = load();
+
+        private Holder() {
+        }
+
+        private static ColumnKernels load() {
+            if (Boolean.getBoolean("skybank.query.scalar")) {
+                return ScalarColumnKernels.INSTANCE;
+            }
+            try {
+                ColumnKernels kernels = (ColumnKernels) Class.forName(ColumnKernels.class.getPackageName() + ".VectorColumnKernels")
+                        .getDeclaredConstructor().newInstance();
+                logger.info("Transaction queries use {} kernels", kernels.name());
+                return kernels;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.debug("Vector API unavailable, transaction queries use scalar kernels: {}", e.toString());
+                return ScalarColumnKernels.INSTANCE;
+            }
+        }
+    }
+}
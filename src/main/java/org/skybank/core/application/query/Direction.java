@@ -0,0 +1,7 @@
+package org.skybank.core.application.query;
+
+public enum Direction {
+    ANY,
+    DEPOSITS,
+    WITHDRAWALS
+}
@@ -0,0 +1,54 @@
+package org.skybank.core.application.query;
+
+final class ScalarColumnKernels implements ColumnKernels {
+    static final ScalarColumnKernels INSTANCE = new ScalarColumnKernels();
+
+    private ScalarColumnKernels() {
+    }
+
+    @Override
+    public void aggregate(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, AggregateAccumulator into) {
+        long fromMillis = filter.fromMillis();
+        long toMillis = filter.toMillis();
+        long minMagnitude = filter.minMagnitude();
+        long maxMagnitude = filter.maxMagnitude();
+        long signMin = filter.direction() == Direction.DEPOSITS ? 1 : Long.MIN_VALUE;
+        long signMax = filter.direction() == Direction.WITHDRAWALS ? -1 : Long.MAX_VALUE;
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            long amount = amounts[i];
+            long timestamp = timestamps[i];
+            long magnitude = Math.abs(amount);
+            if (timestamp >= fromMillis && timestamp < toMillis
+                    && amount >= signMin && amount <= signMax
+                    && magnitude >= minMagnitude && magnitude <= maxMagnitude) {
+                count++;
+                sum += amount;
+                min = Math.min(min, amount);
+                max = Math.max(max, amount);
+            }
+        }
+        into.count += count;
+        into.sum += sum;
+        into.min = Math.min(into.min, min);
+        into.max = Math.max(into.max, max);
+    }
+
+    @Override
+    public int select(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, int[] out, int position) {
+        for (int i = from; i < to; i++) {
+            if (filter.matches(amounts[i], timestamps[i])) {
+                out[position++] = i;
+            }
+        }
+        return position;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
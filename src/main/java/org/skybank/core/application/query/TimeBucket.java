@@ -0,0 +1,13 @@
+package org.skybank.core.application.query;
+
+import java.time.LocalDate;
+
+public enum TimeBucket {
+    DAY,
+    MONTH;
+
+    LocalDate keyOf(long epochDay) {
+        LocalDate day = LocalDate.ofEpochDay(epochDay);
+        return this == DAY ? day : day.withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,201 @@
+package org.skybank.core.application.query;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Column-oriented, read-only copy of transaction history. Rows are grouped into segments, one
+ * per account and currency, each in the account's own transaction order; amounts, running
+ * balances, timestamps and local calendar days are held in parallel primitive arrays so queries
+ * scan them as tight loops instead of walking {@link Transaction} objects.
+ */
+public final class TransactionColumns {
+    private final String[] segmentAccounts;
+    private final CurrencyCode[] segmentCurrencies;
+    private final int[] segmentStarts;
+    private final long[] amounts;
+    private final long[] balances;
+    private final long[] timestamps;
+    private final int[] days;
+    private final ZoneId zone;
+
+    /**
+     * @param segmentStarts first row of each segment followed by the total row count, so segment
+     *                      {@code s} spans rows {@code segmentStarts[s]} to {@code segmentStarts[s + 1]}
+     */
+    public TransactionColumns(String[] segmentAccounts, CurrencyCode[] segmentCurrencies, int[] segmentStarts,
+                              long[] amounts, long[] balances, long[] timestamps, ZoneId zone) {
+        int segments = segmentAccounts.length;
+        int rows = amounts.length;
+        if (segmentCurrencies.length != segments || segmentStarts.length != segments + 1
+                || segmentStarts[0] != 0 || segmentStarts[segments] != rows
+                || balances.length != rows || timestamps.length != rows) {
+            throw new IllegalArgumentException("Column and segment lengths do not match");
+        }
+        for (int s = 0; s < segments; s++) {
+            if (segmentStarts[s] > segmentStarts[s + 1]) {
+                throw new IllegalArgumentException("Segment " + s + " ends before it starts");
+            }
+        }
+        this.segmentAccounts = segmentAccounts;
+        this.segmentCurrencies = segmentCurrencies;
+        this.segmentStarts = segmentStarts;
+        this.amounts = amounts;
+        this.balances = balances;
+        this.timestamps = timestamps;
+        this.zone = zone;
+        this.days = localDays(timestamps, zone);
+    }
+
+    /**
+     * Copies a snapshot of the history of every account, without taking the account locks.
+     */
+    public static TransactionColumns of(Collection<Account> accounts, ZoneId zone) {
+        // One pass over the collection, which may be a live view that changes under us.
+        List<String> accountNumbers = new ArrayList<>();
+        List<Transaction[]> histories = new ArrayList<>();
+        int rows = 0;
+        int segments = 0;
+        boolean[] seen = new boolean[CurrencyCode.COUNT];
+        for (Account account : accounts) {
+            Transaction[] history = account.getTransactionSnapshot().toArray(new Transaction[0]);
+            accountNumbers.add(account.getAccountNumber());
+            histories.add(history);
+            rows = Math.addExact(rows, history.length);
+            Arrays.fill(seen, false);
+            for (Transaction transaction : history) {
+                if (!seen[transaction.getCurrency().code()]) {
+                    seen[transaction.getCurrency().code()] = true;
+                    segments++;
+                }
+            }
+        }
+
+        String[] segmentAccounts = new String[segments];
+        CurrencyCode[] segmentCurrencies = new CurrencyCode[segments];
+        int[] starts = new int[segments + 1];
+        long[] amounts = new long[rows];
+        long[] balances = new long[rows];
+        long[] timestamps = new long[rows];
+        int row = 0;
+        int segment = 0;
+        for (int a = 0; a < histories.size(); a++) {
+            Transaction[] history = histories.get(a);
+            for (CurrencyCode currency : CurrencyCode.values()) {
+                int segmentStart = row;
+                for (Transaction transaction : history) {
+                    if (transaction.getCurrency() == currency) {
+                        amounts[row] = transaction.getAmount();
+                        balances[row] = transaction.getBalance();
+                        timestamps[row] = transaction.getDate().getTime();
+                        row++;
+                    }
+                }
+                if (row > segmentStart) {
+                    starts[segment] = segmentStart;
+                    segmentAccounts[segment] = accountNumbers.get(a);
+                    segmentCurrencies[segment] = currency;
+                    segment++;
+                }
+            }
+        }
+        starts[segments] = rows;
+        return new TransactionColumns(segmentAccounts, segmentCurrencies, starts, amounts, balances, timestamps, zone);
+    }
+
+    public int rowCount() {
+        return amounts.length;
+    }
+
+    public int segmentCount() {
+        return segmentAccounts.length;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    long[] amounts() {
+        return amounts;
+    }
+
+    long[] timestamps() {
+        return timestamps;
+    }
+
+    int[] days() {
+        return days;
+    }
+
+    /**
+     * Row ranges of the segments selected by the filter's currency and accounts, as
+     * {@code [start0, end0, start1, end1, ...]}; adjacent segments are merged into one range.
+     */
+    int[] rowRanges(TransactionFilter filter) {
+        int[] ranges = new int[16];
+        int count = 0;
+        for (int s = 0; s < segmentAccounts.length; s++) {
+            if (segmentCurrencies[s] != filter.currency()
+                    || (filter.accounts() != null && !filter.accounts().contains(segmentAccounts[s]))
+                    || segmentStarts[s] == segmentStarts[s + 1]) {
+                continue;
+            }
+            if (count > 0 && ranges[count - 1] == segmentStarts[s]) {
+                ranges[count - 1] = segmentStarts[s + 1];
+                continue;
+            }
+            if (count == ranges.length) {
+                ranges = Arrays.copyOf(ranges, count * 2);
+            }
+            ranges[count++] = segmentStarts[s];
+            ranges[count++] = segmentStarts[s + 1];
+        }
+        return Arrays.copyOf(ranges, count);
+    }
+
+    TransactionRow row(int row) {
+        int found = Arrays.binarySearch(segmentStarts, row);
+        int segment = found >= 0 ? found : -found - 2;
+        // Empty segments share their start row with the next one.
+        while (segmentStarts[segment + 1] == row) {
+            segment++;
+        }
+        return new TransactionRow(segmentAccounts[segment], segmentCurrencies[segment],
+                Instant.ofEpochMilli(timestamps[row]), amounts[row], balances[row]);
+    }
+
+    private static int[] localDays(long[] timestamps, ZoneId zone) {
+        int[] days = new int[timestamps.length];
+        if (zone.getRules().isFixedOffset()) {
+            long offsetMillis = zone.getRules().getOffset(Instant.EPOCH).getTotalSeconds() * 1_000L;
+            for (int i = 0; i < timestamps.length; i++) {
+                days[i] = (int) Math.floorDiv(timestamps[i] + offsetMillis, 86_400_000L);
+            }
+            return days;
+        }
+        // Consecutive rows are usually on the same day, so remember the last day's bounds.
+        long dayStart = 0;
+        long dayEnd = 0;
+        int day = 0;
+        for (int i = 0; i < timestamps.length; i++) {
+            long timestamp = timestamps[i];
+            if (timestamp < dayStart || timestamp >= dayEnd) {
+                LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+                day = (int) date.toEpochDay();
+                dayStart = date.atStartOfDay(zone).toInstant().toEpochMilli();
+                dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            days[i] = day;
+        }
+        return days;
+    }
+}
@@ -0,0 +1,84 @@
+package org.skybank.core.application.query;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Which transactions a query looks at. A filter always targets a single currency so that sums
+ * are meaningful; amount bounds apply to the absolute amount, the direction to its sign, and the
+ * time range is half-open. A {@code null} account set means every account.
+ */
+public record TransactionFilter(
+        Set<String> accounts,
+        CurrencyCode currency,
+        Direction direction,
+        long minMagnitude,
+        long maxMagnitude,
+        long fromMillis,
+        long toMillis
+) {
+    public TransactionFilter {
+        if (currency == null || direction == null) {
+            throw new IllegalArgumentException("Currency and direction are required");
+        }
+        if (minMagnitude < 0 || minMagnitude > maxMagnitude) {
+            throw new IllegalArgumentException("Invalid amount range " + minMagnitude + ".." + maxMagnitude);
+        }
+        accounts = accounts == null ? null : Set.copyOf(accounts);
+    }
+
+    public static TransactionFilter all() {
+        return new TransactionFilter(null, CurrencyCode.BASE, Direction.ANY, 0, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public TransactionFilter accounts(Collection<String> accountNumbers) {
+        return new TransactionFilter(Set.copyOf(accountNumbers), currency, direction, minMagnitude, maxMagnitude, fromMillis, toMillis);
+    }
+
+    public TransactionFilter currency(CurrencyCode code) {
+        return new TransactionFilter(accounts, code, direction, minMagnitude, maxMagnitude, fromMillis, toMillis);
+    }
+
+    public TransactionFilter deposits() {
+        return new TransactionFilter(accounts, currency, Direction.DEPOSITS, minMagnitude, maxMagnitude, fromMillis, toMillis);
+    }
+
+    public TransactionFilter withdrawals() {
+        return new TransactionFilter(accounts, currency, Direction.WITHDRAWALS, minMagnitude, maxMagnitude, fromMillis, toMillis);
+    }
+
+    public TransactionFilter amountAtLeast(long magnitude) {
+        return amountBetween(magnitude, maxMagnitude);
+    }
+
+    public TransactionFilter amountBetween(long min, long max) {
+        return new TransactionFilter(accounts, currency, direction, min, max, fromMillis, toMillis);
+    }
+
+    public TransactionFilter between(Instant from, Instant to) {
+        return new TransactionFilter(accounts, currency, direction, minMagnitude, maxMagnitude, from.toEpochMilli(), to.toEpochMilli());
+    }
+
+    /**
+     * Restricts the query to the calendar days {@code from} through {@code to}, both inclusive.
+     */
+    public TransactionFilter between(LocalDate from, LocalDate to, ZoneId zone) {
+        return between(from.atStartOfDay(zone).toInstant(), to.plusDays(1).atStartOfDay(zone).toInstant());
+    }
+
+    public boolean matches(long amount, long timestamp) {
+        if (timestamp < fromMillis || timestamp >= toMillis) {
+            return false;
+        }
+        if (direction == Direction.DEPOSITS ? amount <= 0 : direction == Direction.WITHDRAWALS && amount >= 0) {
+            return false;
+        }
+        long magnitude = Math.abs(amount);
+        return magnitude >= minMagnitude && magnitude <= maxMagnitude;
+    }
+}
@@ -0,0 +1,299 @@
+package org.skybank.core.application.query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs filters, projections and aggregates over {@link TransactionColumns}. The selected rows
+ * are cut into chunks of at most {@value #CHUNK_ROWS} rows that are scanned in parallel on a
+ * fork/join pool, each with the filter kernels chosen at construction, and the per-chunk
+ * partial results are merged in row order.
+ */
+public class TransactionQueryEngine {
+    private static final int CHUNK_ROWS = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final ColumnKernels kernels;
+
+    public TransactionQueryEngine() {
+        this(ForkJoinPool.commonPool(), true);
+    }
+
+    /**
+     * @param vectorized use the Vector API kernels when they are available; {@code false} always
+     *                   runs the scalar loops
+     */
+    public TransactionQueryEngine(ForkJoinPool pool, boolean vectorized) {
+        this.pool = pool;
+        this.kernels = vectorized ? ColumnKernels.best() : ColumnKernels.scalar();
+    }
+
+    public String kernelName() {
+        return kernels.name();
+    }
+
+    public Aggregate aggregate(TransactionColumns columns, TransactionFilter filter) {
+        return run(columns, filter, new Leaf<AggregateAccumulator>() {
+            @Override
+            public AggregateAccumulator create() {
+                return new AggregateAccumulator();
+            }
+
+            @Override
+            public void accept(AggregateAccumulator result, int from, int to, int[] scratch) {
+                kernels.aggregate(columns.amounts(), columns.timestamps(), from, to, filter, result);
+            }
+
+            @Override
+            public AggregateAccumulator combine(AggregateAccumulator left, AggregateAccumulator right) {
+                left.merge(right);
+                return left;
+            }
+        }).toAggregate();
+    }
+
+    public long count(TransactionColumns columns, TransactionFilter filter) {
+        return aggregate(columns, filter).count();
+    }
+
+    /**
+     * Aggregates per local calendar day or month of the columns' zone, keyed by the day or by the
+     * first day of the month, in date order. Buckets without matches are omitted.
+     */
+    public NavigableMap<LocalDate, Aggregate> aggregateBy(TransactionColumns columns, TransactionFilter filter, TimeBucket bucket) {
+        DayAggregates byDay = run(columns, filter, new Leaf<DayAggregates>() {
+            @Override
+            public DayAggregates create() {
+                return new DayAggregates();
+            }
+
+            @Override
+            public void accept(DayAggregates result, int from, int to, int[] scratch) {
+                int matched = kernels.select(columns.amounts(), columns.timestamps(), from, to, filter, scratch, 0);
+                long[] amounts = columns.amounts();
+                int[] days = columns.days();
+                for (int i = 0; i < matched; i++) {
+                    int row = scratch[i];
+                    result.add(days[row], amounts[row]);
+                }
+            }
+
+            @Override
+            public DayAggregates combine(DayAggregates left, DayAggregates right) {
+                left.merge(right);
+                return left;
+            }
+        });
+
+        NavigableMap<LocalDate, Aggregate> result = new TreeMap<>();
+        for (int i = 0; i < byDay.span(); i++) {
+            if (byDay.count[i] > 0) {
+                Aggregate day = new Aggregate(byDay.count[i], byDay.sum[i], byDay.min[i], byDay.max[i]);
+                result.merge(bucket.keyOf(byDay.firstDay + i), day, Aggregate::plus);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} matching transactions in row order, i.e. grouped by account and
+     * in each account's transaction order.
+     */
+    public List<TransactionRow> select(TransactionColumns columns, TransactionFilter filter, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        RowIds ids = run(columns, filter, new Leaf<RowIds>() {
+            @Override
+            public RowIds create() {
+                return new RowIds();
+            }
+
+            @Override
+            public void accept(RowIds result, int from, int to, int[] scratch) {
+                if (result.size >= limit) {
+                    return;
+                }
+                int matched = kernels.select(columns.amounts(), columns.timestamps(), from, to, filter, scratch, 0);
+                result.addAll(scratch, Math.min(matched, limit - result.size));
+            }
+
+            @Override
+            public RowIds combine(RowIds left, RowIds right) {
+                // Rows beyond the first limit of the left side can never be returned.
+                left.addAll(right.rows, Math.min(right.size, Math.max(0, limit - left.size)));
+                return left;
+            }
+        });
+
+        List<TransactionRow> rows = new ArrayList<>(ids.size);
+        for (int i = 0; i < ids.size; i++) {
+            rows.add(columns.row(ids.rows[i]));
+        }
+        return rows;
+    }
+
+    private <R> R run(TransactionColumns columns, TransactionFilter filter, Leaf<R> leaf) {
+        int[] chunks = chunks(columns.rowRanges(filter));
+        if (chunks.length == 0) {
+            return leaf.create();
+        }
+        return pool.invoke(new ChunkTask<>(chunks, 0, chunks.length / 2, leaf));
+    }
+
+    private static int[] chunks(int[] ranges) {
+        int count = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            count += (ranges[i + 1] - ranges[i] + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        }
+        int[] chunks = new int[count * 2];
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int start = ranges[i]; start < ranges[i + 1]; start += CHUNK_ROWS) {
+                chunks[next++] = start;
+                chunks[next++] = Math.min(ranges[i + 1], start + CHUNK_ROWS);
+            }
+        }
+        return chunks;
+    }
+
+    private interface Leaf<R> {
+        R create();
+
+        void accept(R result, int from, int to, int[] scratch);
+
+        R combine(R left, R right);
+    }
+
+    private static final class ChunkTask<R> extends RecursiveTask<R> {
+        private final int[] chunks;
+        private final int lo;
+        private final int hi;
+        private final Leaf<R> leaf;
+
+        ChunkTask(int[] chunks, int lo, int hi, Leaf<R> leaf) {
+            this.chunks = chunks;
+            this.lo = lo;
+            this.hi = hi;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected R compute() {
+            if (rows() > CHUNK_ROWS && hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                ChunkTask<R> left = new ChunkTask<>(chunks, lo, mid, leaf);
+                left.fork();
+                R right = new ChunkTask<>(chunks, mid, hi, leaf).compute();
+                return leaf.combine(left.join(), right);
+            }
+            R result = leaf.create();
+            int[] scratch = new int[Math.min(CHUNK_ROWS, rows())];
+            for (int c = lo; c < hi; c++) {
+                leaf.accept(result, chunks[2 * c], chunks[2 * c + 1], scratch);
+            }
+            return result;
+        }
+
+        private int rows() {
+            return chunks[2 * hi - 1] - chunks[2 * lo];
+        }
+    }
+
+    private static final class RowIds {
+        int[] rows = new int[16];
+        int size;
+
+        void addAll(int[] source, int count) {
+            if (size + count > rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(size + count, rows.length * 2));
+            }
+            System.arraycopy(source, 0, rows, size, count);
+            size += count;
+        }
+    }
+
+    /**
+     * Dense per-day aggregates over the span of days seen so far.
+     */
+    private static final class DayAggregates {
+        long firstDay;
+        long[] count = new long[0];
+        long[] sum = new long[0];
+        long[] min = new long[0];
+        long[] max = new long[0];
+
+        int span() {
+            return count.length;
+        }
+
+        void add(long day, long amount) {
+            int i = cover(day, day);
+            count[i]++;
+            sum[i] += amount;
+            if (count[i] == 1 || amount < min[i]) {
+                min[i] = amount;
+            }
+            if (count[i] == 1 || amount > max[i]) {
+                max[i] = amount;
+            }
+        }
+
+        void merge(DayAggregates other) {
+            if (other.span() == 0) {
+                return;
+            }
+            cover(other.firstDay, other.firstDay + other.span() - 1);
+            for (int j = 0; j < other.span(); j++) {
+                if (other.count[j] == 0) {
+                    continue;
+                }
+                int i = (int) (other.firstDay + j - firstDay);
+                min[i] = count[i] == 0 ? other.min[j] : Math.min(min[i], other.min[j]);
+                max[i] = count[i] == 0 ? other.max[j] : Math.max(max[i], other.max[j]);
+                count[i] += other.count[j];
+                sum[i] += other.sum[j];
+            }
+        }
+
+        /**
+         * Grows the arrays to include {@code fromDay..toDay} and returns the index of {@code fromDay}.
+         */
+        private int cover(long fromDay, long toDay) {
+            if (span() == 0) {
+                firstDay = fromDay;
+                resize(0, (int) (toDay - fromDay + 1));
+            } else if (fromDay < firstDay || toDay >= firstDay + span()) {
+                long newFirst = Math.min(firstDay, fromDay);
+                long newLast = Math.max(firstDay + span() - 1, toDay);
+                // Grow geometrically towards whichever end overflowed.
+                int newSpan = Math.toIntExact(Math.max(newLast - newFirst + 1, (long) span() * 2));
+                if (fromDay < firstDay) {
+                    newFirst = newLast - newSpan + 1;
+                }
+                resize((int) (firstDay - newFirst), newSpan);
+                firstDay = newFirst;
+            }
+            return (int) (fromDay - firstDay);
+        }
+
+        private void resize(int offset, int newSpan) {
+            count = moved(count, offset, newSpan);
+            sum = moved(sum, offset, newSpan);
+            min = moved(min, offset, newSpan);
+            max = moved(max, offset, newSpan);
+        }
+
+        private static long[] moved(long[] source, int offset, int newSpan) {
+            long[] target = new long[newSpan];
+            System.arraycopy(source, 0, target, offset, source.length);
+            return target;
+        }
+    }
+}
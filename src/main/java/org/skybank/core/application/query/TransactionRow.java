@@ -0,0 +1,8 @@
+package org.skybank.core.application.query;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+
+public record TransactionRow(String accountNumber, CurrencyCode currency, Instant timestamp, long amount, long balance) {
+}
@@ -0,0 +1,103 @@
+package org.skybank.core.application.query;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels on the incubating Vector API. Only compiled by the {@code vector} profile, which
+ * also adds {@code --add-modules jdk.incubator.vector}; loaded reflectively by
+ * {@link ColumnKernels#best()}.
+ */
+final class VectorColumnKernels implements ColumnKernels {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    VectorColumnKernels() {
+    }
+
+    @Override
+    public void aggregate(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, AggregateAccumulator into) {
+        long fromMillis = filter.fromMillis();
+        long toMillis = filter.toMillis();
+        long minMagnitude = filter.minMagnitude();
+        long maxMagnitude = filter.maxMagnitude();
+        long signMin = filter.direction() == Direction.DEPOSITS ? 1 : Long.MIN_VALUE;
+        long signMax = filter.direction() == Direction.WITHDRAWALS ? -1 : Long.MAX_VALUE;
+
+        LongVector sums = LongVector.zero(SPECIES);
+        LongVector mins = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        LongVector maxs = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+        long count = 0;
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector amount = LongVector.fromArray(SPECIES, amounts, i);
+            VectorMask<Long> match = matches(amount, LongVector.fromArray(SPECIES, timestamps, i),
+                    fromMillis, toMillis, signMin, signMax, minMagnitude, maxMagnitude);
+            count += match.trueCount();
+            sums = sums.add(amount, match);
+            mins = mins.blend(mins.min(amount), match);
+            maxs = maxs.blend(maxs.max(amount), match);
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        long min = mins.reduceLanes(VectorOperators.MIN);
+        long max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            long amount = amounts[i];
+            if (filter.matches(amount, timestamps[i])) {
+                count++;
+                sum += amount;
+                min = Math.min(min, amount);
+                max = Math.max(max, amount);
+            }
+        }
+        into.count += count;
+        into.sum += sum;
+        into.min = Math.min(into.min, min);
+        into.max = Math.max(into.max, max);
+    }
+
+    @Override
+    public int select(long[] amounts, long[] timestamps, int from, int to, TransactionFilter filter, int[] out, int position) {
+        long fromMillis = filter.fromMillis();
+        long toMillis = filter.toMillis();
+        long minMagnitude = filter.minMagnitude();
+        long maxMagnitude = filter.maxMagnitude();
+        long signMin = filter.direction() == Direction.DEPOSITS ? 1 : Long.MIN_VALUE;
+        long signMax = filter.direction() == Direction.WITHDRAWALS ? -1 : Long.MAX_VALUE;
+
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            long bits = matches(LongVector.fromArray(SPECIES, amounts, i), LongVector.fromArray(SPECIES, timestamps, i),
+                    fromMillis, toMillis, signMin, signMax, minMagnitude, maxMagnitude).toLong();
+            while (bits != 0) {
+                out[position++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < to; i++) {
+            if (filter.matches(amounts[i], timestamps[i])) {
+                out[position++] = i;
+            }
+        }
+        return position;
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    private static VectorMask<Long> matches(LongVector amount, LongVector timestamp, long fromMillis, long toMillis,
+                                            long signMin, long signMax, long minMagnitude, long maxMagnitude) {
+        LongVector magnitude = amount.lanewise(VectorOperators.ABS);
+        return timestamp.compare(VectorOperators.GE, fromMillis)
+                .and(timestamp.compare(VectorOperators.LT, toMillis))
+                .and(amount.compare(VectorOperators.GE, signMin))
+                .and(amount.compare(VectorOperators.LE, signMax))
+                .and(magnitude.compare(VectorOperators.GE, minMagnitude))
+                .and(magnitude.compare(VectorOperators.LE, maxMagnitude));
+    }
+}
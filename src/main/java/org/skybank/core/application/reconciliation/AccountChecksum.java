@@ -0,0 +1,32 @@
+package org.skybank.core.application.reconciliation;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.model.TransactionChain;
+import org.skybank.core.infrastructure.replication.ReplicaAccount;
+
+import java.util.List;
+
+/**
+ * Constant-size summary of one account's history: its length and the head of its hash chain.
+ */
+public record AccountChecksum(
+        String accountNumber,
+        int transactionCount,
+        long chainHash
+) {
+    public static AccountChecksum of(Account account) {
+        synchronized (account) {
+            List<Transaction> transactions = account.getTransactions();
+            return new AccountChecksum(account.getAccountNumber(),
+                    transactions != null ? transactions.size() : 0, account.getChainHash());
+        }
+    }
+
+    public static AccountChecksum of(ReplicaAccount account) {
+        List<Transaction> transactions = account.getTransactions();
+        int count = transactions.size();
+        long chainHash = count == 0 ? TransactionChain.SEED : transactions.get(count - 1).getChainHash();
+        return new AccountChecksum(account.getAccountNumber(), count, chainHash);
+    }
+}
@@ -0,0 +1,15 @@
+package org.skybank.core.application.reconciliation;
+
+/**
+ * First point at which an account's history stops being consistent. {@code entryIndex} is the
+ * zero-based transaction index, or the history length for account-level checks, or -1 when the
+ * account is missing on one side of a comparison or the comparison had no histories to bisect.
+ */
+public record Discrepancy(
+        String accountNumber,
+        DiscrepancyType type,
+        int entryIndex,
+        long expected,
+        long actual
+) {
+}
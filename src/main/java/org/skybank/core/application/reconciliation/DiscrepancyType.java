@@ -0,0 +1,10 @@
+package org.skybank.core.application.reconciliation;
+
+public enum DiscrepancyType {
+    RUNNING_BALANCE,
+    CHAIN_HASH,
+    CLOSING_BALANCE,
+    HEAD_HASH,
+    CHECKSUM_MISMATCH,
+    MISSING_ACCOUNT
+}
@@ -0,0 +1,73 @@
+package org.skybank.core.application.reconciliation;
+
+import org.skybank.core.domain.model.TransactionChain;
+
+import java.util.Arrays;
+
+/**
+ * Order-independent fingerprint of a whole book, split into buckets by account number. Two
+ * books are compared by exchanging only their digests; the accounts of the buckets that differ
+ * are the only ones whose {@link AccountChecksum}s need to be looked at.
+ */
+public final class LedgerDigest {
+    private final long[] bucketHashes;
+    private final int[] bucketCounts;
+
+    private LedgerDigest(int buckets) {
+        this.bucketHashes = new long[buckets];
+        this.bucketCounts = new int[buckets];
+    }
+
+    public static LedgerDigest of(Iterable<AccountChecksum> checksums, int buckets) {
+        LedgerDigest digest = new LedgerDigest(buckets);
+        for (AccountChecksum checksum : checksums) {
+            int bucket = bucketOf(checksum.accountNumber(), buckets);
+            digest.bucketHashes[bucket] += contribution(checksum);
+            digest.bucketCounts[bucket]++;
+        }
+        return digest;
+    }
+
+    public static int bucketOf(String accountNumber, int buckets) {
+        return Math.floorMod(accountNumber.hashCode(), buckets);
+    }
+
+    public int bucketCount() {
+        return bucketHashes.length;
+    }
+
+    public long bookHash() {
+        long hash = TransactionChain.SEED;
+        for (int i = 0; i < bucketHashes.length; i++) {
+            hash = TransactionChain.mix(hash ^ bucketHashes[i] ^ bucketCounts[i]);
+        }
+        return hash;
+    }
+
+    public boolean matches(LedgerDigest other) {
+        return Arrays.equals(bucketHashes, other.bucketHashes) && Arrays.equals(bucketCounts, other.bucketCounts);
+    }
+
+    public int[] differingBuckets(LedgerDigest other) {
+        if (other.bucketHashes.length != bucketHashes.length) {
+            throw new IllegalArgumentException("Digests use different bucket counts");
+        }
+        int[] differing = new int[bucketHashes.length];
+        int count = 0;
+        for (int i = 0; i < bucketHashes.length; i++) {
+            if (bucketHashes[i] != other.bucketHashes[i] || bucketCounts[i] != other.bucketCounts[i]) {
+                differing[count++] = i;
+            }
+        }
+        return Arrays.copyOf(differing, count);
+    }
+
+    private static long contribution(AccountChecksum checksum) {
+        long name = TransactionChain.SEED;
+        String accountNumber = checksum.accountNumber();
+        for (int i = 0; i < accountNumber.length(); i++) {
+            name = TransactionChain.mix(name ^ accountNumber.charAt(i));
+        }
+        return TransactionChain.mix(name ^ TransactionChain.mix(checksum.chainHash() ^ checksum.transactionCount()));
+    }
+}
@@ -0,0 +1,266 @@
+package org.skybank.core.application.reconciliation;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.model.TransactionChain;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Checks that every account's history is internally consistent: each transaction's running
+ * balance follows from the previous one in the same currency, each stored chain link matches
+ * the recomputed one, and the closing balances and chain head match the account itself. The
+ * book is split into ranges verified in parallel on a fork/join pool; each account is locked
+ * only while its own history is walked.
+ */
+public class LedgerReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(LedgerReconciler.class);
+    private static final int LEAF_SIZE = 512;
+
+    private final ForkJoinPool pool;
+
+    public LedgerReconciler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public LedgerReconciler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ReconciliationReport verifyAll(Collection<Account> accounts) {
+        return verify(accounts, 1.0, 0);
+    }
+
+    /**
+     * Verifies a deterministic pseudo-random {@code fraction} of the book; the same seed always
+     * selects the same accounts.
+     */
+    public ReconciliationReport verifySample(Collection<Account> accounts, double fraction, long seed) {
+        if (fraction <= 0 || fraction > 1) {
+            throw new IllegalArgumentException("Sample fraction must be in (0, 1]");
+        }
+        return verify(accounts, fraction, seed);
+    }
+
+    public Optional<Discrepancy> verify(Account account) {
+        return Optional.ofNullable(check(account, new long[1]));
+    }
+
+    /**
+     * Lists the accounts whose histories differ between two books, looking at individual
+     * checksums only inside the digest buckets that disagree. Checksums only identify the
+     * account, so a {@link DiscrepancyType#CHECKSUM_MISMATCH} carries an {@code entryIndex} of -1.
+     */
+    public List<Discrepancy> compare(Collection<AccountChecksum> left, Collection<AccountChecksum> right, int buckets) {
+        return compare(left, right, buckets, null, null);
+    }
+
+    /**
+     * Like {@link #compare(Collection, Collection, int)}, but locates the first divergent entry of
+     * each mismatched account by bisecting the chain hashes of its two histories.
+     */
+    public List<Discrepancy> compare(Collection<AccountChecksum> left, Collection<AccountChecksum> right, int buckets,
+                                     Function<String, List<Transaction>> leftHistory,
+                                     Function<String, List<Transaction>> rightHistory) {
+        LedgerDigest leftDigest = LedgerDigest.of(left, buckets);
+        LedgerDigest rightDigest = LedgerDigest.of(right, buckets);
+        int[] differing = leftDigest.differingBuckets(rightDigest);
+        if (differing.length == 0) {
+            return List.of();
+        }
+
+        Set<Integer> suspect = new HashSet<>();
+        for (int bucket : differing) {
+            suspect.add(bucket);
+        }
+        Map<String, AccountChecksum> leftSuspects = inBuckets(left, suspect, buckets);
+        Map<String, AccountChecksum> rightSuspects = inBuckets(right, suspect, buckets);
+
+        List<Discrepancy> discrepancies = new ArrayList<>();
+        for (AccountChecksum expected : leftSuspects.values()) {
+            AccountChecksum actual = rightSuspects.get(expected.accountNumber());
+            if (actual == null) {
+                discrepancies.add(new Discrepancy(expected.accountNumber(), DiscrepancyType.MISSING_ACCOUNT, -1,
+                        expected.chainHash(), 0));
+            } else if (!actual.equals(expected)) {
+                int entryIndex = leftHistory == null || rightHistory == null ? -1
+                        : firstDivergence(leftHistory.apply(expected.accountNumber()), rightHistory.apply(expected.accountNumber()));
+                discrepancies.add(new Discrepancy(expected.accountNumber(), DiscrepancyType.CHECKSUM_MISMATCH,
+                        entryIndex, expected.chainHash(), actual.chainHash()));
+            }
+        }
+        for (AccountChecksum actual : rightSuspects.values()) {
+            if (!leftSuspects.containsKey(actual.accountNumber())) {
+                discrepancies.add(new Discrepancy(actual.accountNumber(), DiscrepancyType.MISSING_ACCOUNT, -1,
+                        0, actual.chainHash()));
+            }
+        }
+        logger.info("Compared books: {} of {} buckets differ, {} accounts diverge",
+                differing.length, buckets, discrepancies.size());
+        return discrepancies;
+    }
+
+    /**
+     * Index of the first entry at which two histories of the same account differ, or the shorter
+     * length when one is a prefix of the other. Each chain hash covers everything before it, so
+     * the entries agree up to some index and disagree from there on, which allows a bisection.
+     */
+    public static int firstDivergence(List<Transaction> left, List<Transaction> right) {
+        int low = 0;
+        int high = Math.min(left.size(), right.size());
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (left.get(middle).getChainHash() == right.get(middle).getChainHash()) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private ReconciliationReport verify(Collection<Account> accounts, double fraction, long seed) {
+        long start = System.nanoTime();
+        Account[] book = accounts.toArray(new Account[0]);
+        long threshold = fraction >= 1.0 ? Long.MAX_VALUE : (long) (fraction * Long.MAX_VALUE);
+
+        Result result = pool.invoke(new VerifyTask(book, 0, book.length, threshold, seed));
+
+        ReconciliationReport report = new ReconciliationReport(result.accounts, result.transactions,
+                Collections.unmodifiableList(result.discrepancies), System.nanoTime() - start);
+        if (!report.isClean()) {
+            logger.warn("Reconciliation found {} inconsistent accounts out of {}",
+                    report.discrepancies().size(), report.accountsChecked());
+        }
+        return report;
+    }
+
+    private static Discrepancy check(Account account, long[] transactionCounter) {
+        synchronized (account) {
+            String accountNumber = account.getAccountNumber();
+            // Folds any pending hot-account credits, after which nothing can reach the log or the
+            // balances while the lock is held.
+            long[] closing = account.getBalances();
+            List<Transaction> transactions = account.getTransactions();
+            int size = transactions != null ? transactions.size() : 0;
+            long[] running = new long[CurrencyCode.COUNT];
+            long chain = TransactionChain.SEED;
+
+            for (int i = 0; i < size; i++) {
+                Transaction transaction = transactions.get(i);
+                int currency = transaction.getCurrency().code();
+                long expectedBalance = running[currency] + transaction.getAmount();
+                if (transaction.getBalance() != expectedBalance) {
+                    return new Discrepancy(accountNumber, DiscrepancyType.RUNNING_BALANCE, i,
+                            expectedBalance, transaction.getBalance());
+                }
+                running[currency] = expectedBalance;
+
+                chain = TransactionChain.next(chain, transaction);
+                if (transaction.getChainHash() != chain) {
+                    return new Discrepancy(accountNumber, DiscrepancyType.CHAIN_HASH, i,
+                            chain, transaction.getChainHash());
+                }
+            }
+            transactionCounter[0] += size;
+
+            for (CurrencyCode currency : CurrencyCode.values()) {
+                if (closing[currency.code()] != running[currency.code()]) {
+                    return new Discrepancy(accountNumber, DiscrepancyType.CLOSING_BALANCE, size,
+                            running[currency.code()], closing[currency.code()]);
+                }
+            }
+            if (account.getChainHash() != chain) {
+                return new Discrepancy(accountNumber, DiscrepancyType.HEAD_HASH, size, chain, account.getChainHash());
+            }
+            return null;
+        }
+    }
+
+    private static boolean sampled(Account account, long threshold, long seed) {
+        if (threshold == Long.MAX_VALUE) {
+            return true;
+        }
+        long hash = TransactionChain.mix(account.getAccountNumber().hashCode() ^ seed) >>> 1;
+        return hash < threshold;
+    }
+
+    private static Map<String, AccountChecksum> inBuckets(Collection<AccountChecksum> checksums, Set<Integer> buckets, int bucketCount) {
+        Map<String, AccountChecksum> selected = new HashMap<>();
+        for (AccountChecksum checksum : checksums) {
+            if (buckets.contains(LedgerDigest.bucketOf(checksum.accountNumber(), bucketCount))) {
+                selected.put(checksum.accountNumber(), checksum);
+            }
+        }
+        return selected;
+    }
+
+    private static final class Result {
+        long accounts;
+        long transactions;
+        List<Discrepancy> discrepancies = new ArrayList<>();
+
+        Result add(Result other) {
+            accounts += other.accounts;
+            transactions += other.transactions;
+            discrepancies.addAll(other.discrepancies);
+            return this;
+        }
+    }
+
+    private static final class VerifyTask extends RecursiveTask<Result> {
+        private final Account[] book;
+        private final int from;
+        private final int to;
+        private final long threshold;
+        private final long seed;
+
+        VerifyTask(Account[] book, int from, int to, long threshold, long seed) {
+            this.book = book;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.seed = seed;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                VerifyTask left = new VerifyTask(book, from, middle, threshold, seed);
+                left.fork();
+                Result right = new VerifyTask(book, middle, to, threshold, seed).compute();
+                return left.join().add(right);
+            }
+
+            Result result = new Result();
+            long[] transactions = new long[1];
+            for (int i = from; i < to; i++) {
+                if (!sampled(book[i], threshold, seed)) {
+                    continue;
+                }
+                Discrepancy discrepancy = check(book[i], transactions);
+                if (discrepancy != null) {
+                    result.discrepancies.add(discrepancy);
+                }
+                result.accounts++;
+            }
+            result.transactions = transactions[0];
+            return result;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.skybank.core.application.reconciliation;
+
+import java.util.List;
+
+public record ReconciliationReport(
+        long accountsChecked,
+        long transactionsChecked,
+        List<Discrepancy> discrepancies,
+        long wallClockNanos
+) {
+    public boolean isClean() {
+        return discrepancies.isEmpty();
+    }
+}
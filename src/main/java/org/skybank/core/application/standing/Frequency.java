@@ -0,0 +1,35 @@
+package org.skybank.core.application.standing;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+public enum Frequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * The occurrence after {@code occurrenceMillis}, keeping the local time of day. Monthly
+     * orders fall on {@code anchorDay}, or on the last day of shorter months.
+     */
+    long next(long occurrenceMillis, int anchorDay, ZoneId zone) {
+        ZonedDateTime occurrence = Instant.ofEpochMilli(occurrenceMillis).atZone(zone);
+        ZonedDateTime next;
+        switch (this) {
+            case DAILY:
+                next = occurrence.plusDays(1);
+                break;
+            case WEEKLY:
+                next = occurrence.plusWeeks(1);
+                break;
+            case MONTHLY:
+                ZonedDateTime month = occurrence.withDayOfMonth(1).plusMonths(1);
+                next = month.withDayOfMonth(Math.min(anchorDay, month.toLocalDate().lengthOfMonth()));
+                break;
+            default:
+                throw new IllegalStateException("Unknown frequency " + this);
+        }
+        return next.toInstant().toEpochMilli();
+    }
+}
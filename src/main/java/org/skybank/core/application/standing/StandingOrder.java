@@ -0,0 +1,25 @@
+package org.skybank.core.application.standing;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+
+/**
+ * @param sourceAccount  {@code null} for deposits
+ * @param nextOccurrence the occurrence to be posted next; while it is being retried after
+ *                       insufficient funds, {@code attempts} counts the failed tries
+ * @param remaining      occurrences still to post, or {@code -1} for an open-ended order
+ */
+public record StandingOrder(
+        int id,
+        StandingOrderType type,
+        String sourceAccount,
+        String targetAccount,
+        CurrencyCode currency,
+        long amount,
+        Frequency frequency,
+        Instant nextOccurrence,
+        int remaining,
+        int attempts
+) {
+}
@@ -0,0 +1,210 @@
+package org.skybank.core.application.standing;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-per-field storage of standing orders, indexed by order id, at roughly 50 bytes per
+ * order. Account numbers are interned once and referenced by index; ids of removed orders are
+ * reused.
+ */
+final class StandingOrderBook {
+    private static final StandingOrderType[] TYPES = StandingOrderType.values();
+    private static final Frequency[] FREQUENCIES = Frequency.values();
+    private static final CurrencyCode[] CURRENCIES = CurrencyCode.values();
+    private static final byte FREE = 0;
+    static final int NO_ACCOUNT = -1;
+
+    private final Map<String, Integer> accountIds = new HashMap<>();
+    private final List<String> accountNumbers = new ArrayList<>();
+
+    // Type ordinal + 1, so that zero marks a free id.
+    private byte[] types;
+    private int[] sources;
+    private int[] targets;
+    private byte[] currencies;
+    private long[] amounts;
+    private byte[] frequencies;
+    private byte[] anchorDays;
+    private long[] occurrences;
+    private long[] dueAt;
+    private int[] remaining;
+    private int[] attempts;
+
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    StandingOrderBook(int initialCapacity) {
+        types = new byte[initialCapacity];
+        sources = new int[initialCapacity];
+        targets = new int[initialCapacity];
+        currencies = new byte[initialCapacity];
+        amounts = new long[initialCapacity];
+        frequencies = new byte[initialCapacity];
+        anchorDays = new byte[initialCapacity];
+        occurrences = new long[initialCapacity];
+        dueAt = new long[initialCapacity];
+        remaining = new int[initialCapacity];
+        attempts = new int[initialCapacity];
+    }
+
+    int add(StandingOrderType type, String source, String target, CurrencyCode currency, long amount,
+            Frequency frequency, int anchorDay, long occurrence, int count) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : highWater;
+        put(id, type, source, target, currency, amount, frequency, anchorDay, occurrence, occurrence, count, 0);
+        return id;
+    }
+
+    /**
+     * Stores an order under a known id, as when replaying the store; call
+     * {@link #rebuildFreeIds()} once all orders are loaded.
+     */
+    void put(int id, StandingOrderType type, String source, String target, CurrencyCode currency, long amount,
+             Frequency frequency, int anchorDay, long occurrence, long due, int occurrencesLeft, int attemptCount) {
+        ensureCapacity(id + 1);
+        if (types[id] == FREE) {
+            size++;
+        }
+        types[id] = (byte) (type.ordinal() + 1);
+        sources[id] = source == null ? NO_ACCOUNT : intern(source);
+        targets[id] = intern(target);
+        currencies[id] = (byte) currency.code();
+        amounts[id] = amount;
+        frequencies[id] = (byte) frequency.ordinal();
+        anchorDays[id] = (byte) anchorDay;
+        occurrences[id] = occurrence;
+        dueAt[id] = due;
+        remaining[id] = occurrencesLeft;
+        attempts[id] = attemptCount;
+        highWater = Math.max(highWater, id + 1);
+    }
+
+    void remove(int id) {
+        if (!isLive(id)) {
+            return;
+        }
+        types[id] = FREE;
+        size--;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    void rebuildFreeIds() {
+        freeCount = 0;
+        for (int id = highWater - 1; id >= 0; id--) {
+            if (types[id] == FREE) {
+                if (freeCount == freeIds.length) {
+                    freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+                }
+                freeIds[freeCount++] = id;
+            }
+        }
+    }
+
+    void setState(int id, long occurrence, long due, int occurrencesLeft, int attemptCount) {
+        occurrences[id] = occurrence;
+        dueAt[id] = due;
+        remaining[id] = occurrencesLeft;
+        attempts[id] = attemptCount;
+    }
+
+    boolean isLive(int id) {
+        return id >= 0 && id < highWater && types[id] != FREE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int highWater() {
+        return highWater;
+    }
+
+    StandingOrderType type(int id) {
+        return TYPES[types[id] - 1];
+    }
+
+    String source(int id) {
+        return sources[id] == NO_ACCOUNT ? null : accountNumbers.get(sources[id]);
+    }
+
+    String target(int id) {
+        return accountNumbers.get(targets[id]);
+    }
+
+    CurrencyCode currency(int id) {
+        return CURRENCIES[currencies[id]];
+    }
+
+    long amount(int id) {
+        return amounts[id];
+    }
+
+    Frequency frequency(int id) {
+        return FREQUENCIES[frequencies[id]];
+    }
+
+    int anchorDay(int id) {
+        return anchorDays[id];
+    }
+
+    long occurrence(int id) {
+        return occurrences[id];
+    }
+
+    long due(int id) {
+        return dueAt[id];
+    }
+
+    int remaining(int id) {
+        return remaining[id];
+    }
+
+    int attempts(int id) {
+        return attempts[id];
+    }
+
+    StandingOrder view(int id) {
+        return new StandingOrder(id, type(id), source(id), target(id), currency(id), amount(id), frequency(id),
+                Instant.ofEpochMilli(occurrence(id)), remaining(id), attempts(id));
+    }
+
+    private int intern(String accountNumber) {
+        Integer existing = accountIds.get(accountNumber);
+        if (existing != null) {
+            return existing;
+        }
+        int index = accountNumbers.size();
+        accountNumbers.add(accountNumber);
+        accountIds.put(accountNumber, index);
+        return index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int grown = Math.max(capacity, types.length + (types.length >> 1) + 16);
+        types = Arrays.copyOf(types, grown);
+        sources = Arrays.copyOf(sources, grown);
+        targets = Arrays.copyOf(targets, grown);
+        currencies = Arrays.copyOf(currencies, grown);
+        amounts = Arrays.copyOf(amounts, grown);
+        frequencies = Arrays.copyOf(frequencies, grown);
+        anchorDays = Arrays.copyOf(anchorDays, grown);
+        occurrences = Arrays.copyOf(occurrences, grown);
+        dueAt = Arrays.copyOf(dueAt, grown);
+        remaining = Arrays.copyOf(remaining, grown);
+        attempts = Arrays.copyOf(attempts, grown);
+    }
+}
@@ -0,0 +1,30 @@
+package org.skybank.core.application.standing;
+
+import java.time.ZoneId;
+
+/**
+ * @param tickMillis       resolution of the timing wheel and period of the background ticker
+ * @param batchSize        due orders posted per batch; each batch is logged before it is posted
+ * @param maxRetries       retries of an occurrence that failed for insufficient funds before it
+ *                         is skipped
+ * @param retryDelayMillis delay before each retry
+ * @param compactAfter     log records after which the store is rewritten as a snapshot
+ */
+public record StandingOrderPolicy(
+        long tickMillis,
+        int batchSize,
+        int maxRetries,
+        long retryDelayMillis,
+        int compactAfter,
+        ZoneId zone
+) {
+    public StandingOrderPolicy {
+        if (tickMillis <= 0 || batchSize <= 0 || maxRetries < 0 || retryDelayMillis < 0 || compactAfter <= 0 || zone == null) {
+            throw new IllegalArgumentException("Invalid standing order policy");
+        }
+    }
+
+    public static StandingOrderPolicy defaults() {
+        return new StandingOrderPolicy(1_000, 512, 3, 3_600_000, 1_000_000, ZoneId.systemDefault());
+    }
+}
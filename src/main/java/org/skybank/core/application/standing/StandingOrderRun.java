@@ -0,0 +1,13 @@
+package org.skybank.core.application.standing;
+
+/**
+ * Outcome of one pass over the due orders: occurrences posted, occurrences put back for a retry
+ * after insufficient funds, occurrences skipped after the last retry, and orders cancelled
+ * because an account no longer exists.
+ */
+public record StandingOrderRun(int posted, int retried, int skipped, int cancelled) {
+
+    public int total() {
+        return posted + retried + skipped + cancelled;
+    }
+}
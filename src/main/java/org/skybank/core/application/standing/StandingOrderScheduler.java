@@ -0,0 +1,331 @@
+package org.skybank.core.application.standing;
+
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.exception.AdmissionRejectedException;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.exception.InvalidAmountException;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.skybank.core.domain.service.AccountService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posts standing orders when they fall due. Orders live in a compact {@link StandingOrderBook}
+ * and are indexed by due time in a {@link TimingWheel}, so each tick only touches the orders that
+ * are actually due. Due orders are posted in batches through {@link AccountService}, acting as
+ * the debited or credited account, exactly like a signed-in customer.
+ *
+ * <p>With a store directory, every batch is logged and synced as posted before any of its
+ * postings is made, so a crash can skip an occurrence but never post one twice. After a restart
+ * or any other delay, every occurrence missed in the meantime is posted in order on the next
+ * run. An occurrence that fails for insufficient funds, or that admission control or a velocity
+ * limit refuses, is retried after
+ * {@link StandingOrderPolicy#retryDelayMillis()} up to {@link StandingOrderPolicy#maxRetries()}
+ * times and then skipped; an order whose account has been closed is cancelled.
+ */
+public class StandingOrderScheduler implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StandingOrderScheduler.class);
+
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final StandingOrderPolicy policy;
+    private final Clock clock;
+    private final StandingOrderBook book;
+    private final StandingOrderStore store;
+    private final TimingWheel wheel;
+    private int[] due = new int[64];
+    private int dueCount;
+    private ScheduledExecutorService ticker;
+
+    public StandingOrderScheduler(AccountRepository accountRepository, AccountService accountService,
+                                  StandingOrderPolicy policy, Path directory) {
+        this(accountRepository, accountService, policy, directory, Clock.systemUTC());
+    }
+
+    public StandingOrderScheduler(AccountRepository accountRepository, AccountService accountService,
+                                  StandingOrderPolicy policy, Path directory, Clock clock) {
+        this.accountRepository = accountRepository;
+        this.accountService = accountService;
+        this.policy = policy;
+        this.clock = clock;
+        this.book = new StandingOrderBook(1024);
+        this.store = directory == null ? null : StandingOrderStore.open(directory, book);
+        this.wheel = new TimingWheel(Math.floorDiv(clock.millis(), policy.tickMillis()), Math.max(1024, book.highWater()));
+        for (int id = 0; id < book.highWater(); id++) {
+            if (!book.isLive(id)) {
+                continue;
+            }
+            if (book.remaining(id) == 0) {
+                // The last occurrence was logged as posted just before a crash.
+                remove(id);
+            } else {
+                wheel.schedule(id, dueTick(book.due(id)));
+            }
+        }
+    }
+
+    /**
+     * @param occurrences number of postings, or {@code -1} until cancelled
+     * @return the order id
+     */
+    public synchronized int create(StandingOrderType type, String sourceAccount, String targetAccount,
+                                   CurrencyCode currency, long amount, Frequency frequency,
+                                   Instant firstOccurrence, int occurrences) {
+        if (amount <= 0) {
+            throw new InvalidAmountException("Standing order amount must be positive. Attempted amount: " + amount);
+        }
+        if (occurrences == 0 || occurrences < -1) {
+            throw new IllegalArgumentException("Invalid number of occurrences: " + occurrences);
+        }
+        if (type == StandingOrderType.TRANSFER) {
+            if (sourceAccount == null || sourceAccount.equals(targetAccount)) {
+                throw new IllegalArgumentException("A transfer needs a distinct source account");
+            }
+            findAccount(sourceAccount);
+        }
+        findAccount(targetAccount);
+
+        int anchorDay = firstOccurrence.atZone(policy.zone()).getDayOfMonth();
+        int id = book.add(type, type == StandingOrderType.TRANSFER ? sourceAccount : null, targetAccount, currency,
+                amount, frequency, anchorDay, firstOccurrence.toEpochMilli(), occurrences);
+        if (store != null) {
+            store.logCreate(id);
+            store.flush(true);
+        }
+        wheel.schedule(id, dueTick(firstOccurrence.toEpochMilli()));
+        return id;
+    }
+
+    public synchronized boolean cancel(int id) {
+        if (!book.isLive(id)) {
+            return false;
+        }
+        remove(id);
+        if (store != null) {
+            store.flush(true);
+        }
+        return true;
+    }
+
+    public synchronized Optional<StandingOrder> find(int id) {
+        return book.isLive(id) ? Optional.of(book.view(id)) : Optional.empty();
+    }
+
+    public synchronized int size() {
+        return book.size();
+    }
+
+    /**
+     * Posts everything due up to now, including occurrences missed while the scheduler was not
+     * running.
+     */
+    public synchronized StandingOrderRun runDue() {
+        long now = clock.millis();
+        dueCount = 0;
+        wheel.advanceTo(Math.floorDiv(now, policy.tickMillis()), this::addDue);
+
+        int[] counts = new int[4];
+        int[] batch = new int[policy.batchSize()];
+        long[] previous = new long[policy.batchSize() * 3];
+        int taken = 0;
+        while (taken < dueCount) {
+            int size = Math.min(batch.length, dueCount - taken);
+            System.arraycopy(due, taken, batch, 0, size);
+            taken += size;
+            runBatch(batch, size, previous, now, counts);
+        }
+
+        if (store != null && store.logRecords() >= policy.compactAfter()) {
+            store.compact();
+        }
+        StandingOrderRun run = new StandingOrderRun(counts[0], counts[1], counts[2], counts[3]);
+        if (run.total() > 0) {
+            logger.info("Standing orders: {} posted, {} to retry, {} skipped, {} cancelled",
+                    run.posted(), run.retried(), run.skipped(), run.cancelled());
+        }
+        return run;
+    }
+
+    /**
+     * Runs {@link #runDue()} every tick on a background thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "standing-orders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                runDue();
+            } catch (RuntimeException e) {
+                logger.error("Standing order run failed", e);
+            }
+        }, 0, policy.tickMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = ticker;
+            ticker = null;
+        }
+        if (running != null) {
+            running.shutdown();
+            try {
+                running.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (store != null) {
+                store.close();
+            }
+        }
+    }
+
+    private void runBatch(int[] batch, int size, long[] previous, long now, int[] counts) {
+        // Record the whole batch as posted before posting any of it.
+        for (int i = 0; i < size; i++) {
+            int id = batch[i];
+            previous[3 * i] = book.occurrence(id);
+            previous[3 * i + 1] = book.remaining(id);
+            previous[3 * i + 2] = book.attempts(id);
+            int remaining = book.remaining(id) < 0 ? -1 : book.remaining(id) - 1;
+            long next = book.frequency(id).next(book.occurrence(id), book.anchorDay(id), policy.zone());
+            book.setState(id, next, next, remaining, 0);
+            log(id);
+        }
+        if (store != null) {
+            store.flush(true);
+        }
+
+        for (int i = 0; i < size; i++) {
+            int id = batch[i];
+            int outcome = post(id);
+            if (outcome == 1 && (int) previous[3 * i + 2] < policy.maxRetries()) {
+                book.setState(id, previous[3 * i], now + policy.retryDelayMillis(),
+                        (int) previous[3 * i + 1], (int) previous[3 * i + 2] + 1);
+                log(id);
+                wheel.schedule(id, dueTick(book.due(id)));
+                counts[1]++;
+                continue;
+            }
+            counts[outcome == 1 ? 2 : outcome]++;
+            if (outcome == 3 || book.remaining(id) == 0) {
+                remove(id);
+            } else if (book.due(id) <= now) {
+                // Still behind after downtime: post the next missed occurrence in this run too.
+                addDue(id);
+            } else {
+                wheel.schedule(id, dueTick(book.due(id)));
+            }
+        }
+        if (store != null) {
+            store.flush(false);
+        }
+    }
+
+    /**
+     * Returns 0 when posted, 1 to retry, 2 to skip the occurrence and 3 to cancel the order.
+     */
+    private int post(int id) {
+        Account previousAccount = AccountContext.getCurrentAccount();
+        try {
+            Account target = findAccount(book.target(id));
+            if (book.type(id) == StandingOrderType.TRANSFER) {
+                Account source = findAccount(book.source(id));
+                AccountContext.setCurrentAccount(source);
+                accountService.withdraw(book.amount(id), book.currency(id));
+                try {
+                    AccountContext.setCurrentAccount(target);
+                    accountService.deposit(book.amount(id), book.currency(id));
+                } catch (RuntimeException e) {
+                    refund(id, source, e);
+                    throw e;
+                }
+            } else {
+                AccountContext.setCurrentAccount(target);
+                accountService.deposit(book.amount(id), book.currency(id));
+            }
+            return 0;
+        } catch (InsufficientFundsException | AdmissionRejectedException | VelocityLimitExceededException e) {
+            return 1;
+        } catch (AccountNotFoundException e) {
+            logger.warn("Cancelling standing order {}: {}", id, e.getMessage());
+            return 3;
+        } catch (RuntimeException e) {
+            logger.warn("Skipping occurrence of standing order {}: {}", id, e.getMessage());
+            return 2;
+        } finally {
+            AccountContext.setCurrentAccount(previousAccount);
+        }
+    }
+
+    /**
+     * Puts the debit of a transfer whose credit failed back on the source account. It is posted
+     * on the account itself rather than through the service, which could refuse it just as it
+     * refused the credit; a refund that still fails is logged and kept on {@code cause}.
+     */
+    private void refund(int id, Account source, RuntimeException cause) {
+        try {
+            source.deposit(book.amount(id), book.currency(id), new Date(clock.millis()));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            logger.error("Standing order {} debited {} {} from {} but could not refund it",
+                    id, book.amount(id), book.currency(id), source.getAccountNumber(), e);
+        }
+    }
+
+    private void remove(int id) {
+        wheel.cancel(id);
+        book.remove(id);
+        if (store != null) {
+            store.logRemove(id);
+        }
+    }
+
+    private void log(int id) {
+        if (store != null) {
+            store.logState(id);
+        }
+    }
+
+    private void addDue(int id) {
+        if (dueCount == due.length) {
+            due = Arrays.copyOf(due, dueCount * 2);
+        }
+        due[dueCount++] = id;
+    }
+
+    private Account findAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+    }
+
+    /**
+     * First tick that starts at or after {@code millis}, so nothing is posted early.
+     */
+    private long dueTick(long millis) {
+        return -Math.floorDiv(-millis, policy.tickMillis());
+    }
+}
@@ -0,0 +1,215 @@
+package org.skybank.core.application.standing;
+
+import org.skybank.core.domain.money.CurrencyCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Durable copy of a {@link StandingOrderBook}: a snapshot of every order plus an append-only log
+ * of creations, state changes and cancellations since the snapshot. Opening replays both (a torn
+ * last log record is ignored) and immediately compacts them into a fresh snapshot, written
+ * through a temporary file and an atomic rename, and an empty log.
+ */
+final class StandingOrderStore implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StandingOrderStore.class);
+    private static final int MAGIC = 0x534B534F;
+    private static final byte CREATE = 1;
+    private static final byte STATE = 2;
+    private static final byte REMOVE = 3;
+
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final StandingOrderBook book;
+    private FileOutputStream logStream;
+    private DataOutputStream log;
+    private int logRecords;
+
+    private StandingOrderStore(Path directory, StandingOrderBook book) {
+        this.snapshotFile = directory.resolve("standing-orders.snapshot");
+        this.logFile = directory.resolve("standing-orders.log");
+        this.book = book;
+    }
+
+    static StandingOrderStore open(Path directory, StandingOrderBook book) {
+        StandingOrderStore store = new StandingOrderStore(directory, book);
+        try {
+            Files.createDirectories(directory);
+            int replayed = store.replay(store.snapshotFile, true) + store.replay(store.logFile, false);
+            book.rebuildFreeIds();
+            logger.info("Loaded {} standing orders from {} records", book.size(), replayed);
+            store.compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open standing order store " + directory, e);
+        }
+        return store;
+    }
+
+    int logRecords() {
+        return logRecords;
+    }
+
+    void logCreate(int id) {
+        try {
+            writeCreate(log, id);
+            logRecords++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log standing order " + id, e);
+        }
+    }
+
+    void logState(int id) {
+        try {
+            log.writeByte(STATE);
+            log.writeInt(id);
+            log.writeLong(book.occurrence(id));
+            log.writeLong(book.due(id));
+            log.writeInt(book.remaining(id));
+            log.writeInt(book.attempts(id));
+            logRecords++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log standing order " + id, e);
+        }
+    }
+
+    void logRemove(int id) {
+        try {
+            log.writeByte(REMOVE);
+            log.writeInt(id);
+            logRecords++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log standing order " + id, e);
+        }
+    }
+
+    /**
+     * Flushes logged records to the operating system and, when {@code sync} is set, to disk.
+     */
+    void flush(boolean sync) {
+        try {
+            log.flush();
+            if (sync) {
+                logStream.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush standing order log " + logFile, e);
+        }
+    }
+
+    void compact() {
+        Path temp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try {
+            if (log != null) {
+                log.close();
+            }
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(MAGIC);
+                for (int id = 0; id < book.highWater(); id++) {
+                    if (book.isLive(id)) {
+                        writeCreate(out, id);
+                    }
+                }
+                out.flush();
+                file.getChannel().force(false);
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logStream = new FileOutputStream(logFile.toFile(), false);
+            log = new DataOutputStream(new BufferedOutputStream(logStream, 1 << 16));
+            logRecords = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact standing order store " + snapshotFile, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close standing order log {}: {}", logFile, e.getMessage());
+        }
+    }
+
+    private void writeCreate(DataOutputStream out, int id) throws IOException {
+        String source = book.source(id);
+        out.writeByte(CREATE);
+        out.writeInt(id);
+        out.writeByte(book.type(id).ordinal());
+        out.writeUTF(source == null ? "" : source);
+        out.writeUTF(book.target(id));
+        out.writeByte(book.currency(id).code());
+        out.writeLong(book.amount(id));
+        out.writeByte(book.frequency(id).ordinal());
+        out.writeByte(book.anchorDay(id));
+        out.writeLong(book.occurrence(id));
+        out.writeLong(book.due(id));
+        out.writeInt(book.remaining(id));
+        out.writeInt(book.attempts(id));
+    }
+
+    private int replay(Path file, boolean snapshot) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (snapshot && in.readInt() != MAGIC) {
+                throw new IOException("Not a standing order snapshot: " + file);
+            }
+            while (true) {
+                int kind = in.read();
+                if (kind < 0) {
+                    break;
+                }
+                int id = in.readInt();
+                switch (kind) {
+                    case CREATE:
+                        StandingOrderType type = StandingOrderType.values()[in.readByte()];
+                        String source = in.readUTF();
+                        String target = in.readUTF();
+                        CurrencyCode currency = CurrencyCode.values()[in.readByte()];
+                        long amount = in.readLong();
+                        Frequency frequency = Frequency.values()[in.readByte()];
+                        int anchorDay = in.readByte();
+                        long occurrence = in.readLong();
+                        long due = in.readLong();
+                        int remaining = in.readInt();
+                        int attempts = in.readInt();
+                        book.put(id, type, source.isEmpty() ? null : source, target, currency, amount,
+                                frequency, anchorDay, occurrence, due, remaining, attempts);
+                        break;
+                    case STATE:
+                        long stateOccurrence = in.readLong();
+                        long stateDue = in.readLong();
+                        int stateRemaining = in.readInt();
+                        int stateAttempts = in.readInt();
+                        if (book.isLive(id)) {
+                            book.setState(id, stateOccurrence, stateDue, stateRemaining, stateAttempts);
+                        }
+                        break;
+                    case REMOVE:
+                        book.remove(id);
+                        break;
+                    default:
+                        throw new IOException("Corrupt standing order record type " + kind + " in " + file);
+                }
+                records++;
+            }
+        } catch (EOFException e) {
+            logger.warn("Ignoring torn last record in {}", file);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,12 @@
+package org.skybank.core.application.standing;
+
+public enum StandingOrderType {
+    /**
+     * Credits the target account from outside the bank, e.g. a salary.
+     */
+    DEPOSIT,
+    /**
+     * Debits the source account and credits the target account.
+     */
+    TRANSFER
+}
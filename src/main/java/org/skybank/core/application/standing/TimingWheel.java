@@ -0,0 +1,198 @@
+package org.skybank.core.application.standing;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchical timing wheel over integer ids, in the layout of the classic Linux kernel timer
+ * wheel: 256 one-tick slots followed by four levels of 64 slots, each slot of a level spanning
+ * a full turn of the level below, which covers 2^32 ticks. An entry sits in the slot of the
+ * coarsest level it fits and is re-filed one level down whenever the level below completes a
+ * turn, so advancing one tick costs O(1) plus an amortised share of those cascades regardless
+ * of how many entries are scheduled. Entries are doubly linked through parallel arrays indexed
+ * by id; no objects are allocated per entry.
+ */
+public final class TimingWheel {
+    private static final int ROOT_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+    private static final long MAX_DELTA = 0xFFFF_FFFFL;
+    private static final int NIL = -1;
+
+    private final int[] heads = new int[ROOT_SIZE + LEVELS * LEVEL_SIZE];
+    private long[] due;
+    private int[] next;
+    private int[] prev;
+    private int[] slotOf;
+    private long nextTick;
+    private int size;
+    private int rootSize;
+
+    public TimingWheel(long startTick) {
+        this(startTick, 1024);
+    }
+
+    public TimingWheel(long startTick, int initialCapacity) {
+        Arrays.fill(heads, NIL);
+        this.nextTick = startTick;
+        this.due = new long[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.slotOf = new int[initialCapacity];
+        Arrays.fill(slotOf, NIL);
+    }
+
+    /**
+     * Schedules {@code id} to expire at {@code tick}; a tick that has already passed expires on
+     * the next advance. Rescheduling an id that is already scheduled moves it.
+     */
+    public void schedule(int id, long tick) {
+        ensureCapacity(id + 1);
+        if (slotOf[id] != NIL) {
+            unlink(id);
+        } else {
+            size++;
+        }
+        due[id] = tick;
+        link(id);
+    }
+
+    public boolean cancel(int id) {
+        if (id >= slotOf.length || slotOf[id] == NIL) {
+            return false;
+        }
+        unlink(id);
+        size--;
+        return true;
+    }
+
+    public boolean isScheduled(int id) {
+        return id < slotOf.length && slotOf[id] != NIL;
+    }
+
+    /**
+     * Processes every tick up to and including {@code tick}, handing each expired id to
+     * {@code expired} in tick order. Stretches with nothing in the one-tick slots are skipped
+     * up to the next cascade, and an empty wheel jumps straight to the target tick.
+     */
+    public void advanceTo(long tick, IntConsumer expired) {
+        while (nextTick <= tick) {
+            if (size == 0) {
+                nextTick = tick + 1;
+                return;
+            }
+            int index = (int) (nextTick & ROOT_MASK);
+            if (rootSize == 0 && index != 0) {
+                nextTick = Math.min(tick + 1, (nextTick | ROOT_MASK) + 1);
+                continue;
+            }
+            if (index == 0) {
+                int level = 0;
+                while (level < LEVELS && cascade(level) == 0) {
+                    level++;
+                }
+            }
+            nextTick++;
+            int id = heads[index];
+            heads[index] = NIL;
+            while (id != NIL) {
+                int following = next[id];
+                slotOf[id] = NIL;
+                size--;
+                rootSize--;
+                expired.accept(id);
+                id = following;
+            }
+        }
+    }
+
+    public long nextTick() {
+        return nextTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Re-files the current slot of {@code level} one level down and returns that slot's index.
+     */
+    private int cascade(int level) {
+        int index = (int) ((nextTick >>> (ROOT_BITS + level * LEVEL_BITS)) & LEVEL_MASK);
+        int slot = ROOT_SIZE + level * LEVEL_SIZE + index;
+        int id = heads[slot];
+        heads[slot] = NIL;
+        while (id != NIL) {
+            int following = next[id];
+            link(id);
+            id = following;
+        }
+        return index;
+    }
+
+    private void link(int id) {
+        long expires = due[id];
+        long delta = expires - nextTick;
+        int slot;
+        if (delta < 0) {
+            slot = (int) (nextTick & ROOT_MASK);
+        } else if (delta < ROOT_SIZE) {
+            slot = (int) (expires & ROOT_MASK);
+        } else {
+            if (delta > MAX_DELTA) {
+                expires = nextTick + MAX_DELTA;
+            }
+            int level = 0;
+            while ((delta >>> (ROOT_BITS + (level + 1) * LEVEL_BITS)) != 0 && level < LEVELS - 1) {
+                level++;
+            }
+            slot = ROOT_SIZE + level * LEVEL_SIZE
+                    + (int) ((expires >>> (ROOT_BITS + level * LEVEL_BITS)) & LEVEL_MASK);
+        }
+        int head = heads[slot];
+        next[id] = head;
+        prev[id] = NIL;
+        if (head != NIL) {
+            prev[head] = id;
+        }
+        heads[slot] = id;
+        slotOf[id] = slot;
+        if (slot < ROOT_SIZE) {
+            rootSize++;
+        }
+    }
+
+    private void unlink(int id) {
+        int before = prev[id];
+        int after = next[id];
+        if (before == NIL) {
+            heads[slotOf[id]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NIL) {
+            prev[after] = before;
+        }
+        if (slotOf[id] < ROOT_SIZE) {
+            rootSize--;
+        }
+        slotOf[id] = NIL;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= slotOf.length) {
+            return;
+        }
+        int grown = Math.max(capacity, slotOf.length + (slotOf.length >> 1));
+        due = Arrays.copyOf(due, grown);
+        next = Arrays.copyOf(next, grown);
+        prev = Arrays.copyOf(prev, grown);
+        int old = slotOf.length;
+        slotOf = Arrays.copyOf(slotOf, grown);
+        Arrays.fill(slotOf, old, grown, NIL);
+    }
+}
@@ -0,0 +1,42 @@
+package org.skybank.core.application.velocity;
+
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.FxRateTable;
+
+import java.util.List;
+
+/**
+ * Records end-of-day fees in the {@link VelocityLimits} as they are posted. Fees do not go
+ * through the account service and are never refused, but the journal cannot tell them from
+ * withdrawals, so {@link VelocityLimits#restore} counts them; recording them live keeps the
+ * windows the same before and after a restart.
+ */
+public class EndOfDayVelocityRecorder implements AccountEventListener {
+    private final VelocityLimits limits;
+    private final FxRateTable fxRates;
+
+    public EndOfDayVelocityRecorder(VelocityLimits limits, FxRateTable fxRates) {
+        this.limits = limits;
+        this.fxRates = fxRates;
+    }
+
+    @Override
+    public void onAccountOpened(Account account) {
+    }
+
+    @Override
+    public void onTransaction(Account account, Transaction transaction) {
+    }
+
+    @Override
+    public void onEndOfDay(Account account, List<Transaction> postings, long epochDay) {
+        for (Transaction posting : postings) {
+            if (posting.getAmount() < 0 && fxRates.supports(posting.getCurrency(), fxRates.getBase())) {
+                limits.record(account.getAccountNumber(), fxRates.toBase(-posting.getAmount(), posting.getCurrency()),
+                        posting.getDate().getTime());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.skybank.core.application.velocity;
+
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.infrastructure.audit.AuditEventType;
+import org.skybank.core.infrastructure.audit.AuditLog;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Checks every withdrawal, and the sold side of every exchange, against the
+ * {@link VelocityLimits} before it reaches the delegate, valuing it in the base currency. A debit
+ * that the delegate then refuses is taken back out of the windows, so only completed debits count
+ * towards the limits.
+ */
+public class VelocityCheckedAccountService implements AccountService {
+    private final AccountService delegate;
+    private final VelocityLimits limits;
+    private final FxRateTable fxRates;
+    private final AuditLog auditLog;
+
+    public VelocityCheckedAccountService(AccountService delegate, VelocityLimits limits) {
+        this(delegate, limits, FxRateTable.defaults(), AuditLog.NOOP);
+    }
+
+    public VelocityCheckedAccountService(AccountService delegate, VelocityLimits limits, FxRateTable fxRates, AuditLog auditLog) {
+        this.delegate = delegate;
+        this.limits = limits;
+        this.fxRates = fxRates;
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public void deposit(long amount, CurrencyCode currency) {
+        delegate.deposit(amount, currency);
+    }
+
+    @Override
+    public void withdraw(long amount, CurrencyCode currency) {
+        debit(amount, currency, () -> {
+            delegate.withdraw(amount, currency);
+            return 0;
+        });
+    }
+
+    @Override
+    public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
+        return debit(amount, from, () -> delegate.exchange(amount, from, to));
+    }
+
+    @Override
+    public void printStatement() {
+        delegate.printStatement();
+    }
+
+    private long debit(long amount, CurrencyCode currency, LongSupplier operation) {
+        Account currentAccount = AccountContext.getCurrentAccount();
+        if (currentAccount == null || amount <= 0 || !fxRates.supports(currency, fxRates.getBase())) {
+            return operation.getAsLong();
+        }
+        String accountNumber = currentAccount.getAccountNumber();
+        long baseAmount = fxRates.toBase(amount, currency);
+        long now = System.currentTimeMillis();
+        try {
+            limits.checkAndRecord(accountNumber, baseAmount, now);
+        } catch (VelocityLimitExceededException e) {
+            auditLog.record(AuditEventType.WITHDRAWAL_BLOCKED, accountNumber, currency, amount, currentAccount.getBalance(currency));
+            throw e;
+        }
+        try {
+            return operation.getAsLong();
+        } catch (RuntimeException e) {
+            limits.release(accountNumber, baseAmount, now);
+            throw e;
+        }
+    }
+}
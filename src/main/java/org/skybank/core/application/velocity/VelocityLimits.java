@@ -0,0 +1,252 @@
+package org.skybank.core.application.velocity;
+
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.JournalEntryType;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bucketed sliding-window withdrawal counters for every account and rule. Each account gets a
+ * fixed-size slot in primitive arrays allocated in chunks of {@value #CHUNK_SIZE} accounts: a
+ * ring of amount and count buckets per rule plus the running window totals, so a check is O(1)
+ * amortised (buckets that slid out are subtracted lazily) and memory per account does not grow
+ * with its activity. Accounts in the same lock stripe of a chunk are checked under one monitor.
+ */
+public class VelocityLimits {
+    private static final Logger logger = LoggerFactory.getLogger(VelocityLimits.class);
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int LOCK_STRIPES = 64;
+
+    private final VelocityRule[] rules;
+    private final long[] bucketMillis;
+    private final int[] bucketCounts;
+    private final int[] bucketOffsets;
+    private final int bucketStride;
+    private final long longestWindowMillis;
+    private final ConcurrentHashMap<String, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final Object growLock = new Object();
+    private volatile Chunk[] chunks = new Chunk[16];
+
+    public VelocityLimits(VelocityPolicy policy) {
+        List<VelocityRule> list = policy.rules();
+        this.rules = list.toArray(new VelocityRule[0]);
+        this.bucketMillis = new long[rules.length];
+        this.bucketCounts = new int[rules.length];
+        this.bucketOffsets = new int[rules.length];
+        int offset = 0;
+        for (int r = 0; r < rules.length; r++) {
+            bucketMillis[r] = rules[r].bucketMillis();
+            bucketCounts[r] = rules[r].buckets();
+            bucketOffsets[r] = offset;
+            offset += rules[r].buckets();
+        }
+        this.bucketStride = offset;
+        this.longestWindowMillis = policy.longestWindowMillis();
+    }
+
+    /**
+     * Records a withdrawal of {@code amount} if it keeps the account within every rule, and
+     * throws {@link VelocityLimitExceededException} naming the first rule it would break
+     * otherwise, recording nothing.
+     */
+    public void checkAndRecord(String accountNumber, long amount, long nowMillis) {
+        int slot = slotOf(accountNumber);
+        Chunk chunk = chunk(slot);
+        int local = slot & CHUNK_MASK;
+        synchronized (chunk.locks[local & (LOCK_STRIPES - 1)]) {
+            for (int r = 0; r < rules.length; r++) {
+                int window = local * rules.length + r;
+                advance(chunk, local, r, window, nowMillis / bucketMillis[r]);
+                if (chunk.windowCount[window] + 1 > rules[r].maxCount()
+                        || chunk.windowAmount[window] + amount > rules[r].maxAmount()) {
+                    throw new VelocityLimitExceededException(rules[r].name(), "Withdrawal limit " + rules[r].name()
+                            + " exceeded: " + chunk.windowCount[window] + " withdrawals totalling "
+                            + chunk.windowAmount[window] + " already in the window (limits " + rules[r].maxCount()
+                            + " and " + rules[r].maxAmount() + ")");
+                }
+            }
+            for (int r = 0; r < rules.length; r++) {
+                add(chunk, local, r, nowMillis / bucketMillis[r], amount, 1);
+            }
+        }
+    }
+
+    /**
+     * Takes back a withdrawal recorded at {@code recordedAtMillis} that did not go through, as
+     * long as it is still inside the window.
+     */
+    public void release(String accountNumber, long amount, long recordedAtMillis) {
+        int slot = slotOf(accountNumber);
+        Chunk chunk = chunk(slot);
+        int local = slot & CHUNK_MASK;
+        synchronized (chunk.locks[local & (LOCK_STRIPES - 1)]) {
+            for (int r = 0; r < rules.length; r++) {
+                add(chunk, local, r, recordedAtMillis / bucketMillis[r], -amount, -1);
+            }
+        }
+    }
+
+    /**
+     * Records a withdrawal without checking it, e.g. when restoring from the journal; withdrawals
+     * may be recorded in any order.
+     */
+    public void record(String accountNumber, long amount, long timestampMillis) {
+        int slot = slotOf(accountNumber);
+        Chunk chunk = chunk(slot);
+        int local = slot & CHUNK_MASK;
+        synchronized (chunk.locks[local & (LOCK_STRIPES - 1)]) {
+            for (int r = 0; r < rules.length; r++) {
+                add(chunk, local, r, timestampMillis / bucketMillis[r], amount, 1);
+            }
+        }
+    }
+
+    /**
+     * What the account has withdrawn in the current window of the {@code rule}-th rule.
+     */
+    public VelocityUsage usage(String accountNumber, int rule, long nowMillis) {
+        Integer slot = slots.get(accountNumber);
+        if (slot == null) {
+            return new VelocityUsage(rules[rule].name(), 0, 0);
+        }
+        Chunk chunk = chunk(slot);
+        int local = slot & CHUNK_MASK;
+        synchronized (chunk.locks[local & (LOCK_STRIPES - 1)]) {
+            int window = local * rules.length + rule;
+            advance(chunk, local, rule, window, nowMillis / bucketMillis[rule]);
+            return new VelocityUsage(rules[rule].name(), chunk.windowAmount[window], chunk.windowCount[window]);
+        }
+    }
+
+    /**
+     * Rebuilds the windows from the debits in the journal, scanning back from the newest entry
+     * until entries are older than the longest window. Every journaled debit counts, the same
+     * set the live path records: withdrawals, standing-order debits and the sold side of
+     * exchanges through {@link VelocityCheckedAccountService}, and end-of-day fees through
+     * {@link EndOfDayVelocityRecorder}.
+     *
+     * @return the number of withdrawals restored
+     */
+    public int restore(TransactionJournal journal, FxRateTable fxRates, long nowMillis) {
+        long horizon = nowMillis - longestWindowMillis;
+        int restored = 0;
+        for (long position = journal.lastPosition(); position >= 1; position--) {
+            JournalEntry entry = journal.entry(position);
+            if (entry.recordedAtMicros() / 1_000 < horizon) {
+                break;
+            }
+            if (entry.type() == JournalEntryType.WITHDRAWAL && entry.timestampMillis() >= horizon
+                    && entry.timestampMillis() <= nowMillis) {
+                record(entry.accountNumber(), fxRates.toBase(-entry.amount(), entry.currency()), entry.timestampMillis());
+                restored++;
+            }
+        }
+        logger.info("Restored {} withdrawals into velocity windows", restored);
+        return restored;
+    }
+
+    public int accountCount() {
+        return slots.size();
+    }
+
+    private void add(Chunk chunk, int local, int rule, long epoch, long amount, int count) {
+        int window = local * rules.length + rule;
+        advance(chunk, local, rule, window, epoch);
+        long last = chunk.lastEpoch[window];
+        if (epoch <= last - bucketCounts[rule]) {
+            return;
+        }
+        int bucket = local * bucketStride + bucketOffsets[rule] + (int) (epoch % bucketCounts[rule]);
+        chunk.bucketAmount[bucket] += amount;
+        chunk.bucketCount[bucket] += count;
+        chunk.windowAmount[window] += amount;
+        chunk.windowCount[window] += count;
+    }
+
+    /**
+     * Slides the window of one rule forward to {@code epoch}, dropping the buckets that left it.
+     */
+    private void advance(Chunk chunk, int local, int rule, int window, long epoch) {
+        long last = chunk.lastEpoch[window];
+        if (epoch <= last) {
+            return;
+        }
+        int buckets = bucketCounts[rule];
+        int base = local * bucketStride + bucketOffsets[rule];
+        int steps = (int) Math.min(epoch - last, buckets);
+        int index = (int) ((epoch - steps + 1) % buckets);
+        long amount = chunk.windowAmount[window];
+        int count = chunk.windowCount[window];
+        for (int i = 0; i < steps; i++) {
+            int bucket = base + index;
+            amount -= chunk.bucketAmount[bucket];
+            count -= chunk.bucketCount[bucket];
+            chunk.bucketAmount[bucket] = 0;
+            chunk.bucketCount[bucket] = 0;
+            if (++index == buckets) {
+                index = 0;
+            }
+        }
+        chunk.windowAmount[window] = amount;
+        chunk.windowCount[window] = count;
+        chunk.lastEpoch[window] = epoch;
+    }
+
+    private int slotOf(String accountNumber) {
+        Integer slot = slots.get(accountNumber);
+        if (slot == null) {
+            slot = slots.computeIfAbsent(accountNumber, ignored -> nextSlot.getAndIncrement());
+        }
+        return slot;
+    }
+
+    private Chunk chunk(int slot) {
+        int index = slot >>> CHUNK_SHIFT;
+        Chunk[] current = chunks;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        synchronized (growLock) {
+            current = chunks;
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+            }
+            if (current[index] == null) {
+                current[index] = new Chunk(rules.length, bucketStride);
+            }
+            chunks = current;
+            return current[index];
+        }
+    }
+
+    private static final class Chunk {
+        final long[] bucketAmount;
+        final int[] bucketCount;
+        final long[] windowAmount;
+        final int[] windowCount;
+        final long[] lastEpoch;
+        final Object[] locks = new Object[LOCK_STRIPES];
+
+        Chunk(int rules, int bucketStride) {
+            bucketAmount = new long[CHUNK_SIZE * bucketStride];
+            bucketCount = new int[CHUNK_SIZE * bucketStride];
+            windowAmount = new long[CHUNK_SIZE * rules];
+            windowCount = new int[CHUNK_SIZE * rules];
+            lastEpoch = new long[CHUNK_SIZE * rules];
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                locks[i] = new Object();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.skybank.core.application.velocity;
+
+import java.util.List;
+
+public record VelocityPolicy(List<VelocityRule> rules) {
+
+    public VelocityPolicy {
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("A velocity policy needs at least one rule");
+        }
+        rules = List.copyOf(rules);
+    }
+
+    public static VelocityPolicy defaults() {
+        return new VelocityPolicy(List.of(
+                new VelocityRule("per-minute", 60_000, 12, 500_000, 10),
+                new VelocityRule("per-hour", 3_600_000, 12, 2_000_000, 30),
+                new VelocityRule("per-day", 86_400_000, 24, 5_000_000, 100)
+        ));
+    }
+
+    public long longestWindowMillis() {
+        return rules.stream().mapToLong(VelocityRule::windowMillis).max().orElse(0);
+    }
+}
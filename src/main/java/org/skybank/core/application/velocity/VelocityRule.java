@@ -0,0 +1,20 @@
+package org.skybank.core.application.velocity;
+
+/**
+ * Limits the withdrawals of one account within a sliding window of {@code windowMillis}, kept as
+ * {@code buckets} equal sub-windows. The window slides a bucket at a time, so it covers between
+ * {@code (buckets - 1) / buckets} of the window and the whole of it. Amounts are in base
+ * currency minor units.
+ */
+public record VelocityRule(String name, long windowMillis, int buckets, long maxAmount, int maxCount) {
+
+    public VelocityRule {
+        if (windowMillis <= 0 || buckets <= 0 || windowMillis % buckets != 0 || maxAmount <= 0 || maxCount <= 0) {
+            throw new IllegalArgumentException("Invalid velocity rule " + name);
+        }
+    }
+
+    public long bucketMillis() {
+        return windowMillis / buckets;
+    }
+}
@@ -0,0 +1,4 @@
+package org.skybank.core.application.velocity;
+
+public record VelocityUsage(String rule, long amount, int count) {
+}
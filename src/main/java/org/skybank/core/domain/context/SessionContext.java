@@ -0,0 +1,18 @@
+package org.skybank.core.domain.context;
+
+public class SessionContext {
+    private static final ThreadLocal<String> currentSession = new ThreadLocal<>();
+
+    public static void setCurrentSession(String sessionId) {
+        currentSession.set(sessionId);
+    }
+
+    public static String getCurrentSession() {
+        String sessionId = currentSession.get();
+        return sessionId != null ? sessionId : "thread-" + Thread.currentThread().getId();
+    }
+
+    public static void clear() {
+        currentSession.remove();
+    }
+}
@@ -0,0 +1,31 @@
+package org.skybank.core.domain.event;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+
+import java.util.List;
+
+public interface AccountEventListener {
+    void onAccountOpened(Account account);
+
+    /**
+     * Called before the account changes its balances or its log. Throwing refuses the change and
+     * leaves the account untouched, so a listener that can no longer record changes should refuse
+     * here rather than fail in {@link #onTransaction} after the change was made.
+     */
+    default void beforeChange(Account account) {
+    }
+
+    void onTransaction(Account account, Transaction transaction);
+
+    /**
+     * End-of-day postings for {@code epochDay}, applied to the account together; the account's
+     * last end-of-day is already {@code epochDay}, even when {@code postings} is empty. By default
+     * each posting is handled as a separate transaction.
+     */
+    default void onEndOfDay(Account account, List<Transaction> postings, long epochDay) {
+        for (Transaction posting : postings) {
+            onTransaction(account, posting);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.skybank.core.domain.event;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class CompositeAccountEventListener implements AccountEventListener {
+    private final List<AccountEventListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CompositeAccountEventListener(AccountEventListener... listeners) {
+        this.listeners.addAll(List.of(listeners));
+    }
+
+    public void add(AccountEventListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onAccountOpened(Account account) {
+        for (AccountEventListener listener : listeners) {
+            listener.onAccountOpened(account);
+        }
+    }
+
+    @Override
+    public void beforeChange(Account account) {
+        for (AccountEventListener listener : listeners) {
+            listener.beforeChange(account);
+        }
+    }
+
+    @Override
+    public void onTransaction(Account account, Transaction transaction) {
+        for (AccountEventListener listener : listeners) {
+            listener.onTransaction(account, transaction);
+        }
+    }
+
+    @Override
+    public void onEndOfDay(Account account, List<Transaction> postings, long epochDay) {
+        for (AccountEventListener listener : listeners) {
+            listener.onEndOfDay(account, postings, epochDay);
+        }
+    }
+}
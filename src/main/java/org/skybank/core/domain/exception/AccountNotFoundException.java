@@ -0,0 +1,7 @@
+package org.skybank.core.domain.exception;
+
+public class AccountNotFoundException extends RuntimeException {
+    public AccountNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package org.skybank.core.domain.exception;
+
+public class AdmissionRejectedException extends RuntimeException {
+    private final String reason;
+
+    public AdmissionRejectedException(String reason) {
+        // Rejections are expected under load, so skip the stack trace to keep them cheap.
+        super("Request rejected: " + reason, null, false, false);
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,15 @@
+package org.skybank.core.domain.exception;
+
+public class VelocityLimitExceededException extends RuntimeException {
+    private final String rule;
+
+    public VelocityLimitExceededException(String rule, String message) {
+        // Expected whenever a limit is hit, so skip the stack trace like admission rejections.
+        super(message, null, false, false);
+        this.rule = rule;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+}
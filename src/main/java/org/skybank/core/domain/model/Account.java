@@ -2,8 +2,12 @@ package org.skybank.core.domain.model;
 
 
 import lombok.*;
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
 
 
+import java.lang.invoke.VarHandle;
 import java.util.Date;
 import java.util.List;
 
@@ -11,31 +15,330 @@ import java.util.List;
 @Getter
 @Setter
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 public class Account {
     private  String accountNumber;
-    private int balance;
-    private  List<Transaction> transactions;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final long[] balances = new long[CurrencyCode.COUNT];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile TransactionLog transactions = new TransactionLog();
+    @ToString.Exclude
+    private AccountEventListener eventListener;
+    private long lastEndOfDay;
+    private long chainHash = TransactionChain.SEED;
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile StripedCredits hotCredits;
+    // Odd while a fold is moving pending credits into the balances.
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile long foldSequence;
 
-    public void deposit(int amount, Date date) {
+    public Account(String accountNumber, long balance, List<Transaction> transactions) {
+        this(accountNumber, balance, transactions, null);
+    }
+
+    public Account(String accountNumber, long balance, List<Transaction> transactions, AccountEventListener eventListener) {
+        this.accountNumber = accountNumber;
+        this.balances[CurrencyCode.BASE.code()] = balance;
+        this.transactions = TransactionLog.of(transactions);
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * The live history; reads see every transaction appended so far. Use
+     * {@link #getTransactionSnapshot()} for a view that stays fixed while it is read.
+     */
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * The history as of this call, immutable and taken without the account lock, so reading it
+     * neither blocks nor is blocked by concurrent deposits and withdrawals.
+     */
+    public List<Transaction> getTransactionSnapshot() {
+        return transactions.snapshot();
+    }
+
+    public synchronized void setTransactions(List<Transaction> transactions) {
+        this.transactions = TransactionLog.of(transactions);
+    }
+
+    public long getBalance() {
+        return getBalance(CurrencyCode.BASE);
+    }
+
+    /**
+     * The balance in {@code currency}. For a hot account this includes credits that are still
+     * pending; it takes no account lock, but locks each credit stripe in turn to sum them.
+     */
+    public long getBalance(CurrencyCode currency) {
+        StripedCredits credits = hotCredits;
+        if (credits == null) {
+            return balances[currency.code()];
+        }
+        while (true) {
+            long sequence = foldSequence;
+            if ((sequence & 1) == 0) {
+                long balance = balances[currency.code()] + credits.pending(currency);
+                // Keeps the plain balance read from drifting past the re-check of the sequence.
+                VarHandle.loadLoadFence();
+                if (foldSequence == sequence) {
+                    return balance;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public synchronized long[] getBalances() {
+        foldPendingCredits();
+        return balances.clone();
+    }
+
+    public void setBalance(long balance) {
+        setBalance(CurrencyCode.BASE, balance);
+    }
+
+    public synchronized void setBalance(CurrencyCode currency, long balance) {
+        foldPendingCredits();
+        balances[currency.code()] = balance;
+    }
+
+    /**
+     * Switches the account to hot mode: deposits are buffered in {@code stripes} independently
+     * locked stripes instead of serializing on the account, and reach the balance and the
+     * transaction log when they are folded. Withdrawals, exchanges and anything else done under
+     * the account lock fold first, so they always see the exact balance. A stripe that reaches
+     * {@code maxPending} credits is folded by the depositor that filled it.
+     *
+     * <p>Pending credits exist only in memory: listeners (journal, audit, store) are told about
+     * a credit when it is folded, not when {@link #deposit} returns. A crash loses the credits
+     * accepted since the last fold, at most {@code maxPending} per stripe, so an account should
+     * only be made hot where that window is acceptable and folded often.
+     */
+    public synchronized void enableHotMode(int stripes, int maxPending) {
+        if (hotCredits == null) {
+            hotCredits = new StripedCredits(stripes, maxPending);
+        }
+    }
+
+    /**
+     * Folds the pending credits and goes back to posting each deposit directly.
+     */
+    public synchronized void disableHotMode() {
+        StripedCredits credits = hotCredits;
+        if (credits != null) {
+            credits.close();
+            fold(credits);
+            hotCredits = null;
+        }
+    }
+
+    public boolean isHot() {
+        return hotCredits != null;
+    }
+
+    /**
+     * Stripes of a hot account, or 0 when the account is not hot.
+     */
+    public int getHotStripes() {
+        StripedCredits credits = hotCredits;
+        return credits == null ? 0 : credits.stripeCount();
+    }
+
+    public int getHotMaxPending() {
+        StripedCredits credits = hotCredits;
+        return credits == null ? 0 : credits.maxPending();
+    }
+
+    /**
+     * Moves the pending credits of a hot account into its balances and transaction log, ordered
+     * by date.
+     *
+     * @return the number of credits folded
+     */
+    public synchronized int foldCredits() {
+        StripedCredits credits = hotCredits;
+        if (credits == null) {
+            return 0;
+        }
+        checkWritable();
+        return fold(credits);
+    }
+
+    public void deposit(long amount, Date date) {
+        deposit(amount, CurrencyCode.BASE, date);
+    }
+
+    public void deposit(long amount, CurrencyCode currency, Date date) {
         if (amount <= 0) {
             throw new IllegalArgumentException("Deposit amount must be positive");
         }
-        balance += amount;
-        transactions.add(new Transaction(date, amount, balance));
+        checkWritable();
+        StripedCredits credits = hotCredits;
+        if (credits != null) {
+            int pending = credits.offer(amount, currency, date);
+            if (pending >= credits.maxPending()) {
+                foldCredits();
+            }
+            if (pending >= 0) {
+                return;
+            }
+        }
+        post(amount, currency, date);
+    }
+
+    private synchronized void post(long amount, CurrencyCode currency, Date date) {
+        foldPendingCredits();
+        long updated = credited(currency, amount);
+        balances[currency.code()] = updated;
+        append(new Transaction(date, amount, updated, currency));
     }
 
-    public void withdraw(int amount, Date date) {
+    public void withdraw(long amount, Date date) {
+        withdraw(amount, CurrencyCode.BASE, date);
+    }
+
+    public synchronized void withdraw(long amount, CurrencyCode currency, Date date) {
         if (amount <= 0) {
             throw new IllegalArgumentException("Withdrawal amount must be positive");
         }
-        if (amount > balance) {
+        checkWritable();
+        foldPendingCredits();
+        if (amount > balances[currency.code()]) {
             throw new IllegalArgumentException("Insufficient funds");
         }
-        balance -= amount;
-        transactions.add(new Transaction(date, -amount, balance));
+        long updated = balances[currency.code()] - amount;
+        balances[currency.code()] = updated;
+        append(new Transaction(date, -amount, updated, currency));
     }
 
+    /**
+     * Moves {@code amount} minor units of {@code from} into {@code to} at the table's rate,
+     * recorded as a withdrawal and a deposit. Returns the credited amount.
+     */
+    public synchronized long exchange(long amount, CurrencyCode from, CurrencyCode to, FxRateTable rates, Date date) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Exchange amount must be positive");
+        }
+        if (from == to) {
+            throw new IllegalArgumentException("Cannot exchange " + from + " into itself");
+        }
+        checkWritable();
+        foldPendingCredits();
+        if (amount > balances[from.code()]) {
+            throw new IllegalArgumentException("Insufficient funds");
+        }
+        long converted = rates.convert(amount, from, to);
+        if (converted <= 0) {
+            throw new IllegalArgumentException("Exchange amount is too small to convert");
+        }
+        long toBalance = credited(to, converted);
+        long fromBalance = balances[from.code()] - amount;
+
+        balances[from.code()] = fromBalance;
+        append(new Transaction(date, -amount, fromBalance, from));
+        balances[to.code()] = toBalance;
+        append(new Transaction(date, converted, toBalance, to));
+        return converted;
+    }
 
-}
\ No newline at end of file
+    /**
+     * Applies the end-of-day {@code postings} for {@code epochDay} as one unit and marks the
+     * account as closed for that day. Either every posting is applied or, if one would overdraw
+     * or overflow a balance, none is. Listeners get the postings in a single
+     * {@link AccountEventListener#onEndOfDay} call.
+     */
+    public synchronized void postEndOfDay(List<Transaction> postings, long epochDay) {
+        checkWritable();
+        foldPendingCredits();
+        long[] updated = balances.clone();
+        for (Transaction posting : postings) {
+            int code = posting.getCurrency().code();
+            long amount = posting.getAmount();
+            if (amount > 0 && updated[code] > Long.MAX_VALUE - amount) {
+                throw new IllegalArgumentException("Posting would overflow the " + posting.getCurrency() + " balance");
+            }
+            if (amount < 0 && updated[code] < -amount) {
+                throw new IllegalArgumentException("Insufficient funds");
+            }
+            updated[code] += amount;
+            posting.setBalance(updated[code]);
+        }
+        System.arraycopy(updated, 0, balances, 0, balances.length);
+        for (Transaction posting : postings) {
+            chain(posting);
+        }
+        lastEndOfDay = epochDay;
+        if (eventListener != null) {
+            eventListener.onEndOfDay(this, postings, epochDay);
+        }
+    }
+
+    private long credited(CurrencyCode currency, long amount) {
+        long current = balances[currency.code()];
+        if (current > Long.MAX_VALUE - amount) {
+            throw new IllegalArgumentException("Deposit would overflow the " + currency + " balance");
+        }
+        return current + amount;
+    }
+
+    private void foldPendingCredits() {
+        StripedCredits credits = hotCredits;
+        if (credits != null) {
+            fold(credits);
+        }
+    }
+
+    private int fold(StripedCredits credits) {
+        List<Transaction> folded;
+        foldSequence++;
+        // Keeps the balance writes below from becoming visible before the odd sequence.
+        VarHandle.storeStoreFence();
+        try {
+            folded = credits.drain();
+            long[] updated = balances.clone();
+            for (Transaction credit : folded) {
+                int code = credit.getCurrency().code();
+                if (updated[code] > Long.MAX_VALUE - credit.getAmount()) {
+                    credits.restore(folded);
+                    throw new IllegalArgumentException("Pending deposits would overflow the " + credit.getCurrency() + " balance");
+                }
+                updated[code] += credit.getAmount();
+                credit.setBalance(updated[code]);
+            }
+            System.arraycopy(updated, 0, balances, 0, balances.length);
+        } finally {
+            foldSequence++;
+        }
+        for (Transaction credit : folded) {
+            append(credit);
+        }
+        return folded.size();
+    }
+
+    private void checkWritable() {
+        if (eventListener != null) {
+            eventListener.beforeChange(this);
+        }
+    }
+
+    private void append(Transaction transaction) {
+        chain(transaction);
+        if (eventListener != null) {
+            eventListener.onTransaction(this, transaction);
+        }
+    }
+
+    private void chain(Transaction transaction) {
+        chainHash = TransactionChain.next(chainHash, transaction);
+        transaction.setChainHash(chainHash);
+        transactions.add(transaction);
+    }
+}
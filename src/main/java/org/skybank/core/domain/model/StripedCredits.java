@@ -0,0 +1,132 @@
+package org.skybank.core.domain.model;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Credits to a hot account that have not been folded into it yet, spread over independently
+ * locked stripes so that concurrent depositors rarely meet. A thread always uses the same stripe,
+ * which keeps each stripe's buffer in arrival order for that thread.
+ */
+final class StripedCredits {
+    private static final Comparator<Transaction> BY_DATE = Comparator.comparingLong(t -> t.getDate().getTime());
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxPending;
+
+    StripedCredits(int stripes, int maxPending) {
+        if (stripes <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("Stripes and pending credits per stripe must be positive");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Buffers a credit in the calling thread's stripe. Only the stripe's own total is checked
+     * for overflow; the balance it will be added to is checked when the credits are folded.
+     *
+     * @return the number of credits now pending in that stripe, or -1 once the credits are closed
+     */
+    int offer(long amount, CurrencyCode currency, Date date) {
+        Stripe stripe = stripes[stripeIndex()];
+        synchronized (stripe) {
+            if (stripe.closed) {
+                return -1;
+            }
+            long pending = stripe.amounts[currency.code()];
+            if (amount > Long.MAX_VALUE - pending) {
+                throw new IllegalArgumentException("Deposit would overflow the " + currency + " balance");
+            }
+            stripe.amounts[currency.code()] = pending + amount;
+            stripe.credits.add(new Transaction(date, amount, 0, currency));
+            return stripe.credits.size();
+        }
+    }
+
+    long pending(CurrencyCode currency) {
+        long sum = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.amounts[currency.code()];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Takes every pending credit, ordered by date; credits with the same date keep their stripe
+     * order.
+     */
+    List<Transaction> drain() {
+        List<Transaction> drained = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.credits.isEmpty()) {
+                    continue;
+                }
+                drained.addAll(stripe.credits);
+                stripe.credits.clear();
+                Arrays.fill(stripe.amounts, 0);
+            }
+        }
+        drained.sort(BY_DATE);
+        return drained;
+    }
+
+    /**
+     * Puts drained credits back, for a fold that could not apply them. They go into the first
+     * stripe, even when it is closed, and are sorted by date again on the next drain.
+     */
+    void restore(List<Transaction> credits) {
+        Stripe stripe = stripes[0];
+        synchronized (stripe) {
+            for (Transaction credit : credits) {
+                stripe.amounts[credit.getCurrency().code()] += credit.getAmount();
+                stripe.credits.add(credit);
+            }
+        }
+    }
+
+    /**
+     * Makes every later {@link #offer} fail, so that credits arriving after the final drain go
+     * straight to the account.
+     */
+    void close() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.closed = true;
+            }
+        }
+    }
+
+    int maxPending() {
+        return maxPending;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    private static final class Stripe {
+        final long[] amounts = new long[CurrencyCode.COUNT];
+        final List<Transaction> credits = new ArrayList<>();
+        boolean closed;
+    }
+}
@@ -2,6 +2,7 @@ package org.skybank.core.domain.model;
 
 
 import lombok.*;
+import org.skybank.core.domain.money.CurrencyCode;
 
 import java.util.Date;
 
@@ -13,7 +14,16 @@ import java.util.Date;
 @NoArgsConstructor
 public class Transaction {
     private  Date date;
-    private  int amount;
-    private  int balance;
+    private  long amount;
+    private  long balance;
+    private  CurrencyCode currency = CurrencyCode.BASE;
+    private  long chainHash;
 
-}
\ No newline at end of file
+    public Transaction(Date date, long amount, long balance) {
+        this(date, amount, balance, CurrencyCode.BASE);
+    }
+
+    public Transaction(Date date, long amount, long balance, CurrencyCode currency) {
+        this(date, amount, balance, currency, 0);
+    }
+}
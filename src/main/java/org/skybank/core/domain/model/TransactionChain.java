@@ -0,0 +1,31 @@
+package org.skybank.core.domain.model;
+
+/**
+ * Rolling 64-bit hash over an account's transaction history. Each link folds the date,
+ * currency, amount and running balance of one transaction into the previous value, so two
+ * histories with the same head value are, with overwhelming probability, identical. This guards
+ * against corruption and divergence, not against a deliberate forger.
+ */
+public final class TransactionChain {
+    public static final long SEED = 0x5EEDBA4C0FFEE00DL;
+
+    private TransactionChain() {
+    }
+
+    public static long next(long previous, Transaction transaction) {
+        return next(previous, transaction.getDate().getTime(), transaction.getCurrency().code(),
+                transaction.getAmount(), transaction.getBalance());
+    }
+
+    public static long next(long previous, long dateMillis, int currencyCode, long amount, long balance) {
+        long h = mix(previous ^ dateMillis);
+        h = mix(h ^ amount ^ ((long) currencyCode << 58));
+        return mix(h ^ balance);
+    }
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,139 @@
+package org.skybank.core.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only transaction history stored in fixed-size chunks that are never copied or changed
+ * once written. The appender fills the next slot and then publishes the new size with a volatile
+ * write, so a reader that takes a {@link #snapshot()} sees an immutable prefix of the history
+ * without taking any lock, however long it keeps it and whatever is appended meanwhile.
+ * <p>
+ * Appends must come from one thread at a time; {@link Account} appends under its own monitor.
+ * Only {@link #add(Transaction)} is supported as a mutation.
+ */
+public final class TransactionLog extends AbstractList<Transaction> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 7;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Transaction[][] chunks = new Transaction[4][];
+    private volatile int size;
+
+    public TransactionLog() {
+    }
+
+    public TransactionLog(Collection<? extends Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            add(transaction);
+        }
+    }
+
+    /**
+     * Returns {@code transactions} itself when it already is a log, otherwise a log holding a copy
+     * of it; {@code null} gives an empty log.
+     */
+    public static TransactionLog of(List<Transaction> transactions) {
+        if (transactions instanceof TransactionLog) {
+            return (TransactionLog) transactions;
+        }
+        return transactions == null ? new TransactionLog() : new TransactionLog(transactions);
+    }
+
+    @Override
+    public boolean add(Transaction transaction) {
+        int index = size;
+        int chunk = index >>> CHUNK_SHIFT;
+        Transaction[][] directory = chunks;
+        if (chunk == directory.length) {
+            directory = Arrays.copyOf(directory, directory.length * 2);
+        }
+        if (directory[chunk] == null) {
+            directory[chunk] = new Transaction[CHUNK_SIZE];
+        }
+        directory[chunk][index & CHUNK_MASK] = transaction;
+        if (directory != chunks) {
+            chunks = directory;
+        }
+        size = index + 1;
+        return true;
+    }
+
+    @Override
+    public Transaction get(int index) {
+        int published = size;
+        if (index < 0 || index >= published) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The history as it stands now. The returned list is immutable and never changes, and taking
+     * it costs the same whatever the length of the history.
+     */
+    public List<Transaction> snapshot() {
+        int published = size;
+        return new Snapshot(chunks, published);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] target) {
+        return snapshot().toArray(target);
+    }
+
+    private static final class Snapshot extends AbstractList<Transaction> implements RandomAccess {
+        private final Transaction[][] chunks;
+        private final int size;
+
+        Snapshot(Transaction[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public Transaction get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return toArray(new Object[0]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] target) {
+            T[] result = target.length >= size ? target
+                    : (T[]) Arrays.copyOf(target, size, target.getClass());
+            for (int copied = 0; copied < size; copied += CHUNK_SIZE) {
+                System.arraycopy(chunks[copied >>> CHUNK_SHIFT], 0, result, copied, Math.min(CHUNK_SIZE, size - copied));
+            }
+            if (result.length > size) {
+                result[size] = null;
+            }
+            return result;
+        }
+    }
+}
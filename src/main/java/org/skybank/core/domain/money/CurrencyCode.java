@@ -0,0 +1,61 @@
+package org.skybank.core.domain.money;
+
+import java.util.Locale;
+
+/**
+ * Currencies the ledger can hold. Amounts are always kept as {@code long} counts of the
+ * currency's minor unit; the ordinal doubles as the compact code used in balance arrays, the
+ * journal and the audit log, so new currencies must only ever be appended.
+ */
+public enum CurrencyCode {
+    USD(2),
+    EUR(2),
+    GBP(2),
+    CHF(2),
+    JPY(0),
+    KWD(3);
+
+    public static final CurrencyCode BASE = USD;
+
+    private static final CurrencyCode[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    private final int minorDigits;
+    private final long minorUnitsPerMajor;
+
+    CurrencyCode(int minorDigits) {
+        this.minorDigits = minorDigits;
+        long units = 1;
+        for (int i = 0; i < minorDigits; i++) {
+            units *= 10;
+        }
+        this.minorUnitsPerMajor = units;
+    }
+
+    public int code() {
+        return ordinal();
+    }
+
+    public int minorDigits() {
+        return minorDigits;
+    }
+
+    public long minorUnitsPerMajor() {
+        return minorUnitsPerMajor;
+    }
+
+    public static CurrencyCode fromCode(int code) {
+        if (code < 0 || code >= COUNT) {
+            throw new IllegalArgumentException("Unknown currency code: " + code);
+        }
+        return VALUES[code];
+    }
+
+    public static CurrencyCode fromIso(String iso) {
+        try {
+            return valueOf(iso.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported currency: " + iso);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.skybank.core.domain.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable table of exchange rates between every pair of supported currencies. Cross rates are
+ * precomputed once, already adjusted for the minor-unit exponents of both sides, and stored as
+ * fixed-point longs scaled by {@link #RATE_SCALE}; a conversion is then one multiply and one
+ * half-even rounding division. To change rates, build a new table and swap the reference.
+ */
+public final class FxRateTable {
+    public static final long RATE_SCALE = 100_000_000L;
+
+    private static final BigInteger SCALE = BigInteger.valueOf(RATE_SCALE);
+
+    private final CurrencyCode base;
+    private final long[] crossRates;
+
+    /**
+     * @param unitsPerBase how many major units of each currency one major unit of {@code base} buys
+     */
+    public FxRateTable(CurrencyCode base, Map<CurrencyCode, BigDecimal> unitsPerBase) {
+        this.base = base;
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+        rates.putAll(unitsPerBase);
+        rates.put(base, BigDecimal.ONE);
+
+        this.crossRates = new long[CurrencyCode.COUNT * CurrencyCode.COUNT];
+        for (Map.Entry<CurrencyCode, BigDecimal> from : rates.entrySet()) {
+            if (from.getValue().signum() <= 0) {
+                throw new IllegalArgumentException("FX rate for " + from.getKey() + " must be positive");
+            }
+            for (Map.Entry<CurrencyCode, BigDecimal> to : rates.entrySet()) {
+                BigDecimal major = to.getValue().divide(from.getValue(), 20, RoundingMode.HALF_EVEN);
+                BigDecimal minor = major.scaleByPowerOfTen(to.getKey().minorDigits() - from.getKey().minorDigits());
+                long scaled = minor.multiply(BigDecimal.valueOf(RATE_SCALE)).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+                crossRates[index(from.getKey(), to.getKey())] = Math.max(scaled, 1);
+            }
+        }
+    }
+
+    public static FxRateTable defaults() {
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+        rates.put(CurrencyCode.EUR, new BigDecimal("0.92"));
+        rates.put(CurrencyCode.GBP, new BigDecimal("0.79"));
+        rates.put(CurrencyCode.CHF, new BigDecimal("0.88"));
+        rates.put(CurrencyCode.JPY, new BigDecimal("149.50"));
+        rates.put(CurrencyCode.KWD, new BigDecimal("0.307"));
+        return new FxRateTable(CurrencyCode.USD, rates);
+    }
+
+    public CurrencyCode getBase() {
+        return base;
+    }
+
+    public boolean supports(CurrencyCode from, CurrencyCode to) {
+        return crossRates[index(from, to)] != 0;
+    }
+
+    /**
+     * Minor units of {@code to} per minor unit of {@code from}, scaled by {@link #RATE_SCALE}.
+     */
+    public long rate(CurrencyCode from, CurrencyCode to) {
+        long rate = crossRates[index(from, to)];
+        if (rate == 0) {
+            throw new IllegalArgumentException("No FX rate from " + from + " to " + to);
+        }
+        return rate;
+    }
+
+    public long convert(long minorUnits, CurrencyCode from, CurrencyCode to) {
+        if (from == to) {
+            return minorUnits;
+        }
+        long rate = rate(from, to);
+        long high = Math.multiplyHigh(minorUnits, rate);
+        long low = minorUnits * rate;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return divideHalfEven(low);
+        }
+        return convertWide(minorUnits, rate);
+    }
+
+    public long toBase(long minorUnits, CurrencyCode from) {
+        return convert(minorUnits, from, base);
+    }
+
+    private static long divideHalfEven(long product) {
+        long quotient = product / RATE_SCALE;
+        long twiceRemainder = Math.abs(product % RATE_SCALE) * 2;
+        if (twiceRemainder > RATE_SCALE || (twiceRemainder == RATE_SCALE && (quotient & 1) != 0)) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    // Only reached for amounts around 10^11 minor units and above.
+    private static long convertWide(long minorUnits, long rate) {
+        BigInteger[] division = BigInteger.valueOf(minorUnits).multiply(BigInteger.valueOf(rate)).divideAndRemainder(SCALE);
+        BigInteger quotient = division[0];
+        int half = division[1].abs().shiftLeft(1).compareTo(SCALE);
+        if (half > 0 || (half == 0 && quotient.testBit(0))) {
+            quotient = quotient.add(BigInteger.valueOf(division[1].signum()));
+        }
+        return quotient.longValueExact();
+    }
+
+    private static int index(CurrencyCode from, CurrencyCode to) {
+        return from.code() * CurrencyCode.COUNT + to.code();
+    }
+}
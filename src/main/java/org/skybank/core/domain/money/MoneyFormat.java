@@ -0,0 +1,80 @@
+package org.skybank.core.domain.money;
+
+/**
+ * Converts between minor-unit {@code long} amounts and their decimal text form using plain
+ * integer arithmetic, e.g. {@code 123456} USD is {@code "1234.56"} and {@code 1500} JPY is
+ * {@code "1500"}.
+ */
+public final class MoneyFormat {
+
+    private MoneyFormat() {
+    }
+
+    public static String format(long minorUnits, CurrencyCode currency) {
+        return append(new StringBuilder(24), minorUnits, currency, false).toString();
+    }
+
+    public static String formatSigned(long minorUnits, CurrencyCode currency) {
+        return append(new StringBuilder(24), minorUnits, currency, true).toString();
+    }
+
+    public static StringBuilder append(StringBuilder out, long minorUnits, CurrencyCode currency, boolean signed) {
+        long unit = currency.minorUnitsPerMajor();
+        long major = Math.abs(minorUnits / unit);
+        long minor = Math.abs(minorUnits % unit);
+
+        if (minorUnits < 0) {
+            out.append('-');
+        } else if (signed) {
+            out.append('+');
+        }
+        out.append(major);
+        if (currency.minorDigits() > 0) {
+            out.append('.');
+            for (long pad = unit / 10; pad > 1 && minor < pad; pad /= 10) {
+                out.append('0');
+            }
+            out.append(minor);
+        }
+        return out;
+    }
+
+    /**
+     * Parses a non-negative decimal such as {@code "12"}, {@code "12.5"} or {@code "12.50"} into
+     * minor units, rejecting more fractional digits than the currency has.
+     */
+    public static long parse(String text, CurrencyCode currency) {
+        String value = text.trim();
+        int dot = value.indexOf('.');
+        String majorPart = dot < 0 ? value : value.substring(0, dot);
+        String minorPart = dot < 0 ? "" : value.substring(dot + 1);
+
+        if (majorPart.isEmpty() || !isDigits(majorPart) || !isDigits(minorPart) || (dot >= 0 && minorPart.isEmpty())) {
+            throw new NumberFormatException("Invalid amount: " + text);
+        }
+        if (minorPart.length() > currency.minorDigits()) {
+            throw new NumberFormatException(currency + " amounts have at most " + currency.minorDigits() + " decimal places: " + text);
+        }
+
+        try {
+            long minor = 0;
+            for (int i = 0; i < currency.minorDigits(); i++) {
+                int digit = i < minorPart.length() ? minorPart.charAt(i) - '0' : 0;
+                minor = minor * 10 + digit;
+            }
+            return Math.addExact(Math.multiplyExact(Long.parseLong(majorPart), currency.minorUnitsPerMajor()), minor);
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    private static boolean isDigits(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
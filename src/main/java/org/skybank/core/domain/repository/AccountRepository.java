@@ -0,0 +1,21 @@
+package org.skybank.core.domain.repository;
+
+import org.skybank.core.domain.model.Account;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface AccountRepository {
+    Account save(Account account);
+    Optional<Account> findByAccountNumber(String accountNumber);
+    Optional<Account> delete(String accountNumber);
+    Collection<Account> findAll();
+    int count();
+
+    /**
+     * Blocks until every change made so far is durable. Stores that write through have nothing
+     * to wait for.
+     */
+    default void flush() {
+    }
+}
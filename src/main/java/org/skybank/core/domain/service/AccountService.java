@@ -1,8 +1,19 @@
 package org.skybank.core.domain.service;
 
+import org.skybank.core.domain.money.CurrencyCode;
+
 public interface AccountService {
-    void deposit(int amount);
-    void withdraw(int amount);
+    default void deposit(long amount) {
+        deposit(amount, CurrencyCode.BASE);
+    }
+
+    default void withdraw(long amount) {
+        withdraw(amount, CurrencyCode.BASE);
+    }
+
+    void deposit(long amount, CurrencyCode currency);
+    void withdraw(long amount, CurrencyCode currency);
+    long exchange(long amount, CurrencyCode from, CurrencyCode to);
     void printStatement();
 
 }
@@ -0,0 +1,14 @@
+package org.skybank.core.domain.service.implemantation;
+
+import java.util.UUID;
+
+public final class AccountNumberGenerator {
+
+    private AccountNumberGenerator() {
+    }
+
+    public static String generate() {
+        String uuid = UUID.randomUUID().toString().replace("-", "");
+        return "ACC" + uuid.substring(0, 9).toUpperCase();
+    }
+}
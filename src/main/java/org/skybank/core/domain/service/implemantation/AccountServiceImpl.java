@@ -6,24 +6,34 @@ import org.skybank.core.domain.exception.InsufficientFundsException;
 import org.skybank.core.domain.exception.InvalidAmountException;
 import org.skybank.core.domain.model.Account;
 import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
 import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.infrastructure.audit.AuditEventType;
+import org.skybank.core.infrastructure.audit.AuditLog;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 
 public class AccountServiceImpl implements AccountService {
-    private final SimpleDateFormat dateFormat;
-    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+    private final AuditLog auditLog;
+    private final FxRateTable fxRates;
+
     public AccountServiceImpl() {
-        this.dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        this(AuditLog.NOOP);
+    }
+
+    public AccountServiceImpl(AuditLog auditLog) {
+        this(auditLog, FxRateTable.defaults());
+    }
+
+    public AccountServiceImpl(AuditLog auditLog, FxRateTable fxRates) {
+        this.auditLog = auditLog;
+        this.fxRates = fxRates;
     }
 
     @Override
-    public void deposit(int amount) {
+    public void deposit(long amount, CurrencyCode currency) {
         Account currentAccount = getCurrentAccountOrThrow();
 
         try {
@@ -31,19 +41,23 @@ public class AccountServiceImpl implements AccountService {
                 throw new InvalidAmountException("Deposit amount must be positive. Attempted amount: " + amount);
             }
 
-            currentAccount.deposit(amount, new Date());
+            currentAccount.deposit(amount, currency, new Date());
+            auditLog.record(AuditEventType.DEPOSIT, currentAccount.getAccountNumber(), currency, amount, currentAccount.getBalance(currency));
 
         } catch (InvalidAmountException e) {
+            auditFailure(AuditEventType.DEPOSIT_FAILED, currentAccount, currency, amount);
             throw e;
         } catch (IllegalArgumentException e) {
+            auditFailure(AuditEventType.DEPOSIT_FAILED, currentAccount, currency, amount);
             throw new InvalidAmountException("Invalid deposit amount: " + e.getMessage());
         } catch (Exception e) {
+            auditFailure(AuditEventType.DEPOSIT_FAILED, currentAccount, currency, amount);
             throw new RuntimeException("Unexpected error during deposit: " + e.getMessage(), e);
         }
     }
 
     @Override
-    public void withdraw(int amount) {
+    public void withdraw(long amount, CurrencyCode currency) {
         Account currentAccount = getCurrentAccountOrThrow();
 
         try {
@@ -51,18 +65,21 @@ public class AccountServiceImpl implements AccountService {
                 throw new InvalidAmountException("Withdrawal amount must be positive. Attempted amount: " + amount);
             }
 
-            if (amount > currentAccount.getBalance()) {
+            if (amount > currentAccount.getBalance(currency)) {
                 throw new InsufficientFundsException(
                         String.format("Insufficient funds. Attempted withdrawal: %d, Available balance: %d",
-                                amount, currentAccount.getBalance())
+                                amount, currentAccount.getBalance(currency))
                 );
             }
 
-            currentAccount.withdraw(amount, new Date());
+            currentAccount.withdraw(amount, currency, new Date());
+            auditLog.record(AuditEventType.WITHDRAWAL, currentAccount.getAccountNumber(), currency, amount, currentAccount.getBalance(currency));
 
         } catch (InvalidAmountException | InsufficientFundsException e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, currency, amount);
             throw e;
         } catch (IllegalArgumentException e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, currency, amount);
 
             if (e.getMessage().contains("Insufficient funds")) {
                 throw new InsufficientFundsException("Insufficient funds: " + e.getMessage());
@@ -70,38 +87,56 @@ public class AccountServiceImpl implements AccountService {
                 throw new InvalidAmountException("Invalid withdrawal amount: " + e.getMessage());
             }
         } catch (Exception e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, currency, amount);
             throw new RuntimeException("Unexpected error during withdrawal: " + e.getMessage(), e);
         }
     }
 
     @Override
-    public void printStatement() {
+    public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
         Account currentAccount = getCurrentAccountOrThrow();
 
         try {
-            List<Transaction> transactions = currentAccount.getTransactions();
-
-            if (transactions == null || transactions.isEmpty()) {
-                logger.info("No transactions found for this account.");
-                return;
+            if (amount <= 0) {
+                throw new InvalidAmountException("Exchange amount must be positive. Attempted amount: " + amount);
             }
 
-            logger.info("\n=== Account Statement ===");
-            logger.info("Account Number: " + currentAccount.getAccountNumber());
-            logger.info("Current Balance: " + currentAccount.getBalance());
-            logger.info("\nDate       || Amount  || Balance");
-            logger.info("--------------------------------");
+            if (amount > currentAccount.getBalance(from)) {
+                throw new InsufficientFundsException(
+                        String.format("Insufficient funds. Attempted exchange: %d %s, Available balance: %d %s",
+                                amount, from, currentAccount.getBalance(from), from)
+                );
+            }
 
+            long credited = currentAccount.exchange(amount, from, to, fxRates, new Date());
+            auditLog.record(AuditEventType.WITHDRAWAL, currentAccount.getAccountNumber(), from, amount, currentAccount.getBalance(from));
+            auditLog.record(AuditEventType.DEPOSIT, currentAccount.getAccountNumber(), to, credited, currentAccount.getBalance(to));
+            return credited;
 
-            for (int i = transactions.size() - 1; i >= 0; i--) {
-                Transaction t = transactions.get(i);
-                String dateStr = dateFormat.format(t.getDate());
-                String amountStr = String.format("%+d", t.getAmount());
-                String balanceStr = String.format("%d", t.getBalance());
+        } catch (InvalidAmountException | InsufficientFundsException e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, from, amount);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, from, amount);
 
-                System.out.printf("%-10s || %-7s || %s%n", dateStr, amountStr, balanceStr);
+            if (e.getMessage().contains("Insufficient funds")) {
+                throw new InsufficientFundsException("Insufficient funds: " + e.getMessage());
+            } else {
+                throw new InvalidAmountException("Invalid exchange: " + e.getMessage());
             }
-            logger.info("================================\n");
+        } catch (Exception e) {
+            auditFailure(AuditEventType.WITHDRAWAL_FAILED, currentAccount, from, amount);
+            throw new RuntimeException("Unexpected error during exchange: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void printStatement() {
+        Account currentAccount = getCurrentAccountOrThrow();
+
+        try {
+            List<Transaction> transactions = currentAccount.getTransactionSnapshot();
+            StatementPrinter.print(currentAccount.getAccountNumber(), StatementPrinter.balancesOf(transactions), transactions);
 
         } catch (Exception e) {
             throw new RuntimeException("Error printing statement: " + e.getMessage(), e);
@@ -109,6 +144,10 @@ public class AccountServiceImpl implements AccountService {
     }
 
 
+    private void auditFailure(AuditEventType type, Account account, CurrencyCode currency, long amount) {
+        auditLog.record(type, account.getAccountNumber(), currency, amount, account.getBalance(currency));
+    }
+
     private Account getCurrentAccountOrThrow() {
         Account currentAccount = AccountContext.getCurrentAccount();
         if (currentAccount == null) {
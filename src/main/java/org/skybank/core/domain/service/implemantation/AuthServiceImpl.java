@@ -7,17 +7,41 @@ import org.skybank.core.application.dto.response.CreateAccountResponse;
 import org.skybank.core.application.dto.response.SignInResponse;
 import org.skybank.core.application.dto.response.SignOutResponse;
 import org.skybank.core.application.mapper.AuthMapper;
+import org.skybank.core.application.projection.AccountProjection;
+import org.skybank.core.application.projection.AccountView;
 import org.skybank.core.domain.context.AccountContext;
 import org.skybank.core.domain.exception.AuthenticationException;
 import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.repository.AccountRepository;
 import org.skybank.core.domain.service.AuthService;
+import org.skybank.core.infrastructure.audit.AuditEventType;
+import org.skybank.core.infrastructure.audit.AuditLog;
 
 import java.util.ArrayList;
-import java.util.UUID;
+import java.util.Optional;
 
 public class AuthServiceImpl implements AuthService {
 
         private final AuthMapper authMapper = AuthMapper.INSTANCE;
+        private static final long PROJECTION_WAIT_MILLIS = 50;
+
+        private final AccountRepository accountRepository;
+        private final AccountProjection accountProjection;
+        private final AuditLog auditLog;
+
+        public AuthServiceImpl(AccountRepository accountRepository) {
+            this(accountRepository, null);
+        }
+
+        public AuthServiceImpl(AccountRepository accountRepository, AccountProjection accountProjection) {
+            this(accountRepository, accountProjection, AuditLog.NOOP);
+        }
+
+        public AuthServiceImpl(AccountRepository accountRepository, AccountProjection accountProjection, AuditLog auditLog) {
+            this.accountRepository = accountRepository;
+            this.accountProjection = accountProjection;
+            this.auditLog = auditLog;
+        }
 
         @Override
         public CreateAccountResponse createAccount() {
@@ -28,9 +52,10 @@ public class AuthServiceImpl implements AuthService {
                 newAccount.setAccountNumber(accountNumber);
                 newAccount.setBalance(0);
                 newAccount.setTransactions(new ArrayList<>());
-
+                accountRepository.save(newAccount);
 
                 AccountContext.setCurrentAccount(newAccount);
+                auditLog.record(AuditEventType.ACCOUNT_CREATED, accountNumber, 0, 0);
 
 
                 return authMapper.toCreateAccountResponse(newAccount);
@@ -49,24 +74,30 @@ public class AuthServiceImpl implements AuthService {
                 }
 
 
-                Account account = new Account();
-                account.setAccountNumber(request.accountNumber());
-                account.setBalance(0);
-                account.setTransactions(new ArrayList<>());
-
-
-                if (account.getAccountNumber() == null || account.getAccountNumber().trim().isEmpty()) {
+                if (request.accountNumber() == null || request.accountNumber().trim().isEmpty()) {
                     throw new AuthenticationException("Invalid account: Account number is required");
                 }
 
+                Account account = accountRepository.findByAccountNumber(request.accountNumber().trim())
+                        .orElseThrow(() -> new AuthenticationException("Invalid account: Account not found"));
+
                 AccountContext.setCurrentAccount(account);
+                auditLog.record(AuditEventType.SIGN_IN, account.getAccountNumber(), 0, account.getBalance());
 
+                if (accountProjection != null) {
+                    Optional<AccountView> view = accountProjection.findOwnWrites(account.getAccountNumber(), PROJECTION_WAIT_MILLIS);
+                    if (view.isPresent()) {
+                        return authMapper.toSignInResponse(view.get());
+                    }
+                }
 
                 return authMapper.toSignInResponse(account);
 
             } catch (AuthenticationException e) {
+                auditLog.record(AuditEventType.SIGN_IN_FAILED, request != null ? request.accountNumber() : null, 0, 0);
                 return authMapper.toSignInErrorResponse("Sign in failed: " + e.getMessage());
             } catch (Exception e) {
+                auditLog.record(AuditEventType.SIGN_IN_FAILED, request != null ? request.accountNumber() : null, 0, 0);
                 return authMapper.toSignInErrorResponse("Unexpected error: " + e.getMessage());
             }
         }
@@ -74,11 +105,13 @@ public class AuthServiceImpl implements AuthService {
         @Override
         public SignOutResponse signOut() {
             try {
-                if (AccountContext.getCurrentAccount() == null) {
+                Account currentAccount = AccountContext.getCurrentAccount();
+                if (currentAccount == null) {
                     throw new AuthenticationException("No user is currently signed in");
                 }
 
                 AccountContext.clear();
+                auditLog.record(AuditEventType.SIGN_OUT, currentAccount.getAccountNumber(), 0, currentAccount.getBalance());
 
                 return new SignOutResponse(true, "Signed out successfully");
 
@@ -95,7 +128,6 @@ public class AuthServiceImpl implements AuthService {
         }
 
         private String generateAccountNumber() {
-            String uuid = UUID.randomUUID().toString().replace("-", "");
-            return "ACC" + uuid.substring(0, 9).toUpperCase();
+            return AccountNumberGenerator.generate();
         }
     }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.skybank.core.domain.service.implemantation;
+
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.MoneyFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+public final class StatementPrinter {
+    private static final Logger logger = LoggerFactory.getLogger(StatementPrinter.class);
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy").withZone(ZoneId.systemDefault());
+
+    private StatementPrinter() {
+    }
+
+    public static void print(String accountNumber, long[] balances, List<Transaction> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            logger.info("No transactions found for this account.");
+            return;
+        }
+
+        logger.info("\n=== Account Statement ===");
+        logger.info("Account Number: {}", accountNumber);
+
+        for (CurrencyCode currency : CurrencyCode.values()) {
+            if (!hasActivity(currency, balances, transactions)) {
+                continue;
+            }
+            logger.info("\n--- {} ---", currency);
+            logger.info("Current Balance: {}", MoneyFormat.format(balances[currency.code()], currency));
+            logger.info("\nDate       || Amount       || Balance");
+            logger.info("--------------------------------------");
+
+            for (int i = transactions.size() - 1; i >= 0; i--) {
+                Transaction t = transactions.get(i);
+                if (t.getCurrency() != currency) {
+                    continue;
+                }
+                String dateStr = DATE_FORMAT.format(t.getDate().toInstant());
+                String amountStr = MoneyFormat.formatSigned(t.getAmount(), currency);
+                String balanceStr = MoneyFormat.format(t.getBalance(), currency);
+
+                System.out.printf("%-10s || %-12s || %s%n", dateStr, amountStr, balanceStr);
+            }
+        }
+        logger.info("======================================\n");
+    }
+
+    /**
+     * Per-currency balances as of the last transaction in each currency.
+     */
+    public static long[] balancesOf(List<Transaction> transactions) {
+        long[] balances = new long[CurrencyCode.COUNT];
+        for (Transaction transaction : transactions) {
+            balances[transaction.getCurrency().code()] = transaction.getBalance();
+        }
+        return balances;
+    }
+
+    private static boolean hasActivity(CurrencyCode currency, long[] balances, List<Transaction> transactions) {
+        if (balances[currency.code()] != 0) {
+            return true;
+        }
+        for (Transaction transaction : transactions) {
+            if (transaction.getCurrency() == currency) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
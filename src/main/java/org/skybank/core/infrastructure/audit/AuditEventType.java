@@ -0,0 +1,40 @@
+package org.skybank.core.infrastructure.audit;
+
+public enum AuditEventType {
+    ACCOUNT_CREATED((byte) 1),
+    SIGN_IN((byte) 2),
+    SIGN_IN_FAILED((byte) 3),
+    SIGN_OUT((byte) 4),
+    DEPOSIT((byte) 5),
+    DEPOSIT_FAILED((byte) 6),
+    WITHDRAWAL((byte) 7),
+    WITHDRAWAL_FAILED((byte) 8),
+    WITHDRAWAL_BLOCKED((byte) 9),
+    RECORDS_DROPPED((byte) 127);
+
+    private static final AuditEventType[] BY_CODE = new AuditEventType[128];
+
+    static {
+        for (AuditEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    AuditEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static AuditEventType fromCode(byte code) {
+        AuditEventType type = code >= 0 ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown audit event type: " + code);
+        }
+        return type;
+    }
+}
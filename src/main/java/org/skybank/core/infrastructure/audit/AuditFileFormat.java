@@ -0,0 +1,41 @@
+package org.skybank.core.infrastructure.audit;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout shared by {@link BinaryAuditLog} and {@link AuditLogDecoder}. Every file starts with a
+ * 16-byte header, followed by fixed 64-byte little-endian records:
+ *
+ * <pre>
+ *  0  long  sequence (-1 for synthetic records)
+ *  8  long  timestamp, epoch microseconds
+ * 16  byte  event type code
+ * 17  byte  account number length
+ * 18  byte  currency code
+ * 19  5     reserved
+ * 24  16    account number, ASCII, zero padded
+ * 40  long  amount
+ * 48  long  balance
+ * 56  long  producing thread id
+ * </pre>
+ */
+final class AuditFileFormat {
+    static final byte[] MAGIC = "SKYAUDIT".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 64;
+    static final int MAX_ACCOUNT_LENGTH = 16;
+
+    static final int SEQUENCE_OFFSET = 0;
+    static final int TIMESTAMP_OFFSET = 8;
+    static final int TYPE_OFFSET = 16;
+    static final int ACCOUNT_LENGTH_OFFSET = 17;
+    static final int CURRENCY_OFFSET = 18;
+    static final int ACCOUNT_OFFSET = 24;
+    static final int AMOUNT_OFFSET = 40;
+    static final int BALANCE_OFFSET = 48;
+    static final int THREAD_OFFSET = 56;
+
+    private AuditFileFormat() {
+    }
+}
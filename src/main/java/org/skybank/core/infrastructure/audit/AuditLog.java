@@ -0,0 +1,13 @@
+package org.skybank.core.infrastructure.audit;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+public interface AuditLog {
+    AuditLog NOOP = (type, accountNumber, currency, amount, balance) -> { };
+
+    default void record(AuditEventType type, String accountNumber, long amount, long balance) {
+        record(type, accountNumber, CurrencyCode.BASE, amount, balance);
+    }
+
+    void record(AuditEventType type, String accountNumber, CurrencyCode currency, long amount, long balance);
+}
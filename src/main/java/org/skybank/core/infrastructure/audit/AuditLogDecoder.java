@@ -0,0 +1,116 @@
+package org.skybank.core.infrastructure.audit;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decodes files written by {@link BinaryAuditLog} into text, one line per record.
+ *
+ * <pre>
+ * java -cp SkyBank-Core.jar org.skybank.core.infrastructure.audit.AuditLogDecoder &lt;file-or-directory&gt;...
+ * </pre>
+ */
+public final class AuditLogDecoder {
+
+    private AuditLogDecoder() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: AuditLogDecoder <file-or-directory>...");
+            System.exit(2);
+        }
+        for (String arg : args) {
+            for (Path file : auditFiles(Paths.get(arg))) {
+                decode(file, record -> System.out.println(record.toText()));
+            }
+        }
+    }
+
+    public static List<Path> auditFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".bin"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list audit directory " + path, e);
+        }
+    }
+
+    public static List<AuditRecord> readAll(Path path) {
+        List<AuditRecord> records = new ArrayList<>();
+        for (Path file : auditFiles(path)) {
+            decode(file, records::add);
+        }
+        return records;
+    }
+
+    public static void decode(Path file, Consumer<AuditRecord> sink) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AuditFileFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            byte[] magic = new byte[AuditFileFormat.MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, AuditFileFormat.MAGIC)) {
+                throw new IllegalArgumentException(file + " is not an audit file");
+            }
+            int version = header.getInt();
+            int recordSize = header.getInt();
+            if (version != AuditFileFormat.VERSION || recordSize != AuditFileFormat.RECORD_SIZE) {
+                throw new IllegalArgumentException("Unsupported audit file version " + version + " in " + file);
+            }
+
+            ByteBuffer record = ByteBuffer.allocate(AuditFileFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (readFully(channel, record)) {
+                sink.accept(toRecord(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode audit file " + file, e);
+        }
+    }
+
+    private static AuditRecord toRecord(ByteBuffer record) {
+        int length = record.get(AuditFileFormat.ACCOUNT_LENGTH_OFFSET);
+        String accountNumber = new String(record.array(), AuditFileFormat.ACCOUNT_OFFSET, length, StandardCharsets.US_ASCII);
+        return new AuditRecord(
+                record.getLong(AuditFileFormat.SEQUENCE_OFFSET),
+                record.getLong(AuditFileFormat.TIMESTAMP_OFFSET),
+                AuditEventType.fromCode(record.get(AuditFileFormat.TYPE_OFFSET)),
+                accountNumber,
+                record.getLong(AuditFileFormat.AMOUNT_OFFSET),
+                record.getLong(AuditFileFormat.BALANCE_OFFSET),
+                CurrencyCode.fromCode(record.get(AuditFileFormat.CURRENCY_OFFSET)),
+                record.getLong(AuditFileFormat.THREAD_OFFSET)
+        );
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+}
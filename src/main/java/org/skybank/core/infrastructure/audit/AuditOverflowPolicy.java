@@ -0,0 +1,16 @@
+package org.skybank.core.infrastructure.audit;
+
+/**
+ * What a producer does when the audit ring buffer is full because the drainer has fallen behind.
+ */
+public enum AuditOverflowPolicy {
+    /**
+     * Never block the request path: the event is discarded and counted, and the drainer writes a
+     * {@link AuditEventType#RECORDS_DROPPED} record with the count so the gap is visible in the file.
+     */
+    DROP_AND_MARK,
+    /**
+     * Park the producer until the drainer frees a slot, so no event is ever lost.
+     */
+    BLOCK
+}
@@ -0,0 +1,22 @@
+package org.skybank.core.infrastructure.audit;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.Instant;
+
+public record AuditRecord(
+        long sequence,
+        long timestampMicros,
+        AuditEventType type,
+        String accountNumber,
+        long amount,
+        long balance,
+        CurrencyCode currency,
+        long threadId
+) {
+    public String toText() {
+        Instant timestamp = Instant.ofEpochSecond(timestampMicros / 1_000_000L, (timestampMicros % 1_000_000L) * 1_000L);
+        return String.format("%d %s %-17s %-16s %s amount=%d balance=%d thread=%d",
+                sequence, timestamp, type, accountNumber.isEmpty() ? "-" : accountNumber, currency, amount, balance, threadId);
+    }
+}
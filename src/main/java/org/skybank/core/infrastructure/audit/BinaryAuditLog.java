@@ -0,0 +1,275 @@
+package org.skybank.core.infrastructure.audit;
+
+import org.skybank.core.domain.money.CurrencyCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Audit log for security-relevant and money-moving events. Producers claim a slot in a
+ * preallocated ring of fixed-layout binary records with one CAS and write the record in place,
+ * without allocating or taking a lock. A background thread drains published records in sequence
+ * order to size-capped rolling files under the configured directory; {@link AuditLogDecoder}
+ * turns them back into text. When the ring is full the {@link AuditOverflowPolicy} decides
+ * whether the producer drops the event or waits.
+ */
+public class BinaryAuditLog implements AuditLog, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BinaryAuditLog.class);
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final int DRAIN_BATCH_RECORDS = 256;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final int mask;
+    private final ByteBuffer ring;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong totalDropped = new AtomicLong();
+    private final long baseEpochMicros;
+    private final long baseNanos;
+
+    private volatile long consumed;
+    private volatile boolean running;
+    private final Thread drainer;
+
+    private FileChannel currentFile;
+    private long currentFileBytes;
+    private int fileIndex;
+
+    public BinaryAuditLog(Path directory, int capacity, long maxFileBytes, AuditOverflowPolicy overflowPolicy) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        if (maxFileBytes < AuditFileFormat.HEADER_SIZE + AuditFileFormat.RECORD_SIZE) {
+            throw new IllegalArgumentException("Max file size is too small for a single record");
+        }
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.ring = ByteBuffer.allocateDirect(capacity * AuditFileFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.published = new AtomicLongArray(capacity);
+
+        Instant now = Instant.now();
+        this.baseNanos = System.nanoTime();
+        this.baseEpochMicros = now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+
+        try {
+            Files.createDirectories(directory);
+            this.fileIndex = lastFileIndex(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare audit directory " + directory, e);
+        }
+
+        this.running = true;
+        this.drainer = new Thread(this::drainLoop, "audit-drainer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void record(AuditEventType type, String accountNumber, CurrencyCode currency, long amount, long balance) {
+        long sequence;
+        while (true) {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                if (overflowPolicy == AuditOverflowPolicy.DROP_AND_MARK || !running) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                LockSupport.parkNanos(1_000);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        int slot = (int) (sequence & mask);
+        write(slot * AuditFileFormat.RECORD_SIZE, sequence, type, accountNumber, currency, amount, balance);
+        published.lazySet(slot, sequence + 1);
+    }
+
+    public long getDroppedCount() {
+        return totalDropped.get() + dropped.get();
+    }
+
+    public long getPendingCount() {
+        return claimed.get() - consumed;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(int offset, long sequence, AuditEventType type, String accountNumber, CurrencyCode currency, long amount, long balance) {
+        ring.putLong(offset + AuditFileFormat.SEQUENCE_OFFSET, sequence);
+        ring.putLong(offset + AuditFileFormat.TIMESTAMP_OFFSET, baseEpochMicros + (System.nanoTime() - baseNanos) / 1_000);
+        ring.put(offset + AuditFileFormat.TYPE_OFFSET, type.code());
+
+        int length = accountNumber == null ? 0 : Math.min(accountNumber.length(), AuditFileFormat.MAX_ACCOUNT_LENGTH);
+        ring.put(offset + AuditFileFormat.ACCOUNT_LENGTH_OFFSET, (byte) length);
+        for (int i = 0; i < AuditFileFormat.MAX_ACCOUNT_LENGTH; i++) {
+            byte b = i < length ? (byte) accountNumber.charAt(i) : 0;
+            ring.put(offset + AuditFileFormat.ACCOUNT_OFFSET + i, b);
+        }
+
+        ring.put(offset + AuditFileFormat.CURRENCY_OFFSET, (byte) currency.code());
+        ring.putLong(offset + AuditFileFormat.AMOUNT_OFFSET, amount);
+        ring.putLong(offset + AuditFileFormat.BALANCE_OFFSET, balance);
+        ring.putLong(offset + AuditFileFormat.THREAD_OFFSET, Thread.currentThread().getId());
+    }
+
+    private void drainLoop() {
+        ByteBuffer batch = ByteBuffer.allocate(DRAIN_BATCH_RECORDS * AuditFileFormat.RECORD_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            while (true) {
+                boolean stopping = !running;
+                int drained = drainInto(batch);
+                if (drained > 0) {
+                    flush(batch);
+                } else if (stopping) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(100_000);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Audit drainer stopped: {}", e.getMessage(), e);
+            running = false;
+        } finally {
+            closeCurrentFile();
+        }
+    }
+
+    private int drainInto(ByteBuffer batch) {
+        batch.clear();
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            totalDropped.addAndGet(lost);
+            writeDropMarker(batch, lost);
+        }
+
+        long next = consumed;
+        int records = batch.position() / AuditFileFormat.RECORD_SIZE;
+        while (records < DRAIN_BATCH_RECORDS) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next + 1) {
+                break;
+            }
+            int offset = slot * AuditFileFormat.RECORD_SIZE;
+            ring.get(offset, batch.array(), batch.position(), AuditFileFormat.RECORD_SIZE);
+            batch.position(batch.position() + AuditFileFormat.RECORD_SIZE);
+            next++;
+            records++;
+        }
+        consumed = next;
+        batch.flip();
+        return records;
+    }
+
+    private void writeDropMarker(ByteBuffer batch, long lost) {
+        int offset = batch.position();
+        batch.putLong(offset + AuditFileFormat.SEQUENCE_OFFSET, -1L);
+        batch.putLong(offset + AuditFileFormat.TIMESTAMP_OFFSET, baseEpochMicros + (System.nanoTime() - baseNanos) / 1_000);
+        batch.put(offset + AuditFileFormat.TYPE_OFFSET, AuditEventType.RECORDS_DROPPED.code());
+        batch.put(offset + AuditFileFormat.ACCOUNT_LENGTH_OFFSET, (byte) 0);
+        for (int i = 18; i < AuditFileFormat.AMOUNT_OFFSET; i++) {
+            batch.put(offset + i, (byte) 0);
+        }
+        batch.putLong(offset + AuditFileFormat.AMOUNT_OFFSET, lost);
+        batch.putLong(offset + AuditFileFormat.BALANCE_OFFSET, 0);
+        batch.putLong(offset + AuditFileFormat.THREAD_OFFSET, Thread.currentThread().getId());
+        batch.position(offset + AuditFileFormat.RECORD_SIZE);
+    }
+
+    private void flush(ByteBuffer batch) throws IOException {
+        while (batch.hasRemaining()) {
+            if (currentFile == null || currentFileBytes + AuditFileFormat.RECORD_SIZE > maxFileBytes) {
+                rollFile();
+            }
+            int fits = (int) ((maxFileBytes - currentFileBytes) / AuditFileFormat.RECORD_SIZE) * AuditFileFormat.RECORD_SIZE;
+            ByteBuffer chunk = batch.slice();
+            chunk.limit(Math.min(chunk.remaining(), fits));
+            int written = 0;
+            while (chunk.hasRemaining()) {
+                written += currentFile.write(chunk);
+            }
+            currentFileBytes += written;
+            batch.position(batch.position() + written);
+        }
+    }
+
+    private void rollFile() throws IOException {
+        closeCurrentFile();
+        fileIndex++;
+        Path file = directory.resolve(String.format("%s%06d%s", FILE_PREFIX, fileIndex, FILE_SUFFIX));
+        currentFile = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(AuditFileFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(AuditFileFormat.MAGIC);
+        header.putInt(AuditFileFormat.VERSION);
+        header.putInt(AuditFileFormat.RECORD_SIZE);
+        header.flip();
+        while (header.hasRemaining()) {
+            currentFile.write(header);
+        }
+        currentFileBytes = AuditFileFormat.HEADER_SIZE;
+    }
+
+    private void closeCurrentFile() {
+        if (currentFile == null) {
+            return;
+        }
+        try {
+            currentFile.force(false);
+            currentFile.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close audit file: {}", e.getMessage());
+        }
+        currentFile = null;
+    }
+
+    private static int lastFileIndex(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                    .mapToInt(name -> parseIndex(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())))
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    private static int parseIndex(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.skybank.core.infrastructure.cluster;
+
+public class ClusterException extends RuntimeException {
+    public ClusterException(String message) {
+        super(message);
+    }
+
+    public ClusterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,750 @@
+package org.skybank.core.infrastructure.cluster;
+
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.exception.InvalidAmountException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.service.implemantation.AccountNumberGenerator;
+import org.skybank.core.infrastructure.cluster.ClusterProtocol.AccountReply;
+import org.skybank.core.infrastructure.cluster.ClusterProtocol.AccountRequest;
+import org.skybank.core.infrastructure.cluster.ClusterProtocol.PreparedTransfer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One member of a partitioned ledger. Each node owns the {@link Account} state of the partitions
+ * the {@link PartitionRing} assigns to it and forwards requests for foreign accounts to their
+ * owner. Transfers between accounts use prepare/commit so that funds are reserved on the debit
+ * side before the credit side is touched.
+ *
+ * <p>The node that runs a transfer coordinates it. Any failure before both sides are prepared
+ * aborts both of them. Once both are prepared, the node records the commit decision and sends
+ * COMMIT to each side until that side acknowledges it; participants ignore a repeated COMMIT.
+ * Outcomes that could not be delivered are retried in the background. Once every participant has
+ * acknowledged a COMMIT, the coordinator tells them to forget it.
+ *
+ * <p>A participant remembers the transfers it aborted so a PREPARE that arrives after its ABORT
+ * is refused instead of reserving funds nobody will release. A reservation still held after the
+ * prepare timeout is resolved by asking the coordinator for the outcome; if the coordinator has
+ * no record of the transfer, has left the cluster or cannot be reached, the participant presumes
+ * it aborted. Committed and aborted keys are kept for at most {@code REMEMBER_MILLIS}.
+ *
+ * <p>Nodes are expected to join one at a time; a joining node pulls the partitions it now owns
+ * from their previous owners before announcing the new membership to the cluster.
+ */
+public class ClusterNode implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ClusterNode.class);
+    private static final int DEFAULT_PARTITIONS = 64;
+    private static final int DEFAULT_VIRTUAL_NODES = 32;
+    private static final int MAX_FORWARD_HOPS = 4;
+    private static final int CONNECT_TIMEOUT_MILLIS = 2_000;
+    private static final int READ_TIMEOUT_MILLIS = 10_000;
+    private static final long RECOVERY_INTERVAL_MILLIS = 500;
+    private static final long DEFAULT_PREPARE_TIMEOUT_MILLIS = 30_000;
+    private static final long REMEMBER_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final String nodeId;
+    private final int partitionCount;
+    private final int virtualNodes;
+    private final long prepareTimeoutMillis;
+    private final ConcurrentMap<Integer, Partition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong transferSequence = new AtomicLong();
+    private final ConcurrentMap<String, Outcome> outcomes = new ConcurrentHashMap<>();
+    // Transfers this node is coordinating that have not reached a decision yet.
+    private final Set<String> undecided = ConcurrentHashMap.newKeySet();
+
+    private volatile PartitionRing ring;
+    private volatile NodeAddress self;
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+    private ExecutorService handlers;
+    private ScheduledExecutorService recovery;
+    private Thread acceptor;
+
+    public ClusterNode(String nodeId) {
+        this(nodeId, DEFAULT_PARTITIONS, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ClusterNode(String nodeId, int partitionCount, int virtualNodes) {
+        this(nodeId, partitionCount, virtualNodes, DEFAULT_PREPARE_TIMEOUT_MILLIS);
+    }
+
+    public ClusterNode(String nodeId, int partitionCount, int virtualNodes, long prepareTimeoutMillis) {
+        this.nodeId = nodeId;
+        this.partitionCount = partitionCount;
+        this.virtualNodes = virtualNodes;
+        this.prepareTimeoutMillis = prepareTimeoutMillis;
+    }
+
+    public synchronized NodeAddress start() {
+        if (running) {
+            return self;
+        }
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        } catch (IOException e) {
+            throw new ClusterException("Failed to bind node " + nodeId, e);
+        }
+        self = new NodeAddress(nodeId, serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+        ring = new PartitionRing(partitionCount, virtualNodes, List.of(self));
+        handlers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-" + nodeId + "-handler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        recovery = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-" + nodeId + "-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        recovery.scheduleWithFixedDelay(this::resolvePending, RECOVERY_INTERVAL_MILLIS, RECOVERY_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        acceptor = new Thread(this::acceptLoop, "cluster-" + nodeId + "-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.info("Cluster node {} listening on {}:{}", nodeId, self.host(), self.port());
+        return self;
+    }
+
+    public void join(NodeAddress seed) {
+        List<NodeAddress> members = call(seed, out -> out.writeByte(ClusterProtocol.MEMBERS),
+                ClusterProtocol::readMembers);
+
+        PartitionRing previous = ring.withMembers(members);
+        PartitionRing next = previous.withMember(self);
+
+        Map<NodeAddress, List<Integer>> toPull = new HashMap<>();
+        for (int partition = 0; partition < partitionCount; partition++) {
+            if (next.ownerOf(partition).equals(self)) {
+                partitions.put(partition, Partition.pending(partition));
+                toPull.computeIfAbsent(previous.ownerOf(partition), owner -> new ArrayList<>()).add(partition);
+            }
+        }
+        ring = next;
+
+        for (Map.Entry<NodeAddress, List<Integer>> entry : toPull.entrySet()) {
+            for (int partition : entry.getValue()) {
+                pullPartition(entry.getKey(), partition, next.members());
+            }
+        }
+
+        for (NodeAddress member : next.members()) {
+            if (!member.equals(self)) {
+                call(member, out -> {
+                    out.writeByte(ClusterProtocol.UPDATE_MEMBERS);
+                    ClusterProtocol.writeMembers(out, next.members());
+                }, in -> in.readByte());
+            }
+        }
+        logger.info("Node {} joined cluster with {} members, took over {} partitions",
+                nodeId, next.members().size(), toPull.values().stream().mapToInt(List::size).sum());
+    }
+
+    public String openAccount() {
+        String accountNumber = AccountNumberGenerator.generate();
+        expectOk(handle(new AccountRequest(ClusterProtocol.OPEN, accountNumber, 0, null, 0)));
+        return accountNumber;
+    }
+
+    public long deposit(String accountNumber, long amount) {
+        return expectOk(handle(new AccountRequest(ClusterProtocol.DEPOSIT, accountNumber, amount, null, 0)));
+    }
+
+    public long withdraw(String accountNumber, long amount) {
+        return expectOk(handle(new AccountRequest(ClusterProtocol.WITHDRAW, accountNumber, amount, null, 0)));
+    }
+
+    public long balance(String accountNumber) {
+        return expectOk(handle(new AccountRequest(ClusterProtocol.BALANCE, accountNumber, 0, null, 0)));
+    }
+
+    public void transfer(String fromAccount, String toAccount, long amount) {
+        if (amount <= 0) {
+            throw new InvalidAmountException("Transfer amount must be positive. Attempted amount: " + amount);
+        }
+        if (fromAccount.equals(toAccount)) {
+            throw new InvalidAmountException("Cannot transfer to the same account");
+        }
+        String txId = nodeId + "-" + transferSequence.incrementAndGet();
+        undecided.add(txId);
+        try {
+            coordinate(txId, fromAccount, toAccount, amount);
+        } finally {
+            undecided.remove(txId);
+        }
+    }
+
+    private void coordinate(String txId, String fromAccount, String toAccount, long amount) {
+        try {
+            expectOk(handle(new AccountRequest(ClusterProtocol.PREPARE, fromAccount, -amount, txId, 0)));
+        } catch (ClusterException e) {
+            // The reservation may have been made before the reply was lost.
+            decide(txId, ClusterProtocol.ABORT, fromAccount);
+            throw e;
+        }
+
+        AccountReply credit;
+        try {
+            credit = handle(new AccountRequest(ClusterProtocol.PREPARE, toAccount, amount, txId, 0));
+        } catch (ClusterException e) {
+            decide(txId, ClusterProtocol.ABORT, fromAccount, toAccount);
+            throw e;
+        }
+        if (!credit.isOk()) {
+            decide(txId, ClusterProtocol.ABORT, fromAccount);
+            expectOk(credit);
+        }
+
+        if (!decide(txId, ClusterProtocol.COMMIT, fromAccount, toAccount)) {
+            logger.warn("Transfer {} is committed but not yet applied everywhere; retrying in the background", txId);
+        }
+    }
+
+    /**
+     * Outcomes decided by this node that some participant has not acknowledged yet.
+     */
+    public int pendingOutcomes() {
+        return outcomes.size();
+    }
+
+    /**
+     * Committed and aborted transfer keys this node still remembers for its partitions.
+     */
+    public int rememberedTransfers() {
+        return partitions.values().stream()
+                .mapToInt(partition -> partition.committedTransfers.size() + partition.abortedTransfers.size())
+                .sum();
+    }
+
+    /**
+     * Funds reserved by prepared transfers on this node's partitions.
+     */
+    public long reservedFunds() {
+        return partitions.values().stream()
+                .flatMap(partition -> partition.reservedByAccount.values().stream())
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * The account object held by this node, if it owns the account.
+     */
+    public Optional<Account> localAccount(String accountNumber) {
+        Partition partition = partitions.get(ring.partitionOf(accountNumber));
+        return partition == null ? Optional.empty() : Optional.ofNullable(partition.accounts.get(accountNumber));
+    }
+
+    public NodeAddress getAddress() {
+        return self;
+    }
+
+    public PartitionRing getRing() {
+        return ring;
+    }
+
+    public int localAccountCount() {
+        return partitions.values().stream().mapToInt(partition -> partition.accounts.size()).sum();
+    }
+
+    public boolean ownsAccount(String accountNumber) {
+        return ring.ownerOfAccount(accountNumber).equals(self);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close server socket for node {}", nodeId, e);
+        }
+        handlers.shutdownNow();
+        recovery.shutdownNow();
+        if (!outcomes.isEmpty()) {
+            logger.warn("Node {} closed with {} undelivered transfer outcomes", nodeId, outcomes.size());
+        }
+    }
+
+    /**
+     * Records the outcome of a transfer and delivers it to {@code accounts}.
+     *
+     * @return whether every participant acknowledged it
+     */
+    private boolean decide(String txId, byte op, String... accounts) {
+        Outcome outcome = new Outcome(txId, op, List.of(accounts));
+        outcomes.put(txId, outcome);
+        return deliver(outcome);
+    }
+
+    private boolean deliver(Outcome outcome) {
+        synchronized (outcome) {
+            Iterator<String> remaining = outcome.remaining.iterator();
+            while (remaining.hasNext()) {
+                String accountNumber = remaining.next();
+                try {
+                    AccountReply reply = handle(new AccountRequest(outcome.op, accountNumber, 0, outcome.txId, 0));
+                    if (reply.isOk()) {
+                        remaining.remove();
+                    } else {
+                        logger.warn("Transfer {} outcome rejected by {}: {}", outcome.txId, accountNumber, reply.message());
+                    }
+                } catch (ClusterException e) {
+                    logger.warn("Transfer {} outcome not delivered to {}: {}", outcome.txId, accountNumber, e.getMessage());
+                }
+            }
+            if (outcome.remaining.isEmpty()) {
+                outcomes.remove(outcome.txId, outcome);
+                if (outcome.op == ClusterProtocol.COMMIT) {
+                    forget(outcome);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Best effort; a participant that misses FORGET drops the key after {@code REMEMBER_MILLIS}.
+     */
+    private void forget(Outcome outcome) {
+        for (String accountNumber : outcome.accounts) {
+            try {
+                handle(new AccountRequest(ClusterProtocol.FORGET, accountNumber, 0, outcome.txId, 0));
+            } catch (ClusterException e) {
+                logger.debug("Transfer {} not forgotten by {}: {}", outcome.txId, accountNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void resolvePending() {
+        for (Outcome outcome : outcomes.values()) {
+            deliver(outcome);
+        }
+        long now = System.currentTimeMillis();
+        for (Partition partition : partitions.values()) {
+            for (Map.Entry<String, PreparedTransfer> entry : partition.preparedTransfers.entrySet()) {
+                if (now - entry.getValue().preparedAtMillis() >= prepareTimeoutMillis) {
+                    expire(entry.getKey(), entry.getValue());
+                }
+            }
+            partition.pruneRemembered(now - REMEMBER_MILLIS);
+        }
+    }
+
+    private void expire(String key, PreparedTransfer transfer) {
+        String txId = key.substring(0, key.length() - transfer.accountNumber().length() - 1);
+        byte outcome = outcomeOf(txId);
+        if (outcome == ClusterProtocol.UNDECIDED) {
+            return;
+        }
+        logger.warn("Transfer {} held a reservation on {} past the prepare timeout; applying {}", txId,
+                transfer.accountNumber(), outcome == ClusterProtocol.COMMIT ? "COMMIT" : "ABORT");
+        try {
+            handle(new AccountRequest(outcome, transfer.accountNumber(), 0, txId, 0));
+        } catch (RuntimeException e) {
+            logger.warn("Transfer {} could not be resolved on {}: {}", txId, transfer.accountNumber(), e.getMessage());
+        }
+    }
+
+    /**
+     * Asks the coordinator of {@code txId} how it ended, presuming ABORT when it cannot say.
+     */
+    private byte outcomeOf(String txId) {
+        String coordinatorId = txId.substring(0, txId.lastIndexOf('-'));
+        if (coordinatorId.equals(nodeId)) {
+            return localOutcome(txId);
+        }
+        for (NodeAddress member : ring.members()) {
+            if (member.nodeId().equals(coordinatorId)) {
+                try {
+                    return call(member, out -> {
+                        out.writeByte(ClusterProtocol.OUTCOME);
+                        out.writeUTF(txId);
+                    }, in -> in.readByte());
+                } catch (ClusterException e) {
+                    logger.warn("Coordinator {} of transfer {} is unreachable: {}", coordinatorId, txId, e.getMessage());
+                    return ClusterProtocol.ABORT;
+                }
+            }
+        }
+        return ClusterProtocol.ABORT;
+    }
+
+    private byte localOutcome(String txId) {
+        Outcome outcome = outcomes.get(txId);
+        if (outcome != null) {
+            return outcome.op;
+        }
+        return undecided.contains(txId) ? ClusterProtocol.UNDECIDED : ClusterProtocol.ABORT;
+    }
+
+    private AccountReply handle(AccountRequest request) {
+        int partitionId = ring.partitionOf(request.accountNumber());
+        while (true) {
+            NodeAddress owner = ring.ownerOf(partitionId);
+            if (!owner.equals(self)) {
+                return forward(owner, request);
+            }
+
+            Partition partition = localPartition(partitionId);
+            partition.lock.readLock().lock();
+            try {
+                if (partition.handedOff) {
+                    continue;
+                }
+                if (!ring.ownerOf(partitionId).equals(self)) {
+                    // Ownership moved while we were looking; drop the empty placeholder and re-route.
+                    if (partition.accounts.isEmpty()) {
+                        partitions.remove(partitionId, partition);
+                    }
+                    continue;
+                }
+                return apply(partition, request);
+            } catch (InsufficientFundsException e) {
+                return AccountReply.failure(ClusterProtocol.STATUS_INSUFFICIENT_FUNDS, e.getMessage());
+            } catch (InvalidAmountException | IllegalArgumentException e) {
+                return AccountReply.failure(ClusterProtocol.STATUS_INVALID_AMOUNT, e.getMessage());
+            } catch (AccountNotFoundException e) {
+                return AccountReply.failure(ClusterProtocol.STATUS_NOT_FOUND, e.getMessage());
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+    }
+
+    private AccountReply apply(Partition partition, AccountRequest request) {
+        switch (request.op()) {
+            case ClusterProtocol.OPEN: {
+                Account account = new Account(request.accountNumber(), 0, new ArrayList<>());
+                if (partition.accounts.putIfAbsent(request.accountNumber(), account) != null) {
+                    throw new IllegalArgumentException("Account already exists: " + request.accountNumber());
+                }
+                return AccountReply.ok(0);
+            }
+            case ClusterProtocol.DEPOSIT: {
+                Account account = accountOrThrow(partition, request.accountNumber());
+                account.deposit(toAmount(request.amount()), new Date());
+                return AccountReply.ok(account.getBalance());
+            }
+            case ClusterProtocol.WITHDRAW: {
+                Account account = accountOrThrow(partition, request.accountNumber());
+                synchronized (account) {
+                    long available = account.getBalance() - partition.reserved(request.accountNumber());
+                    if (request.amount() > available) {
+                        throw new InsufficientFundsException(
+                                String.format("Insufficient funds. Attempted withdrawal: %d, Available balance: %d",
+                                        request.amount(), available));
+                    }
+                    account.withdraw(toAmount(request.amount()), new Date());
+                    return AccountReply.ok(account.getBalance());
+                }
+            }
+            case ClusterProtocol.BALANCE:
+                return AccountReply.ok(accountOrThrow(partition, request.accountNumber()).getBalance());
+            case ClusterProtocol.PREPARE:
+                return prepare(partition, request);
+            case ClusterProtocol.COMMIT:
+                return commit(partition, request);
+            case ClusterProtocol.ABORT: {
+                // Recorded before the reservation is dropped so a concurrent PREPARE sees one or the other.
+                String key = preparedKey(request);
+                partition.abortedTransfers.put(key, System.currentTimeMillis());
+                partition.removePrepared(key);
+                return AccountReply.ok(0);
+            }
+            case ClusterProtocol.FORGET:
+                partition.committedTransfers.remove(preparedKey(request));
+                return AccountReply.ok(0);
+            default:
+                return AccountReply.failure(ClusterProtocol.STATUS_ERROR, "Unknown operation " + request.op());
+        }
+    }
+
+    private AccountReply prepare(Partition partition, AccountRequest request) {
+        Account account = accountOrThrow(partition, request.accountNumber());
+        String key = preparedKey(request);
+        synchronized (account) {
+            if (partition.preparedTransfers.containsKey(key) || partition.committedTransfers.containsKey(key)) {
+                return AccountReply.ok(0);
+            }
+            if (partition.abortedTransfers.containsKey(key)) {
+                return AccountReply.failure(ClusterProtocol.STATUS_ERROR, "Transfer " + request.txId() + " was aborted");
+            }
+            if (request.amount() < 0) {
+                long available = account.getBalance() - partition.reserved(request.accountNumber());
+                if (-request.amount() > available) {
+                    throw new InsufficientFundsException(
+                            String.format("Insufficient funds. Attempted transfer: %d, Available balance: %d",
+                                    -request.amount(), available));
+                }
+            }
+            partition.addPrepared(key,
+                    new PreparedTransfer(request.accountNumber(), request.amount(), System.currentTimeMillis()));
+            if (partition.abortedTransfers.containsKey(key)) {
+                partition.removePrepared(key);
+                return AccountReply.failure(ClusterProtocol.STATUS_ERROR, "Transfer " + request.txId() + " was aborted");
+            }
+        }
+        return AccountReply.ok(0);
+    }
+
+    private AccountReply commit(Partition partition, AccountRequest request) {
+        Account account = accountOrThrow(partition, request.accountNumber());
+        String key = preparedKey(request);
+        synchronized (account) {
+            PreparedTransfer transfer = partition.removePrepared(key);
+            if (transfer == null) {
+                if (partition.committedTransfers.containsKey(key)) {
+                    return AccountReply.ok(account.getBalance());
+                }
+                return AccountReply.failure(ClusterProtocol.STATUS_ERROR, "No prepared transfer " + request.txId());
+            }
+            if (transfer.delta() < 0) {
+                account.withdraw(toAmount(-transfer.delta()), new Date());
+            } else {
+                account.deposit(toAmount(transfer.delta()), new Date());
+            }
+            partition.committedTransfers.put(key, System.currentTimeMillis());
+            return AccountReply.ok(account.getBalance());
+        }
+    }
+
+    private Partition localPartition(int partitionId) {
+        Partition partition = partitions.computeIfAbsent(partitionId, Partition::ready);
+        partition.awaitReady(READ_TIMEOUT_MILLIS);
+        return partition;
+    }
+
+    private AccountReply forward(NodeAddress owner, AccountRequest request) {
+        if (request.hops() >= MAX_FORWARD_HOPS) {
+            return AccountReply.failure(ClusterProtocol.STATUS_ERROR,
+                    "Too many forwarding hops for account " + request.accountNumber());
+        }
+        AccountRequest forwarded = request.forwarded();
+        return call(owner, forwarded::writeTo, AccountReply::readFrom);
+    }
+
+    private void pullPartition(NodeAddress previousOwner, int partitionId, List<NodeAddress> members) {
+        Partition target = partitions.get(partitionId);
+        call(previousOwner, out -> {
+            out.writeByte(ClusterProtocol.HANDOFF);
+            out.writeInt(partitionId);
+            ClusterProtocol.writeMembers(out, members);
+        }, in -> {
+            int accounts = in.readInt();
+            for (int i = 0; i < accounts; i++) {
+                Account account = ClusterProtocol.readAccount(in);
+                target.accounts.put(account.getAccountNumber(), account);
+            }
+            int prepared = in.readInt();
+            for (int i = 0; i < prepared; i++) {
+                String key = in.readUTF();
+                target.addPrepared(key, new PreparedTransfer(in.readUTF(), in.readLong(), in.readLong()));
+            }
+            readRemembered(in, target.committedTransfers);
+            readRemembered(in, target.abortedTransfers);
+            return null;
+        });
+        target.markReady();
+    }
+
+    private void handOff(DataInputStream in, DataOutputStream out) throws IOException {
+        int partitionId = in.readInt();
+        List<NodeAddress> members = ClusterProtocol.readMembers(in);
+
+        Partition partition = partitions.computeIfAbsent(partitionId, Partition::ready);
+        partition.lock.writeLock().lock();
+        try {
+            ring = ring.withMembers(members);
+            partition.handedOff = true;
+            partitions.remove(partitionId, partition);
+
+            out.writeInt(partition.accounts.size());
+            for (Account account : partition.accounts.values()) {
+                ClusterProtocol.writeAccount(out, account);
+            }
+            out.writeInt(partition.preparedTransfers.size());
+            for (Map.Entry<String, PreparedTransfer> entry : partition.preparedTransfers.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue().accountNumber());
+                out.writeLong(entry.getValue().delta());
+                out.writeLong(entry.getValue().preparedAtMillis());
+            }
+            writeRemembered(out, partition.committedTransfers);
+            writeRemembered(out, partition.abortedTransfers);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+        logger.info("Node {} handed partition {} over to {}", nodeId, partitionId, ring.ownerOf(partitionId).nodeId());
+    }
+
+    private static void writeRemembered(DataOutputStream out, Map<String, Long> remembered) throws IOException {
+        // Snapshot first: the recovery sweep prunes without the partition lock.
+        Map<String, Long> snapshot = new HashMap<>(remembered);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, Long> entry : snapshot.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    private static void readRemembered(DataInputStream in, Map<String, Long> remembered) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            remembered.put(in.readUTF(), in.readLong());
+        }
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                try {
+                    handlers.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    // Accepted while closing; drop it so the caller fails now instead of timing out.
+                    socket.close();
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("Node {} failed to accept connection", nodeId, e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            byte op = in.readByte();
+            switch (op) {
+                case ClusterProtocol.MEMBERS:
+                    ClusterProtocol.writeMembers(out, ring.members());
+                    break;
+                case ClusterProtocol.UPDATE_MEMBERS:
+                    ring = ring.withMembers(ClusterProtocol.readMembers(in));
+                    out.writeByte(ClusterProtocol.STATUS_OK);
+                    break;
+                case ClusterProtocol.HANDOFF:
+                    handOff(in, out);
+                    break;
+                case ClusterProtocol.OUTCOME:
+                    out.writeByte(localOutcome(in.readUTF()));
+                    break;
+                default:
+                    handle(AccountRequest.readFrom(op, in)).writeTo(out);
+            }
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            if (running) {
+                logger.warn("Node {} failed to serve request", nodeId, e);
+            }
+        }
+    }
+
+    private <T> T call(NodeAddress target, IoWriter writer, IoReader<T> reader) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(target.host(), target.port()), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            writer.write(out);
+            out.flush();
+            return reader.read(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+        } catch (IOException e) {
+            throw new ClusterException("Call from " + nodeId + " to " + target.nodeId() + " failed", e);
+        }
+    }
+
+    private static long expectOk(AccountReply reply) {
+        switch (reply.status()) {
+            case ClusterProtocol.STATUS_OK:
+                return reply.value();
+            case ClusterProtocol.STATUS_INSUFFICIENT_FUNDS:
+                throw new InsufficientFundsException(reply.message());
+            case ClusterProtocol.STATUS_INVALID_AMOUNT:
+                throw new InvalidAmountException(reply.message());
+            case ClusterProtocol.STATUS_NOT_FOUND:
+                throw new AccountNotFoundException(reply.message());
+            default:
+                throw new ClusterException(reply.message());
+        }
+    }
+
+    private static Account accountOrThrow(Partition partition, String accountNumber) {
+        Account account = partition.accounts.get(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException("Account not found: " + accountNumber);
+        }
+        return account;
+    }
+
+    private static long toAmount(long amount) {
+        if (amount <= 0) {
+            throw new InvalidAmountException("Amount must be positive. Attempted amount: " + amount);
+        }
+        return amount;
+    }
+
+    private static String preparedKey(AccountRequest request) {
+        return request.txId() + ":" + request.accountNumber();
+    }
+
+    private static final class Outcome {
+        final String txId;
+        final byte op;
+        final List<String> accounts;
+        final Set<String> remaining;
+
+        Outcome(String txId, byte op, List<String> accounts) {
+            this.txId = txId;
+            this.op = op;
+            this.accounts = accounts;
+            this.remaining = new LinkedHashSet<>(accounts);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IoReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,158 @@
+package org.skybank.core.infrastructure.cluster;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+final class ClusterProtocol {
+    static final byte OPEN = 1;
+    static final byte DEPOSIT = 2;
+    static final byte WITHDRAW = 3;
+    static final byte BALANCE = 4;
+    static final byte PREPARE = 5;
+    static final byte COMMIT = 6;
+    static final byte ABORT = 7;
+    static final byte FORGET = 8;
+    static final byte MEMBERS = 20;
+    static final byte UPDATE_MEMBERS = 21;
+    static final byte HANDOFF = 22;
+    static final byte OUTCOME = 23;
+    // Reply to OUTCOME while the coordinator has not decided yet.
+    static final byte UNDECIDED = 0;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_INSUFFICIENT_FUNDS = 1;
+    static final byte STATUS_INVALID_AMOUNT = 2;
+    static final byte STATUS_NOT_FOUND = 3;
+    static final byte STATUS_ERROR = 4;
+
+    private ClusterProtocol() {
+    }
+
+    record AccountRequest(byte op, String accountNumber, long amount, String txId, int hops) {
+
+        AccountRequest forwarded() {
+            return new AccountRequest(op, accountNumber, amount, txId, hops + 1);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(op);
+            out.writeUTF(accountNumber);
+            out.writeLong(amount);
+            out.writeUTF(txId != null ? txId : "");
+            out.writeInt(hops);
+        }
+
+        static AccountRequest readFrom(byte op, DataInputStream in) throws IOException {
+            String accountNumber = in.readUTF();
+            long amount = in.readLong();
+            String txId = in.readUTF();
+            int hops = in.readInt();
+            return new AccountRequest(op, accountNumber, amount, txId.isEmpty() ? null : txId, hops);
+        }
+    }
+
+    record AccountReply(byte status, long value, String message) {
+
+        static AccountReply ok(long value) {
+            return new AccountReply(STATUS_OK, value, "");
+        }
+
+        static AccountReply failure(byte status, String message) {
+            return new AccountReply(status, 0, message);
+        }
+
+        boolean isOk() {
+            return status == STATUS_OK;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(status);
+            out.writeLong(value);
+            out.writeUTF(message != null ? message : "");
+        }
+
+        static AccountReply readFrom(DataInputStream in) throws IOException {
+            return new AccountReply(in.readByte(), in.readLong(), in.readUTF());
+        }
+    }
+
+    record PreparedTransfer(String accountNumber, long delta, long preparedAtMillis) {}
+
+    static void writeMembers(DataOutputStream out, List<NodeAddress> members) throws IOException {
+        out.writeInt(members.size());
+        for (NodeAddress member : members) {
+            out.writeUTF(member.nodeId());
+            out.writeUTF(member.host());
+            out.writeInt(member.port());
+        }
+    }
+
+    static List<NodeAddress> readMembers(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<NodeAddress> members = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            members.add(new NodeAddress(in.readUTF(), in.readUTF(), in.readInt()));
+        }
+        return members;
+    }
+
+    static void writeAccount(DataOutputStream out, Account account) throws IOException {
+        synchronized (account) {
+            out.writeUTF(account.getAccountNumber());
+            out.writeLong(account.getLastEndOfDay());
+            out.writeInt(account.getHotStripes());
+            out.writeInt(account.getHotMaxPending());
+            // Folds pending hot-account credits, so the history below is complete.
+            long[] balances = account.getBalances();
+            out.writeByte(balances.length);
+            for (long balance : balances) {
+                out.writeLong(balance);
+            }
+            List<Transaction> transactions = account.getTransactions();
+            out.writeInt(transactions.size());
+            for (Transaction transaction : transactions) {
+                out.writeLong(transaction.getDate().getTime());
+                out.writeByte(transaction.getCurrency().code());
+                out.writeLong(transaction.getChainHash());
+                out.writeLong(transaction.getAmount());
+                out.writeLong(transaction.getBalance());
+            }
+        }
+    }
+
+    static Account readAccount(DataInputStream in) throws IOException {
+        String accountNumber = in.readUTF();
+        Account account = new Account(accountNumber, 0, null);
+        account.setLastEndOfDay(in.readLong());
+        int hotStripes = in.readInt();
+        int hotMaxPending = in.readInt();
+        int currencies = in.readByte();
+        for (int code = 0; code < currencies; code++) {
+            account.setBalance(CurrencyCode.fromCode(code), in.readLong());
+        }
+        int size = in.readInt();
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Date date = new Date(in.readLong());
+            CurrencyCode currency = CurrencyCode.fromCode(in.readByte());
+            long chainHash = in.readLong();
+            transactions.add(new Transaction(date, in.readLong(), in.readLong(), currency, chainHash));
+        }
+        account.setTransactions(transactions);
+        if (!transactions.isEmpty()) {
+            account.setChainHash(transactions.get(transactions.size() - 1).getChainHash());
+        }
+        if (hotStripes > 0) {
+            account.enableHotMode(hotStripes, hotMaxPending);
+        }
+        return account;
+    }
+}
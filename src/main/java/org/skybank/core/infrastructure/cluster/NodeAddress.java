@@ -0,0 +1,7 @@
+package org.skybank.core.infrastructure.cluster;
+
+public record NodeAddress(
+        String nodeId,
+        String host,
+        int port
+) {}
@@ -0,0 +1,85 @@
+package org.skybank.core.infrastructure.cluster;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.infrastructure.cluster.ClusterProtocol.PreparedTransfer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Account state for one partition owned by a node. Operations hold the read lock; a handoff to a
+ * new owner takes the write lock so no operation observes a half-moved partition.
+ */
+final class Partition {
+    final int id;
+    final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, PreparedTransfer> preparedTransfers = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, Long> reservedByAccount = new ConcurrentHashMap<>();
+    // Keys of transfers already committed here, so a retried COMMIT is acknowledged, not refused,
+    // and of transfers aborted here, so a PREPARE arriving after its ABORT is refused. Both map to
+    // the time they were recorded; committed keys are dropped when the coordinator says FORGET.
+    final ConcurrentMap<String, Long> committedTransfers = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, Long> abortedTransfers = new ConcurrentHashMap<>();
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CountDownLatch ready;
+    volatile boolean handedOff;
+
+    private Partition(int id, boolean ready) {
+        this.id = id;
+        this.ready = new CountDownLatch(ready ? 0 : 1);
+    }
+
+    static Partition ready(int id) {
+        return new Partition(id, true);
+    }
+
+    static Partition pending(int id) {
+        return new Partition(id, false);
+    }
+
+    void markReady() {
+        ready.countDown();
+    }
+
+    void awaitReady(long timeoutMillis) {
+        try {
+            if (!ready.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ClusterException("Partition " + id + " was not handed over in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClusterException("Interrupted while waiting for partition " + id, e);
+        }
+    }
+
+    long reserved(String accountNumber) {
+        return reservedByAccount.getOrDefault(accountNumber, 0L);
+    }
+
+    void addPrepared(String key, PreparedTransfer transfer) {
+        preparedTransfers.put(key, transfer);
+        if (transfer.delta() < 0) {
+            reservedByAccount.merge(transfer.accountNumber(), -transfer.delta(), Long::sum);
+        }
+    }
+
+    PreparedTransfer removePrepared(String key) {
+        PreparedTransfer transfer = preparedTransfers.remove(key);
+        if (transfer != null && transfer.delta() < 0) {
+            reservedByAccount.computeIfPresent(transfer.accountNumber(),
+                    (account, reserved) -> reserved + transfer.delta() == 0 ? null : reserved + transfer.delta());
+        }
+        return transfer;
+    }
+
+    /**
+     * Forgets committed and aborted keys recorded before {@code cutoffMillis}.
+     */
+    void pruneRemembered(long cutoffMillis) {
+        committedTransfers.values().removeIf(recordedAt -> recordedAt < cutoffMillis);
+        abortedTransfers.values().removeIf(recordedAt -> recordedAt < cutoffMillis);
+    }
+}
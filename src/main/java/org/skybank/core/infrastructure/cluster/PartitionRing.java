@@ -0,0 +1,97 @@
+package org.skybank.core.infrastructure.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable assignment of account numbers to a fixed number of partitions, and of partitions to
+ * nodes through a consistent-hash ring with virtual nodes. Adding a node only moves the
+ * partitions whose ring position falls to the newcomer.
+ */
+public final class PartitionRing {
+    private final int partitionCount;
+    private final int virtualNodes;
+    private final List<NodeAddress> members;
+    private final NodeAddress[] owners;
+
+    public PartitionRing(int partitionCount, int virtualNodes, Collection<NodeAddress> members) {
+        if (partitionCount <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("Partition and virtual node counts must be positive");
+        }
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("A ring needs at least one member");
+        }
+        this.partitionCount = partitionCount;
+        this.virtualNodes = virtualNodes;
+        List<NodeAddress> sorted = new ArrayList<>(members);
+        sorted.sort(Comparator.comparing(NodeAddress::nodeId));
+        this.members = List.copyOf(sorted);
+        this.owners = assignOwners();
+    }
+
+    public int partitionOf(String accountNumber) {
+        return (int) Long.remainderUnsigned(hash(accountNumber), partitionCount);
+    }
+
+    public NodeAddress ownerOf(int partition) {
+        return owners[partition];
+    }
+
+    public NodeAddress ownerOfAccount(String accountNumber) {
+        return owners[partitionOf(accountNumber)];
+    }
+
+    public PartitionRing withMember(NodeAddress member) {
+        List<NodeAddress> next = new ArrayList<>(members);
+        next.removeIf(existing -> existing.nodeId().equals(member.nodeId()));
+        next.add(member);
+        return new PartitionRing(partitionCount, virtualNodes, next);
+    }
+
+    public PartitionRing withMembers(Collection<NodeAddress> next) {
+        return new PartitionRing(partitionCount, virtualNodes, next);
+    }
+
+    public List<NodeAddress> members() {
+        return members;
+    }
+
+    public int partitionCount() {
+        return partitionCount;
+    }
+
+    private NodeAddress[] assignOwners() {
+        TreeMap<Long, NodeAddress> ring = new TreeMap<>();
+        for (NodeAddress member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member.nodeId() + "#" + i), member);
+            }
+        }
+        NodeAddress[] assigned = new NodeAddress[partitionCount];
+        for (int partition = 0; partition < partitionCount; partition++) {
+            Map.Entry<Long, NodeAddress> entry = ring.ceilingEntry(hash("partition-" + partition));
+            assigned[partition] = entry != null ? entry.getValue() : ring.firstEntry().getValue();
+        }
+        return assigned;
+    }
+
+    static long hash(String key) {
+        // FNV-1a followed by the murmur3 finalizer for a well-spread 64-bit position.
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
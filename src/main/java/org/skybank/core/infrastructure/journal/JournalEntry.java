@@ -0,0 +1,42 @@
+package org.skybank.core.infrastructure.journal;
+
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public record JournalEntry(
+        long position,
+        JournalEntryType type,
+        String accountNumber,
+        CurrencyCode currency,
+        long timestampMillis,
+        long amount,
+        long balance,
+        long recordedAtMicros
+) {
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(position);
+        out.writeByte(type.code());
+        out.writeUTF(accountNumber);
+        out.writeByte(currency.code());
+        out.writeLong(timestampMillis);
+        out.writeLong(amount);
+        out.writeLong(balance);
+        out.writeLong(recordedAtMicros);
+    }
+
+    public static JournalEntry readFrom(DataInputStream in) throws IOException {
+        return new JournalEntry(
+                in.readLong(),
+                JournalEntryType.fromCode(in.readByte()),
+                in.readUTF(),
+                CurrencyCode.fromCode(in.readByte()),
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package org.skybank.core.infrastructure.journal;
+
+public enum JournalEntryType {
+    OPEN((byte) 1),
+    DEPOSIT((byte) 2),
+    WITHDRAWAL((byte) 3);
+
+    private final byte code;
+
+    JournalEntryType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static JournalEntryType fromCode(byte code) {
+        for (JournalEntryType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown journal entry type: " + code);
+    }
+}
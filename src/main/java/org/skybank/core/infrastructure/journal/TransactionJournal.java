@@ -0,0 +1,243 @@
+package org.skybank.core.infrastructure.journal;
+
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only, totally ordered log of account events. Positions start at 1. Appends are
+ * serialized; readers are lock-free and only ever see fully published entries. When opened on a
+ * file, every entry is written through and the journal is replayed from it on the next start.
+ */
+public class TransactionJournal implements AccountEventListener, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionJournal.class);
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // Per journal, so a thread's read-your-writes position never refers to another journal.
+    private final ThreadLocal<long[]> lastWrittenPosition = ThreadLocal.withInitial(() -> new long[1]);
+    private final Object appendLock = new Object();
+    private final Object signal = new Object();
+    private final DataOutputStream fileOut;
+
+    private volatile JournalEntry[][] chunks = new JournalEntry[16][];
+    private volatile long size;
+    private volatile int waiters;
+
+    public TransactionJournal() {
+        this.fileOut = null;
+    }
+
+    public TransactionJournal(Path file) {
+        try {
+            if (Files.exists(file)) {
+                replay(file);
+            }
+            this.fileOut = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal " + file, e);
+        }
+    }
+
+    @Override
+    public void onAccountOpened(Account account) {
+        append(JournalEntryType.OPEN, account.getAccountNumber(), System.currentTimeMillis(), 0, account.getBalance());
+    }
+
+    @Override
+    public void onTransaction(Account account, Transaction transaction) {
+        JournalEntryType type = transaction.getAmount() >= 0 ? JournalEntryType.DEPOSIT : JournalEntryType.WITHDRAWAL;
+        append(type, account.getAccountNumber(), transaction.getCurrency(), transaction.getDate().getTime(),
+                transaction.getAmount(), transaction.getBalance());
+    }
+
+    public long append(JournalEntryType type, String accountNumber, long timestampMillis, long amount, long balance) {
+        return append(type, accountNumber, CurrencyCode.BASE, timestampMillis, amount, balance);
+    }
+
+    public long append(JournalEntryType type, String accountNumber, CurrencyCode currency,
+                       long timestampMillis, long amount, long balance) {
+        long position;
+        synchronized (appendLock) {
+            position = size + 1;
+            JournalEntry entry = new JournalEntry(position, type, accountNumber, currency, timestampMillis, amount, balance, nowMicros());
+            store(entry);
+            if (fileOut != null) {
+                try {
+                    entry.writeTo(fileOut);
+                    fileOut.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write journal entry " + position, e);
+                }
+            }
+            size = position;
+        }
+        lastWrittenPosition.get()[0] = position;
+        if (waiters > 0) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+        return position;
+    }
+
+    public long lastPosition() {
+        return size;
+    }
+
+    public long lastPositionWrittenByCurrentThread() {
+        return lastWrittenPosition.get()[0];
+    }
+
+    public JournalEntry entry(long position) {
+        if (position < 1 || position > size) {
+            throw new IndexOutOfBoundsException("No journal entry at position " + position);
+        }
+        long index = position - 1;
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    public int read(long fromPosition, int maxEntries, List<JournalEntry> sink) {
+        long last = size;
+        long from = Math.max(1, fromPosition);
+        int count = 0;
+        for (long position = from; position <= last && count < maxEntries; position++, count++) {
+            sink.add(entry(position));
+        }
+        return count;
+    }
+
+    public boolean awaitPosition(long position, long timeoutMillis) {
+        if (size >= position) {
+            return true;
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (signal) {
+            waiters++;
+            try {
+                while (size < position) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    signal.wait(remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return size >= position;
+            } finally {
+                waiters--;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (fileOut == null) {
+            return;
+        }
+        synchronized (appendLock) {
+            try {
+                fileOut.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close journal file", e);
+            }
+        }
+    }
+
+    private void store(JournalEntry entry) {
+        long index = entry.position() - 1;
+        int chunk = (int) (index >>> CHUNK_SHIFT);
+        JournalEntry[][] table = chunks;
+        if (chunk >= table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        if (table[chunk] == null) {
+            table[chunk] = new JournalEntry[CHUNK_SIZE];
+        }
+        table[chunk][(int) (index & CHUNK_MASK)] = entry;
+        chunks = table;
+    }
+
+    private void replay(Path file) throws IOException {
+        long validBytes = 0;
+        try (CountingInputStream counting = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+             DataInputStream in = new DataInputStream(counting)) {
+            while (true) {
+                JournalEntry entry;
+                try {
+                    entry = JournalEntry.readFrom(in);
+                } catch (EOFException e) {
+                    break;
+                }
+                if (entry.position() != size + 1) {
+                    throw new IOException("Journal out of sequence at position " + entry.position());
+                }
+                store(entry);
+                size = entry.position();
+                validBytes = counting.count;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() > validBytes) {
+                logger.warn("Truncating torn journal tail at byte {}", validBytes);
+                channel.truncate(validBytes);
+            }
+        }
+        logger.info("Replayed {} journal entries from {}", size, file);
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
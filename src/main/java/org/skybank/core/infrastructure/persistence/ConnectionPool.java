@@ -0,0 +1,133 @@
+package org.skybank.core.infrastructure.persistence;
+
+import org.skybank.core.domain.exception.PersistenceException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fixed set of connections, opened up front with auto-commit off. Each connection keeps the
+ * statements prepared on it, so a statement is parsed once per connection rather than per use.
+ * A connection that was rolled back after a failed statement is closed rather than reused, and
+ * its slot opens a fresh connection the next time it is borrowed.
+ */
+final class ConnectionPool implements AutoCloseable {
+    private final String url;
+    private final List<PooledConnection> connections = new ArrayList<>();
+    private final BlockingQueue<PooledConnection> idle;
+
+    ConnectionPool(String url, int size) {
+        this.url = url;
+        this.idle = new ArrayBlockingQueue<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                PooledConnection pooled = new PooledConnection();
+                connections.add(pooled);
+                pooled.connect();
+                idle.add(pooled);
+            }
+        } catch (SQLException e) {
+            close();
+            throw new PersistenceException("Failed to connect to " + url, e);
+        }
+    }
+
+    PooledConnection borrow() {
+        PooledConnection pooled;
+        try {
+            pooled = idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting for a connection", e);
+        }
+        if (pooled.connection == null) {
+            try {
+                pooled.connect();
+            } catch (SQLException e) {
+                idle.add(pooled);
+                throw new PersistenceException("Failed to reconnect to " + url, e);
+            }
+        }
+        return pooled;
+    }
+
+    @Override
+    public void close() {
+        for (PooledConnection pooled : connections) {
+            pooled.disconnect();
+        }
+    }
+
+    final class PooledConnection implements AutoCloseable {
+        private Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private boolean broken;
+
+        private PooledConnection() {
+        }
+
+        private void connect() throws SQLException {
+            Connection opened = DriverManager.getConnection(url);
+            opened.setAutoCommit(false);
+            connection = opened;
+            broken = false;
+        }
+
+        private void disconnect() {
+            statements.clear();
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // closing anyway
+                }
+                connection = null;
+            }
+        }
+
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        void commit() throws SQLException {
+            connection.commit();
+        }
+
+        /**
+         * Rolls back after a failed statement. The connection may be left in any state, so it is
+         * closed when returned and the slot reconnects on its next borrow.
+         */
+        void rollback() {
+            broken = true;
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+                // discarded below anyway
+            }
+        }
+
+        /**
+         * Returns the connection to the pool, or closes it after a failure.
+         */
+        @Override
+        public void close() {
+            if (broken) {
+                disconnect();
+            }
+            idle.add(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.skybank.core.infrastructure.persistence;
+
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.repository.AccountRepository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class InMemoryAccountRepository implements AccountRepository {
+    private final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
+    private final AccountEventListener eventListener;
+
+    public InMemoryAccountRepository() {
+        this(null);
+    }
+
+    public InMemoryAccountRepository(AccountEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account previous = accounts.put(account.getAccountNumber(), account);
+        if (eventListener != null) {
+            account.setEventListener(eventListener);
+            if (previous == null) {
+                eventListener.onAccountOpened(account);
+            }
+        }
+        return account;
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        if (accountNumber == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(accounts.get(accountNumber));
+    }
+
+    @Override
+    public Optional<Account> delete(String accountNumber) {
+        return Optional.ofNullable(accounts.remove(accountNumber));
+    }
+
+    @Override
+    public Collection<Account> findAll() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    @Override
+    public int count() {
+        return accounts.size();
+    }
+}
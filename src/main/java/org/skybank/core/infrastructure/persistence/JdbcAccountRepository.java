@@ -0,0 +1,587 @@
+package org.skybank.core.infrastructure.persistence;
+
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.event.CompositeAccountEventListener;
+import org.skybank.core.domain.exception.PersistenceException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AccountRepository} backed by an embedded JDBC database (H2 in file mode by default).
+ * Accounts are loaded on first use and then shared like in {@link InMemoryAccountRepository}, so
+ * the domain keeps mutating one object per account.
+ * <p>
+ * Opening or saving an account is written through. Transactions are written behind: every one
+ * appended to a saved account is queued and a single writer turns the queue into batched inserts,
+ * with the balance rows coalesced to one upsert per account and currency, one commit per batch.
+ * An account's end-of-day postings are queued as one group together with the business date they
+ * close, and a group is never split across commits. {@link #flush()} waits until everything
+ * queued so far is committed; a crash can lose what was still queued, but never half a batch.
+ * <p>
+ * A batch that fails is retried a few times. If it still fails the writer stops, keeping the
+ * batch unwritten rather than leaving a gap in the history, and every later write, flush or
+ * transaction on a stored account fails with the cause until the repository is reopened; the
+ * transaction itself has already been applied in memory. A full queue holds depositors back, but
+ * they wake up regularly to check whether the store still accepts writes, so a stopped writer or
+ * {@link #close()} never leaves them blocked.
+ */
+public class JdbcAccountRepository implements AccountRepository, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(JdbcAccountRepository.class);
+    private static final int WRITE_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 100;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 100;
+    private static final long NO_END_OF_DAY = Long.MIN_VALUE;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS accounts (account_number VARCHAR(64) PRIMARY KEY, opened_at BIGINT NOT NULL,"
+                    + " last_end_of_day BIGINT NOT NULL DEFAULT 0)",
+            "ALTER TABLE accounts ADD COLUMN IF NOT EXISTS last_end_of_day BIGINT NOT NULL DEFAULT 0",
+            "CREATE TABLE IF NOT EXISTS balances (account_number VARCHAR(64) NOT NULL, currency SMALLINT NOT NULL,"
+                    + " balance BIGINT NOT NULL, PRIMARY KEY (account_number, currency))",
+            "CREATE TABLE IF NOT EXISTS transactions (account_number VARCHAR(64) NOT NULL, seq INT NOT NULL,"
+                    + " booked_at BIGINT NOT NULL, currency SMALLINT NOT NULL, amount BIGINT NOT NULL,"
+                    + " balance BIGINT NOT NULL, chain_hash BIGINT NOT NULL, PRIMARY KEY (account_number, seq))"
+    };
+    private static final String FIND_ACCOUNT = "SELECT last_end_of_day FROM accounts WHERE account_number = ?";
+    private static final String INSERT_ACCOUNT = "INSERT INTO accounts (account_number, opened_at, last_end_of_day) VALUES (?, ?, ?)";
+    private static final String UPDATE_END_OF_DAY = "UPDATE accounts SET last_end_of_day = ? WHERE account_number = ?";
+    private static final String FIND_BALANCES = "SELECT currency, balance FROM balances WHERE account_number = ?";
+    private static final String MERGE_BALANCE = "MERGE INTO balances (account_number, currency, balance) KEY (account_number, currency) VALUES (?, ?, ?)";
+    private static final String FIND_TRANSACTIONS = "SELECT booked_at, amount, balance, currency, chain_hash FROM transactions"
+            + " WHERE account_number = ? ORDER BY seq";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions (account_number, seq, booked_at, currency, amount, balance, chain_hash)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_ACCOUNT = "DELETE FROM accounts WHERE account_number = ?";
+    private static final String DELETE_BALANCES = "DELETE FROM balances WHERE account_number = ?";
+    private static final String DELETE_TRANSACTIONS = "DELETE FROM transactions WHERE account_number = ?";
+    private static final String ACCOUNT_NUMBERS = "SELECT account_number FROM accounts";
+    private static final String COUNT_ACCOUNTS = "SELECT COUNT(*) FROM accounts";
+
+    private final ConnectionPool pool;
+    private final JdbcRepositoryPolicy policy;
+    private final AccountEventListener eventListener;
+    private final AccountEventListener accountListener;
+    private final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
+    private final BlockingQueue<Write> queue;
+    private final AtomicLong queued = new AtomicLong();
+    private final Object progress = new Object();
+    private final Thread writer;
+    private long written;
+    private volatile PersistenceException failure;
+    private volatile boolean closed;
+
+    public JdbcAccountRepository(String url, JdbcRepositoryPolicy policy) {
+        this(url, policy, null);
+    }
+
+    public JdbcAccountRepository(String url, JdbcRepositoryPolicy policy, AccountEventListener eventListener) {
+        this.pool = new ConnectionPool(url, policy.poolSize());
+        this.policy = policy;
+        this.eventListener = eventListener;
+        AccountEventListener persister = new Persister();
+        // The persister goes last so the other listeners still see a change it fails to queue.
+        this.accountListener = eventListener == null ? persister : new CompositeAccountEventListener(eventListener, persister);
+        this.queue = new ArrayBlockingQueue<>(policy.queueCapacity());
+        createSchema();
+        this.writer = new Thread(this::writeLoop, "jdbc-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Opens (or creates) an H2 database stored under {@code directory}.
+     */
+    public static JdbcAccountRepository h2(Path directory, JdbcRepositoryPolicy policy, AccountEventListener eventListener) {
+        return new JdbcAccountRepository("jdbc:h2:file:" + directory.resolve("skybank").toAbsolutePath(), policy, eventListener);
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account previous = accounts.put(account.getAccountNumber(), account);
+        if (previous != account) {
+            // Nothing can be appended to the account while its row and history are written.
+            synchronized (account) {
+                persist(account);
+                account.setEventListener(accountListener);
+            }
+            if (previous == null && eventListener != null) {
+                eventListener.onAccountOpened(account);
+            }
+        }
+        return account;
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        if (accountNumber == null) {
+            return Optional.empty();
+        }
+        Account account = accounts.get(accountNumber);
+        if (account == null) {
+            account = accounts.computeIfAbsent(accountNumber, this::load);
+        }
+        return Optional.ofNullable(account);
+    }
+
+    @Override
+    public Optional<Account> delete(String accountNumber) {
+        Optional<Account> account = findByAccountNumber(accountNumber);
+        if (account.isEmpty()) {
+            return account;
+        }
+        accounts.remove(accountNumber);
+        account.get().setEventListener(eventListener);
+        flush();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                deleteRows(connection, accountNumber);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to delete account " + accountNumber, e);
+            }
+        }
+        return account;
+    }
+
+    @Override
+    public Collection<Account> findAll() {
+        List<String> numbers = new ArrayList<>();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try (ResultSet rows = connection.prepare(ACCOUNT_NUMBERS).executeQuery()) {
+                while (rows.next()) {
+                    numbers.add(rows.getString(1));
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to list accounts", e);
+            }
+        }
+        List<Account> result = new ArrayList<>(numbers.size());
+        for (String number : numbers) {
+            findByAccountNumber(number).ifPresent(result::add);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public int count() {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try (ResultSet rows = connection.prepare(COUNT_ACCOUNTS).executeQuery()) {
+                rows.next();
+                int count = rows.getInt(1);
+                connection.commit();
+                return count;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to count accounts", e);
+            }
+        }
+    }
+
+    /**
+     * Blocks until every write queued before the call is committed.
+     *
+     * @throws PersistenceException if a batch could not be written
+     */
+    @Override
+    public void flush() {
+        long target = queued.get();
+        synchronized (progress) {
+            while (written < target && failure == null) {
+                try {
+                    progress.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PersistenceException("Interrupted while flushing", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes (single transactions or end-of-day groups) queued but not yet committed.
+     */
+    public long backlog() {
+        synchronized (progress) {
+            return queued.get() - written;
+        }
+    }
+
+    /**
+     * Writes out everything queued and closes the database connections.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pool.close();
+        if (failure != null) {
+            logger.error("Closed with unwritten transactions", failure);
+        }
+    }
+
+    private void createSchema() {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                for (String ddl : SCHEMA) {
+                    connection.prepare(ddl).execute();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to create the schema", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the account row, balances and history, replacing whatever was stored under the same
+     * account number. The caller holds the account's monitor.
+     */
+    private void persist(Account account) {
+        String accountNumber = account.getAccountNumber();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement find = connection.prepare(FIND_ACCOUNT);
+                find.setString(1, accountNumber);
+                boolean exists;
+                try (ResultSet rows = find.executeQuery()) {
+                    exists = rows.next();
+                }
+                if (exists) {
+                    deleteRows(connection, accountNumber);
+                }
+                PreparedStatement insert = connection.prepare(INSERT_ACCOUNT);
+                insert.setString(1, accountNumber);
+                insert.setLong(2, System.currentTimeMillis());
+                insert.setLong(3, account.getLastEndOfDay());
+                insert.executeUpdate();
+
+                long[] balances = account.getBalances();
+                PreparedStatement merge = connection.prepare(MERGE_BALANCE);
+                for (CurrencyCode currency : CurrencyCode.values()) {
+                    if (currency == CurrencyCode.BASE || balances[currency.code()] != 0) {
+                        merge.setString(1, accountNumber);
+                        merge.setInt(2, currency.code());
+                        merge.setLong(3, balances[currency.code()]);
+                        merge.addBatch();
+                    }
+                }
+                merge.executeBatch();
+
+                List<Transaction> history = account.getTransactionSnapshot();
+                if (!history.isEmpty()) {
+                    PreparedStatement rows = connection.prepare(INSERT_TRANSACTION);
+                    for (int i = 0; i < history.size(); i++) {
+                        bind(rows, new Row(accountNumber, i, history.get(i)));
+                        rows.addBatch();
+                        if ((i + 1) % policy.batchSize() == 0) {
+                            rows.executeBatch();
+                        }
+                    }
+                    rows.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to save account " + accountNumber, e);
+            }
+        }
+    }
+
+    private Account load(String accountNumber) {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement find = connection.prepare(FIND_ACCOUNT);
+                find.setString(1, accountNumber);
+                long lastEndOfDay;
+                try (ResultSet rows = find.executeQuery()) {
+                    if (!rows.next()) {
+                        connection.commit();
+                        return null;
+                    }
+                    lastEndOfDay = rows.getLong(1);
+                }
+
+                List<Transaction> history = new ArrayList<>();
+                PreparedStatement transactions = connection.prepare(FIND_TRANSACTIONS);
+                transactions.setString(1, accountNumber);
+                try (ResultSet rows = transactions.executeQuery()) {
+                    while (rows.next()) {
+                        history.add(new Transaction(new Date(rows.getLong(1)), rows.getLong(2), rows.getLong(3),
+                                CurrencyCode.fromCode(rows.getInt(4)), rows.getLong(5)));
+                    }
+                }
+                Account account = new Account(accountNumber, 0, history);
+                account.setLastEndOfDay(lastEndOfDay);
+                if (!history.isEmpty()) {
+                    account.setChainHash(history.get(history.size() - 1).getChainHash());
+                }
+
+                PreparedStatement balances = connection.prepare(FIND_BALANCES);
+                balances.setString(1, accountNumber);
+                try (ResultSet rows = balances.executeQuery()) {
+                    while (rows.next()) {
+                        account.setBalance(CurrencyCode.fromCode(rows.getInt(1)), rows.getLong(2));
+                    }
+                }
+                connection.commit();
+                account.setEventListener(accountListener);
+                return account;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new PersistenceException("Failed to load account " + accountNumber, e);
+            }
+        }
+    }
+
+    private static void deleteRows(ConnectionPool.PooledConnection connection, String accountNumber) throws SQLException {
+        for (String sql : new String[]{DELETE_TRANSACTIONS, DELETE_BALANCES, DELETE_ACCOUNT}) {
+            PreparedStatement delete = connection.prepare(sql);
+            delete.setString(1, accountNumber);
+            delete.executeUpdate();
+        }
+    }
+
+    private void enqueue(Write write) {
+        queued.incrementAndGet();
+        try {
+            while (true) {
+                PersistenceException rejected = rejection();
+                if (rejected != null) {
+                    throw rejected;
+                }
+                if (queue.offer(write, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued.decrementAndGet();
+            throw new PersistenceException("Interrupted while queueing a transaction", e);
+        } catch (PersistenceException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private PersistenceException rejection() {
+        if (failure != null) {
+            return new PersistenceException("The store stopped accepting writes", failure);
+        }
+        if (closed) {
+            return new PersistenceException("The repository is closed");
+        }
+        return null;
+    }
+
+    private void writeLoop() {
+        List<Write> batch = new ArrayList<>(policy.batchSize());
+        while (true) {
+            Write first;
+            try {
+                first = queue.poll(50, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (closed && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            int rows = first.rows().length;
+            Write next;
+            while (rows < policy.batchSize() && (next = queue.poll()) != null) {
+                batch.add(next);
+                rows += next.rows().length;
+            }
+            if (!writeWithRetry(batch)) {
+                return;
+            }
+            synchronized (progress) {
+                written += batch.size();
+                progress.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Returns false, with {@link #failure} set, once the batch has failed every attempt.
+     */
+    private boolean writeWithRetry(List<Write> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeBatch(batch);
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    logger.error("Failed to write a batch of {} after {} attempts; the writer stops", batch.size(), attempt, e);
+                    synchronized (progress) {
+                        failure = new PersistenceException("Failed to write a batch of " + batch.size(), e);
+                        progress.notifyAll();
+                    }
+                    return false;
+                }
+                logger.warn("Failed to write a batch of {} (attempt {} of {}): {}", batch.size(), attempt, WRITE_ATTEMPTS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<Write> batch) throws SQLException {
+        Map<BalanceKey, Long> balances = new LinkedHashMap<>();
+        Map<String, Long> endOfDays = new LinkedHashMap<>();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement insert = connection.prepare(INSERT_TRANSACTION);
+                for (Write write : batch) {
+                    for (Row row : write.rows()) {
+                        bind(insert, row);
+                        insert.addBatch();
+                        balances.put(new BalanceKey(row.accountNumber, row.currency), row.balance);
+                    }
+                    if (write.endOfDay() != NO_END_OF_DAY) {
+                        endOfDays.put(write.accountNumber(), write.endOfDay());
+                    }
+                }
+                insert.executeBatch();
+
+                PreparedStatement merge = connection.prepare(MERGE_BALANCE);
+                for (Map.Entry<BalanceKey, Long> balance : balances.entrySet()) {
+                    merge.setString(1, balance.getKey().accountNumber());
+                    merge.setInt(2, balance.getKey().currency());
+                    merge.setLong(3, balance.getValue());
+                    merge.addBatch();
+                }
+                merge.executeBatch();
+
+                if (!endOfDays.isEmpty()) {
+                    PreparedStatement update = connection.prepare(UPDATE_END_OF_DAY);
+                    for (Map.Entry<String, Long> endOfDay : endOfDays.entrySet()) {
+                        update.setLong(1, endOfDay.getValue());
+                        update.setString(2, endOfDay.getKey());
+                        update.addBatch();
+                    }
+                    update.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Row row) throws SQLException {
+        statement.setString(1, row.accountNumber);
+        statement.setInt(2, row.seq);
+        statement.setLong(3, row.bookedAt);
+        statement.setInt(4, row.currency);
+        statement.setLong(5, row.amount);
+        statement.setLong(6, row.balance);
+        statement.setLong(7, row.chainHash);
+    }
+
+    private final class Persister implements AccountEventListener {
+        @Override
+        public void onAccountOpened(Account account) {
+        }
+
+        // Refuses changes up front once the writer has stopped or the repository is closed.
+        @Override
+        public void beforeChange(Account account) {
+            PersistenceException rejected = rejection();
+            if (rejected != null) {
+                throw rejected;
+            }
+        }
+
+        // Runs under the account's monitor right after the transaction was appended.
+        @Override
+        public void onTransaction(Account account, Transaction transaction) {
+            Row row = new Row(account.getAccountNumber(), account.getTransactions().size() - 1, transaction);
+            enqueue(new Write(account.getAccountNumber(), new Row[] {row}, NO_END_OF_DAY));
+        }
+
+        // Also under the monitor, after the postings were appended and the date recorded.
+        @Override
+        public void onEndOfDay(Account account, List<Transaction> postings, long epochDay) {
+            int firstSeq = account.getTransactions().size() - postings.size();
+            Row[] rows = new Row[postings.size()];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = new Row(account.getAccountNumber(), firstSeq + i, postings.get(i));
+            }
+            enqueue(new Write(account.getAccountNumber(), rows, epochDay));
+        }
+    }
+
+    /**
+     * One queue entry, committed as a unit: a single transaction, or an account's end-of-day
+     * postings together with the business date they close.
+     */
+    private record Write(String accountNumber, Row[] rows, long endOfDay) {
+    }
+
+    private static final class Row {
+        final String accountNumber;
+        final int seq;
+        final long bookedAt;
+        final int currency;
+        final long amount;
+        final long balance;
+        final long chainHash;
+
+        Row(String accountNumber, int seq, Transaction transaction) {
+            this.accountNumber = accountNumber;
+            this.seq = seq;
+            this.bookedAt = transaction.getDate().getTime();
+            this.currency = transaction.getCurrency().code();
+            this.amount = transaction.getAmount();
+            this.balance = transaction.getBalance();
+            this.chainHash = transaction.getChainHash();
+        }
+    }
+
+    private record BalanceKey(String accountNumber, int currency) {
+    }
+}
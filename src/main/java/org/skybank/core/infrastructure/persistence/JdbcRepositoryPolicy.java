@@ -0,0 +1,24 @@
+package org.skybank.core.infrastructure.persistence;
+
+/**
+ * @param poolSize      connections kept open to the database
+ * @param batchSize     transaction rows written per batch and commit; an account's end-of-day
+ *                      postings are never split, so a batch can exceed this by one such group
+ * @param queueCapacity writes (transactions or end-of-day groups) waiting before depositors are
+ *                      held back
+ */
+public record JdbcRepositoryPolicy(
+        int poolSize,
+        int batchSize,
+        int queueCapacity
+) {
+    public JdbcRepositoryPolicy {
+        if (poolSize <= 0 || batchSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid JDBC repository policy");
+        }
+    }
+
+    public static JdbcRepositoryPolicy defaults() {
+        return new JdbcRepositoryPolicy(4, 1_024, 65_536);
+    }
+}
@@ -0,0 +1,112 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams the primary's journal to followers over loopback. A follower sends the first position
+ * it wants; the server then pushes frames of {@code (count, head, entries...)} for as long as the
+ * connection stays open, sending an empty frame as a heartbeat when nothing new was appended.
+ */
+public class JournalShippingServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(JournalShippingServer.class);
+    static final int MAX_FRAME_ENTRIES = 512;
+    static final long HEARTBEAT_MILLIS = 200;
+
+    private final TransactionJournal journal;
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+    private ExecutorService followers;
+
+    public JournalShippingServer(TransactionJournal journal) {
+        this.journal = journal;
+    }
+
+    public synchronized int start() {
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind journal shipping server", e);
+        }
+        followers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "journal-shipper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        followers.execute(this::acceptLoop);
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close journal shipping server", e);
+        }
+        followers.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                followers.execute(() -> ship(socket));
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("Failed to accept follower connection", e);
+                }
+            }
+        }
+    }
+
+    private void ship(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            socket.setTcpNoDelay(true);
+            long next = in.readLong();
+            List<JournalEntry> batch = new ArrayList<>(MAX_FRAME_ENTRIES);
+            while (running && !Thread.currentThread().isInterrupted()) {
+                batch.clear();
+                if (journal.awaitPosition(next, HEARTBEAT_MILLIS)) {
+                    journal.read(next, MAX_FRAME_ENTRIES, batch);
+                }
+                out.writeInt(batch.size());
+                out.writeLong(journal.lastPosition());
+                for (JournalEntry entry : batch) {
+                    entry.writeTo(out);
+                }
+                out.flush();
+                next += batch.size();
+            }
+        } catch (IOException e) {
+            if (running) {
+                logger.debug("Follower disconnected: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.infrastructure.journal.JournalEntry;
+
+import java.util.List;
+
+public interface JournalSource extends AutoCloseable {
+
+    /**
+     * Appends up to {@code maxEntries} entries starting at {@code fromPosition} to {@code sink},
+     * waiting at most {@code timeoutMillis} for new entries when none are available yet.
+     */
+    int poll(long fromPosition, int maxEntries, List<JournalEntry> sink, long timeoutMillis);
+
+    long headPosition();
+
+    @Override
+    void close();
+}
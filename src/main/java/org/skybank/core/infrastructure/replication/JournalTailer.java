@@ -0,0 +1,160 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Follows a {@link JournalSource} on a dedicated thread and hands every entry, in position order,
+ * to an applier. Tracks the applied position and apply lag, i.e. the time between the primary
+ * recording an entry and the applier having processed it.
+ *
+ * <p>A batch that skips past the next expected position is not applied; the tailer re-polls from
+ * that position and, if the source keeps returning a gap, stops and reports itself failed rather
+ * than applying entries out of order. A failed tailer's position no longer advances, so routers
+ * fall back to the primary.
+ */
+public class JournalTailer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(JournalTailer.class);
+    private static final int BATCH_SIZE = 1024;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final int MAX_GAP_RETRIES = 50;
+    private static final long GAP_BACKOFF_MILLIS = 10;
+
+    private final String name;
+    private final JournalSource source;
+    private final Consumer<JournalEntry> applier;
+
+    private volatile long appliedPosition;
+    private volatile long lastApplyLagMicros;
+    private volatile long maxApplyLagMicros;
+    private volatile long appliedEntries;
+    private volatile boolean running;
+    private volatile boolean failed;
+    private Thread thread;
+
+    public JournalTailer(String name, JournalSource source, Consumer<JournalEntry> applier) {
+        this.name = name;
+        this.source = source;
+        this.applier = applier;
+    }
+
+    public synchronized void start(long appliedPosition) {
+        if (running) {
+            return;
+        }
+        this.appliedPosition = appliedPosition;
+        running = true;
+        thread = new Thread(this::tail, "journal-tailer-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    public long appliedPosition() {
+        return appliedPosition;
+    }
+
+    public boolean awaitPosition(long position, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (appliedPosition < position) {
+            if (System.nanoTime() >= deadline || !running) {
+                return appliedPosition >= position;
+            }
+            LockSupport.parkNanos(50_000);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the tailer stopped because its source kept skipping entries.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public ReplicationLag lag() {
+        long applied = appliedPosition;
+        long head = Math.max(source.headPosition(), applied);
+        return new ReplicationLag(applied, head, head - applied, lastApplyLagMicros, maxApplyLagMicros, appliedEntries);
+    }
+
+    @Override
+    public void close() {
+        stop();
+        source.close();
+    }
+
+    private void tail() {
+        List<JournalEntry> batch = new ArrayList<>(BATCH_SIZE);
+        int gaps = 0;
+        while (running) {
+            batch.clear();
+            try {
+                source.poll(appliedPosition + 1, BATCH_SIZE, batch, POLL_TIMEOUT_MILLIS);
+            } catch (RuntimeException e) {
+                if (running) {
+                    logger.warn("Tailer {} failed to read journal: {}", name, e.getMessage());
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(POLL_TIMEOUT_MILLIS));
+                }
+                continue;
+            }
+            boolean gap = false;
+            for (JournalEntry entry : batch) {
+                if (entry.position() <= appliedPosition) {
+                    continue;
+                }
+                if (entry.position() != appliedPosition + 1) {
+                    gap = true;
+                    break;
+                }
+                applier.accept(entry);
+                recordApplied(entry);
+            }
+            if (!gap) {
+                gaps = 0;
+            } else if (++gaps >= MAX_GAP_RETRIES) {
+                logger.error("Tailer {} stopped: source keeps skipping position {}", name, appliedPosition + 1);
+                failed = true;
+                running = false;
+            } else {
+                logger.warn("Tailer {} got a gap after position {}, polling again", name, appliedPosition);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(GAP_BACKOFF_MILLIS));
+            }
+        }
+    }
+
+    private void recordApplied(JournalEntry entry) {
+        long lagMicros = Math.max(0, nowMicros() - entry.recordedAtMicros());
+        lastApplyLagMicros = lagMicros;
+        if (lagMicros > maxApplyLagMicros) {
+            maxApplyLagMicros = lagMicros;
+        }
+        appliedEntries = appliedEntries + 1;
+        appliedPosition = entry.position();
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,31 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+
+import java.util.List;
+
+public class LocalJournalSource implements JournalSource {
+    private final TransactionJournal journal;
+
+    public LocalJournalSource(TransactionJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public int poll(long fromPosition, int maxEntries, List<JournalEntry> sink, long timeoutMillis) {
+        if (!journal.awaitPosition(fromPosition, timeoutMillis)) {
+            return 0;
+        }
+        return journal.read(fromPosition, maxEntries, sink);
+    }
+
+    @Override
+    public long headPosition() {
+        return journal.lastPosition();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,77 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.JournalEntryType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Follower that tails a {@link JournalSource} and applies every entry to a read-only account
+ * store that statement and balance reads can be routed to.
+ */
+public class ReadReplica implements AutoCloseable {
+    private final String name;
+    private final ConcurrentMap<String, ReplicaAccount> accounts = new ConcurrentHashMap<>();
+    private final JournalTailer tailer;
+
+    public ReadReplica(String name, JournalSource source) {
+        this.name = name;
+        this.tailer = new JournalTailer("replica-" + name, source, this::apply);
+    }
+
+    public void start() {
+        tailer.start(0);
+    }
+
+    public Optional<ReplicaAccount> findAccount(String accountNumber) {
+        return Optional.ofNullable(accounts.get(accountNumber));
+    }
+
+    public Collection<ReplicaAccount> getAccounts() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    public long appliedPosition() {
+        return tailer.appliedPosition();
+    }
+
+    public boolean awaitPosition(long position, long timeoutMillis) {
+        return tailer.awaitPosition(position, timeoutMillis);
+    }
+
+    /**
+     * Whether the replica stopped applying because its source skipped entries.
+     */
+    public boolean isFailed() {
+        return tailer.isFailed();
+    }
+
+    public ReplicationLag lag() {
+        return tailer.lag();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        tailer.close();
+    }
+
+    private void apply(JournalEntry entry) {
+        if (entry.type() == JournalEntryType.OPEN) {
+            accounts.putIfAbsent(entry.accountNumber(), new ReplicaAccount(entry.accountNumber(), entry.balance()));
+        } else {
+            accounts.computeIfAbsent(entry.accountNumber(), accountNumber -> new ReplicaAccount(accountNumber, 0))
+                    .append(new Transaction(new Date(entry.timestampMillis()),
+                            entry.amount(), entry.balance(), entry.currency()));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.model.TransactionChain;
+import org.skybank.core.domain.model.TransactionLog;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Read-only copy of an account on a replica. Only the replica's apply thread appends; readers
+ * take an immutable prefix of the history without locking.
+ */
+public final class ReplicaAccount {
+    private final String accountNumber;
+    private final TransactionLog transactions = new TransactionLog();
+    private volatile long chainHash = TransactionChain.SEED;
+    private final AtomicLongArray balances = new AtomicLongArray(CurrencyCode.COUNT);
+
+    ReplicaAccount(String accountNumber, long balance) {
+        this.accountNumber = accountNumber;
+        this.balances.set(CurrencyCode.BASE.code(), balance);
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public long getBalance() {
+        return getBalance(CurrencyCode.BASE);
+    }
+
+    public long getBalance(CurrencyCode currency) {
+        return balances.get(currency.code());
+    }
+
+    public int getTransactionCount() {
+        return transactions.size();
+    }
+
+    public long getChainHash() {
+        return chainHash;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions.snapshot();
+    }
+
+    void append(Transaction transaction) {
+        long next = TransactionChain.next(chainHash, transaction);
+        transaction.setChainHash(next);
+        balances.set(transaction.getCurrency().code(), transaction.getBalance());
+        chainHash = next;
+        transactions.add(transaction);
+    }
+}
@@ -0,0 +1,119 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.application.dto.response.AccountResponse;
+import org.skybank.core.application.mapper.AuthMapper;
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves balance and statement reads from replicas that are fresh enough, falling back to the
+ * primary store otherwise. A read is fresh enough when the replica has applied both the caller's
+ * own last write and everything up to the configured lag behind the primary's head.
+ */
+public class ReplicaReadRouter {
+    private final AccountRepository primary;
+    private final TransactionJournal journal;
+    private final List<ReadReplica> replicas;
+    private final StalenessBound stalenessBound;
+    private final AuthMapper authMapper = AuthMapper.INSTANCE;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    public ReplicaReadRouter(AccountRepository primary, TransactionJournal journal,
+                             List<ReadReplica> replicas, StalenessBound stalenessBound) {
+        this.primary = primary;
+        this.journal = journal;
+        this.replicas = List.copyOf(replicas);
+        this.stalenessBound = stalenessBound;
+    }
+
+    public AccountResponse getAccount(String accountNumber) {
+        return getAccount(accountNumber, journal.lastPositionWrittenByCurrentThread());
+    }
+
+    public AccountResponse getAccount(String accountNumber, long minPosition) {
+        Optional<ReadReplica> replica = chooseReplica(minPosition);
+        if (replica.isPresent()) {
+            Optional<ReplicaAccount> account = replica.get().findAccount(accountNumber);
+            if (account.isPresent()) {
+                replicaReads.incrementAndGet();
+                ReplicaAccount view = account.get();
+                return new AccountResponse(view.getAccountNumber(), view.getBalance(), view.getTransactionCount());
+            }
+        }
+        primaryReads.incrementAndGet();
+        return authMapper.toAccountResponse(primaryAccount(accountNumber));
+    }
+
+    public List<Transaction> getStatement(String accountNumber) {
+        return getStatement(accountNumber, journal.lastPositionWrittenByCurrentThread());
+    }
+
+    public List<Transaction> getStatement(String accountNumber, long minPosition) {
+        Optional<ReadReplica> replica = chooseReplica(minPosition);
+        if (replica.isPresent()) {
+            Optional<ReplicaAccount> account = replica.get().findAccount(accountNumber);
+            if (account.isPresent()) {
+                replicaReads.incrementAndGet();
+                return account.get().getTransactions();
+            }
+        }
+        primaryReads.incrementAndGet();
+        return primaryAccount(accountNumber).getTransactionSnapshot();
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.get();
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.get();
+    }
+
+    public List<ReplicationLag> lags() {
+        List<ReplicationLag> lags = new ArrayList<>(replicas.size());
+        for (ReadReplica replica : replicas) {
+            lags.add(replica.lag());
+        }
+        return lags;
+    }
+
+    private Optional<ReadReplica> chooseReplica(long minPosition) {
+        if (replicas.isEmpty()) {
+            return Optional.empty();
+        }
+        long head = journal.lastPosition();
+        long required = Math.max(minPosition,
+                stalenessBound.maxLagEntries() >= head ? 0 : head - stalenessBound.maxLagEntries());
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplica replica = replicas.get((start + i) % replicas.size());
+            if (replica.appliedPosition() >= required) {
+                return Optional.of(replica);
+            }
+        }
+        if (stalenessBound.maxWaitMillis() > 0) {
+            ReadReplica replica = replicas.get(start);
+            if (replica.awaitPosition(required, stalenessBound.maxWaitMillis())) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Account primaryAccount(String accountNumber) {
+        return primary.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+    }
+}
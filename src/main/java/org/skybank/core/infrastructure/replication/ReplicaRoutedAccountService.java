@@ -0,0 +1,47 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.AuthenticationException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.domain.service.implemantation.StatementPrinter;
+
+import java.util.List;
+
+public class ReplicaRoutedAccountService implements AccountService {
+    private final AccountService primary;
+    private final ReplicaReadRouter router;
+
+    public ReplicaRoutedAccountService(AccountService primary, ReplicaReadRouter router) {
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public void deposit(long amount, CurrencyCode currency) {
+        primary.deposit(amount, currency);
+    }
+
+    @Override
+    public void withdraw(long amount, CurrencyCode currency) {
+        primary.withdraw(amount, currency);
+    }
+
+    @Override
+    public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
+        return primary.exchange(amount, from, to);
+    }
+
+    @Override
+    public void printStatement() {
+        Account currentAccount = AccountContext.getCurrentAccount();
+        if (currentAccount == null) {
+            throw new AuthenticationException("No account is currently signed in. Please sign in first.");
+        }
+
+        List<Transaction> transactions = router.getStatement(currentAccount.getAccountNumber());
+        StatementPrinter.print(currentAccount.getAccountNumber(), StatementPrinter.balancesOf(transactions), transactions);
+    }
+}
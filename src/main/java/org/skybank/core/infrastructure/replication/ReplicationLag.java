@@ -0,0 +1,10 @@
+package org.skybank.core.infrastructure.replication;
+
+public record ReplicationLag(
+        long appliedPosition,
+        long headPosition,
+        long lagEntries,
+        long lastApplyLagMicros,
+        long maxApplyLagMicros,
+        long appliedEntries
+) {}
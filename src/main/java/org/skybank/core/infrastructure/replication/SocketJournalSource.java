@@ -0,0 +1,90 @@
+package org.skybank.core.infrastructure.replication;
+
+import org.skybank.core.infrastructure.journal.JournalEntry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.List;
+
+/**
+ * Follower side of {@link JournalShippingServer}. The stream is positional, so asking for a
+ * position other than the next expected one reconnects from that position.
+ */
+public class SocketJournalSource implements JournalSource {
+    private final String host;
+    private final int port;
+    private Socket socket;
+    private DataInputStream in;
+    private long expectedNext = -1;
+    private volatile long head;
+
+    public SocketJournalSource(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public int poll(long fromPosition, int maxEntries, List<JournalEntry> sink, long timeoutMillis) {
+        try {
+            if (socket == null || fromPosition != expectedNext) {
+                connect(fromPosition);
+            }
+            socket.setSoTimeout((int) Math.max(timeoutMillis, JournalShippingServer.HEARTBEAT_MILLIS * 2));
+            int count = in.readInt();
+            head = in.readLong();
+            for (int i = 0; i < count; i++) {
+                sink.add(JournalEntry.readFrom(in));
+            }
+            expectedNext += count;
+            return count;
+        } catch (SocketTimeoutException e) {
+            disconnect();
+            return 0;
+        } catch (IOException e) {
+            disconnect();
+            throw new UncheckedIOException("Lost connection to journal shipping server", e);
+        }
+    }
+
+    @Override
+    public long headPosition() {
+        return head;
+    }
+
+    @Override
+    public void close() {
+        disconnect();
+    }
+
+    private void connect(long fromPosition) throws IOException {
+        disconnect();
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), 2_000);
+        socket.setTcpNoDelay(true);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeLong(fromPosition);
+        out.flush();
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        expectedNext = fromPosition;
+    }
+
+    private void disconnect() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Nothing left to release.
+            }
+        }
+        socket = null;
+        in = null;
+        expectedNext = -1;
+    }
+}
@@ -0,0 +1,15 @@
+package org.skybank.core.infrastructure.replication;
+
+/**
+ * How stale a replica read may be: at most {@code maxLagEntries} behind the primary's journal
+ * head, waiting up to {@code maxWaitMillis} for a replica to catch up before falling back to the
+ * primary. Read-your-writes is enforced separately from the caller's last written position.
+ */
+public record StalenessBound(
+        long maxLagEntries,
+        long maxWaitMillis
+) {
+    public static StalenessBound unbounded() {
+        return new StalenessBound(Long.MAX_VALUE, 0);
+    }
+}
@@ -0,0 +1,32 @@
+package org.skybank.core.loadgen;
+
+/**
+ * One reporting interval. Response times are measured from each operation's intended start on
+ * the open-loop schedule, so queueing behind a stall is counted (coordinated-omission
+ * corrected); service times are measured from when a worker actually picked the operation up.
+ * Latencies are in microseconds; GC figures are deltas over the interval.
+ */
+public record IntervalStats(
+        long elapsedMillis,
+        long operations,
+        long errors,
+        double throughput,
+        long responseP50Micros,
+        long responseP90Micros,
+        long responseP99Micros,
+        long responseP999Micros,
+        long responseMaxMicros,
+        long serviceP99Micros,
+        long backlog,
+        long heapUsedBytes,
+        long gcCount,
+        long gcTimeMillis
+) {
+    public String toText() {
+        return String.format("%7.1fs %8d ops %6d err %10.1f ops/s | resp p50=%d p90=%d p99=%d p99.9=%d max=%d us"
+                        + " | svc p99=%d us | backlog=%d | heap=%d MB gc=%d (%d ms)",
+                elapsedMillis / 1000.0, operations, errors, throughput,
+                responseP50Micros, responseP90Micros, responseP99Micros, responseP999Micros, responseMaxMicros,
+                serviceP99Micros, backlog, heapUsedBytes >> 20, gcCount, gcTimeMillis);
+    }
+}
@@ -0,0 +1,23 @@
+package org.skybank.core.loadgen;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+public record JvmSample(
+        long heapUsedBytes,
+        long heapCommittedBytes,
+        long gcCount,
+        long gcTimeMillis
+) {
+    public static JvmSample now() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return new JvmSample(heap.getUsed(), heap.getCommitted(), count, time);
+    }
+}
@@ -0,0 +1,78 @@
+package org.skybank.core.loadgen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chooses which of {@code n} preloaded accounts an operation targets.
+ */
+public interface KeyDistribution {
+
+    int next(SplittableRandom random);
+
+    static KeyDistribution uniform(int keys) {
+        return random -> random.nextInt(keys);
+    }
+
+    /**
+     * Zipf-distributed ranks (rank 0 is the most popular), using the rejection-free method of
+     * Gray et al., "Quickly Generating Billion-Record Synthetic Databases".
+     */
+    static KeyDistribution zipfian(int keys, double theta) {
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("Zipfian theta must be in (0, 1)");
+        }
+        double zetaN = 0;
+        for (int i = 1; i <= keys; i++) {
+            zetaN += 1.0 / Math.pow(i, theta);
+        }
+        double zeta2 = 1.0 + 1.0 / Math.pow(2, theta);
+        double alpha = 1.0 / (1.0 - theta);
+        double eta = (1.0 - Math.pow(2.0 / keys, 1.0 - theta)) / (1.0 - zeta2 / zetaN);
+        double secondThreshold = 1.0 + Math.pow(0.5, theta);
+        double zeta = zetaN;
+
+        return random -> {
+            double u = random.nextDouble();
+            double uz = u * zeta;
+            if (uz < 1.0) {
+                return 0;
+            }
+            if (uz < secondThreshold) {
+                return Math.min(1, keys - 1);
+            }
+            return (int) Math.min(keys - 1, (long) (keys * Math.pow(eta * u - eta + 1.0, alpha)));
+        };
+    }
+
+    /**
+     * Sends {@code hotProbability} of the traffic to the first {@code hotFraction} of the keys.
+     */
+    static KeyDistribution hotKey(int keys, double hotFraction, double hotProbability) {
+        int hotKeys = Math.max(1, (int) (keys * hotFraction));
+        int coldKeys = Math.max(1, keys - hotKeys);
+        return random -> random.nextDouble() < hotProbability
+                ? random.nextInt(hotKeys)
+                : Math.min(keys - 1, hotKeys + random.nextInt(coldKeys));
+    }
+
+    /**
+     * Parses {@code uniform}, {@code zipf:0.99} or {@code hot:0.01:0.9}.
+     */
+    static KeyDistribution parse(String spec, int keys) {
+        String[] parts = spec.trim().toLowerCase().split(":");
+        switch (parts[0]) {
+            case "uniform":
+                return uniform(keys);
+            case "zipf":
+            case "zipfian":
+                return zipfian(keys, parts.length > 1 ? Double.parseDouble(parts[1]) : 0.99);
+            case "hot":
+            case "hotkey":
+                return hotKey(keys,
+                        parts.length > 1 ? Double.parseDouble(parts[1]) : 0.01,
+                        parts.length > 2 ? Double.parseDouble(parts[2]) : 0.9);
+            default:
+                throw new IllegalArgumentException("Unknown key distribution: " + spec);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.skybank.core.loadgen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Open-loop load generator. A single dispatcher thread walks a precomputed arrival schedule and
+ * hands each operation, stamped with its intended start time, to a worker pool; it never waits
+ * for earlier operations to finish. Response times are taken from the intended start, so a
+ * stalled system is charged for every operation that queued behind the stall.
+ */
+public class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final OperationType[] TYPES = OperationType.values();
+
+    private final LoadProfile profile;
+    private final LoadTarget target;
+    private final Consumer<IntervalStats> intervalListener;
+    private final Stripe[] stripes;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+
+    public LoadGenerator(LoadProfile profile, LoadTarget target) {
+        this(profile, target, stats -> { });
+    }
+
+    public LoadGenerator(LoadProfile profile, LoadTarget target, Consumer<IntervalStats> intervalListener) {
+        this.profile = profile;
+        this.target = target;
+        this.intervalListener = intervalListener;
+        int stripeCount = Integer.highestOneBit(Math.max(profile.threads(), Runtime.getRuntime().availableProcessors()) * 2 - 1) * 2;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public LoadReport run() {
+        String[] keys = preload();
+        KeyDistribution distribution = KeyDistribution.parse(profile.keyDistribution(), keys.length);
+        SplittableRandom random = new SplittableRandom(profile.seed());
+
+        List<IntervalStats> intervals = Collections.synchronizedList(new ArrayList<>());
+        LatencyHistogram totalResponse = new LatencyHistogram();
+        LatencyHistogram totalService = new LatencyHistogram();
+        JvmSample jvmStart = JvmSample.now();
+        long start = System.nanoTime();
+        IntervalCollector collector = new IntervalCollector(start, jvmStart, intervals, totalResponse, totalService);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadgen-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long reportMillis = profile.reportInterval().toMillis();
+        reporter.scheduleAtFixedRate(collector::collect, reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = newWorkers();
+        try {
+            dispatch(workers, keys, distribution, random, start);
+            workers.shutdown();
+            if (!workers.awaitTermination(Math.max(10, profile.duration().toSeconds()), TimeUnit.SECONDS)) {
+                logger.warn("Load generator workers did not drain in time; {} operations outstanding",
+                        submitted.get() - completed.get());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        } finally {
+            reporter.shutdownNow();
+        }
+        long wallClock = System.nanoTime() - start;
+        collector.collect();
+
+        Map<OperationType, Long> operations = new EnumMap<>(OperationType.class);
+        Map<OperationType, Long> errors = new EnumMap<>(OperationType.class);
+        for (OperationType type : TYPES) {
+            long ops = 0;
+            long failed = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    ops += stripe.totalOperations[type.ordinal()];
+                    failed += stripe.totalErrors[type.ordinal()];
+                }
+            }
+            operations.put(type, ops);
+            errors.put(type, failed);
+        }
+        return new LoadReport(profile, List.copyOf(intervals), totalResponse, totalService,
+                operations, errors, wallClock, jvmStart, JvmSample.now());
+    }
+
+    private String[] preload() {
+        String[] keys = new String[profile.accounts()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = target.createAccount();
+            if (profile.initialBalance() > 0) {
+                target.deposit(keys[i], profile.initialBalance());
+            }
+        }
+        logger.info("Preloaded {} accounts", keys.length);
+        return keys;
+    }
+
+    private void dispatch(ExecutorService workers, String[] keys, KeyDistribution distribution,
+                          SplittableRandom random, long start) {
+        double meanIntervalNanos = 1e9 / profile.ratePerSecond();
+        long end = start + profile.duration().toNanos();
+        double intended = start;
+
+        while (intended < end) {
+            long now = System.nanoTime();
+            if (now < intended) {
+                LockSupport.parkNanos((long) intended - now);
+                continue;
+            }
+            // Submit everything that is due, including operations that fell behind schedule.
+            while (intended <= now && intended < end) {
+                OperationType type = profile.mix().pick(random.nextDouble());
+                String key = keys[distribution.next(random)];
+                long amount = 1 + random.nextLong(profile.maxAmount());
+                long intendedStart = (long) intended;
+                submitted.incrementAndGet();
+                workers.execute(() -> execute(type, key, amount, intendedStart));
+
+                intended += profile.poisson()
+                        ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                        : meanIntervalNanos;
+            }
+        }
+    }
+
+    private void execute(OperationType type, String key, long amount, long intendedStart) {
+        long started = System.nanoTime();
+        boolean failed = false;
+        try {
+            switch (type) {
+                case CREATE:
+                    target.createAccount();
+                    break;
+                case SIGN_IN:
+                    target.signIn(key);
+                    break;
+                case DEPOSIT:
+                    target.deposit(key, amount);
+                    break;
+                case WITHDRAW:
+                    target.withdraw(key, amount);
+                    break;
+                case STATEMENT:
+                    target.statement(key);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + type);
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+        }
+        long finished = System.nanoTime();
+        stripe().record(type, finished - intendedStart, finished - started, failed);
+        completed.incrementAndGet();
+    }
+
+    private Stripe stripe() {
+        long id = Thread.currentThread().getId();
+        return stripes[(int) (id ^ (id >>> 16)) & (stripes.length - 1)];
+    }
+
+    private ExecutorService newWorkers() {
+        if (profile.virtualThreads()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Virtual threads are not available on Java {}; using {} platform threads",
+                        Runtime.version().feature(), profile.threads());
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(profile.threads(), profile.threads(), 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "loadgen-worker-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static final class Stripe {
+        final LatencyHistogram response = new LatencyHistogram();
+        final LatencyHistogram service = new LatencyHistogram();
+        final long[] totalOperations = new long[TYPES.length];
+        final long[] totalErrors = new long[TYPES.length];
+        long intervalOperations;
+        long intervalErrors;
+
+        synchronized void record(OperationType type, long responseNanos, long serviceNanos, boolean failed) {
+            response.record(responseNanos);
+            service.record(serviceNanos);
+            totalOperations[type.ordinal()]++;
+            intervalOperations++;
+            if (failed) {
+                totalErrors[type.ordinal()]++;
+                intervalErrors++;
+            }
+        }
+    }
+
+    private final class IntervalCollector {
+        private final long start;
+        private final List<IntervalStats> intervals;
+        private final LatencyHistogram totalResponse;
+        private final LatencyHistogram totalService;
+        private long lastCollected;
+        private JvmSample lastJvm;
+
+        IntervalCollector(long start, JvmSample jvmStart, List<IntervalStats> intervals,
+                          LatencyHistogram totalResponse, LatencyHistogram totalService) {
+            this.start = start;
+            this.lastCollected = start;
+            this.lastJvm = jvmStart;
+            this.intervals = intervals;
+            this.totalResponse = totalResponse;
+            this.totalService = totalService;
+        }
+
+        synchronized void collect() {
+            LatencyHistogram response = new LatencyHistogram();
+            LatencyHistogram service = new LatencyHistogram();
+            long operations = 0;
+            long errors = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    response.add(stripe.response.drain());
+                    service.add(stripe.service.drain());
+                    operations += stripe.intervalOperations;
+                    errors += stripe.intervalErrors;
+                    stripe.intervalOperations = 0;
+                    stripe.intervalErrors = 0;
+                }
+            }
+            long now = System.nanoTime();
+            if (operations == 0 && now - lastCollected < profile.reportInterval().toNanos() / 2) {
+                return;
+            }
+            totalResponse.add(response);
+            totalService.add(service);
+
+            JvmSample jvm = JvmSample.now();
+            IntervalStats stats = new IntervalStats(
+                    (now - start) / 1_000_000,
+                    operations,
+                    errors,
+                    operations * 1e9 / Math.max(1, now - lastCollected),
+                    response.valueAtPercentile(50) / 1_000,
+                    response.valueAtPercentile(90) / 1_000,
+                    response.valueAtPercentile(99) / 1_000,
+                    response.valueAtPercentile(99.9) / 1_000,
+                    response.getMax() / 1_000,
+                    service.valueAtPercentile(99) / 1_000,
+                    submitted.get() - completed.get(),
+                    jvm.heapUsedBytes(),
+                    jvm.gcCount() - lastJvm.gcCount(),
+                    jvm.gcTimeMillis() - lastJvm.gcTimeMillis());
+            lastCollected = now;
+            lastJvm = jvm;
+            intervals.add(stats);
+            intervalListener.accept(stats);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.skybank.core.loadgen;
+
+import org.skybank.core.application.admission.AdmissionControlledAccountService;
+import org.skybank.core.application.admission.AdmissionControlledAuthService;
+import org.skybank.core.application.admission.AdmissionController;
+import org.skybank.core.application.admission.AdmissionPolicy;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.domain.service.AuthService;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+
+/**
+ * Command-line entry point driving the in-process services, e.g. a one hour soak:
+ *
+ * <pre>
+ * java -cp target/classes:... org.skybank.core.loadgen.LoadGeneratorMain \
+ *     --rate=5000 --duration=3600 --keys=zipf:0.99 --accounts=100000 --threads=16
+ * </pre>
+ * Options: {@code --rate}, {@code --duration} (seconds), {@code --report} (seconds),
+ * {@code --mix}, {@code --keys}, {@code --accounts}, {@code --threads}, {@code --seed},
+ * {@code --poisson}, {@code --virtual} and {@code --admission}.
+ */
+public final class LoadGeneratorMain {
+
+    private LoadGeneratorMain() {
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "warn");
+        LoadProfile defaults = LoadProfile.defaults();
+        OperationMix mix = defaults.mix();
+        String keys = defaults.keyDistribution();
+        int accounts = defaults.accounts();
+        double rate = defaults.ratePerSecond();
+        Duration duration = defaults.duration();
+        Duration report = defaults.reportInterval();
+        int threads = defaults.threads();
+        long seed = defaults.seed();
+        boolean poisson = false;
+        boolean virtualThreads = false;
+        boolean admission = false;
+
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            String value = option.length > 1 ? option[1] : "";
+            switch (option[0]) {
+                case "--rate":
+                    rate = Double.parseDouble(value);
+                    break;
+                case "--duration":
+                    duration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "--report":
+                    report = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "--mix":
+                    mix = OperationMix.parse(value);
+                    break;
+                case "--keys":
+                    keys = value;
+                    break;
+                case "--accounts":
+                    accounts = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--poisson":
+                    poisson = true;
+                    break;
+                case "--virtual":
+                    virtualThreads = true;
+                    break;
+                case "--admission":
+                    admission = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        LoadProfile profile = new LoadProfile(mix, keys, accounts, defaults.initialBalance(), defaults.maxAmount(),
+                rate, poisson, duration, report, threads, virtualThreads, seed);
+
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        AuthService authService = new AuthServiceImpl(accountRepository);
+        AccountService accountService = new AccountServiceImpl();
+        if (admission) {
+            AdmissionController admissionController = new AdmissionController(AdmissionPolicy.defaults());
+            authService = new AdmissionControlledAuthService(authService, admissionController);
+            accountService = new AdmissionControlledAccountService(accountService, admissionController);
+        }
+
+        // Statements and service messages print to stdout; keep it for the report only.
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        out.printf("rate=%.0f/s duration=%s mix=%s keys=%s accounts=%d threads=%d virtual=%b poisson=%b%n",
+                rate, duration, mix, keys, accounts, threads, virtualThreads, poisson);
+
+        LoadReport result = new LoadGenerator(profile, new ServiceLoadTarget(authService, accountService, accountRepository),
+                stats -> out.println(stats.toText())).run();
+
+        out.println();
+        out.println(result.toText());
+        System.setOut(out);
+    }
+}
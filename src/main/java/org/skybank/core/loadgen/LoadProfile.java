@@ -0,0 +1,36 @@
+package org.skybank.core.loadgen;
+
+import java.time.Duration;
+
+/**
+ * @param ratePerSecond  open-loop arrival rate; arrivals follow the schedule regardless of how
+ *                       quickly earlier operations complete
+ * @param poisson        exponential inter-arrival times instead of a fixed interval
+ * @param virtualThreads one virtual thread per operation when the runtime supports it (Java 21+),
+ *                       otherwise {@code threads} platform workers
+ */
+public record LoadProfile(
+        OperationMix mix,
+        String keyDistribution,
+        int accounts,
+        long initialBalance,
+        long maxAmount,
+        double ratePerSecond,
+        boolean poisson,
+        Duration duration,
+        Duration reportInterval,
+        int threads,
+        boolean virtualThreads,
+        long seed
+) {
+    public LoadProfile {
+        if (accounts <= 0 || ratePerSecond <= 0 || threads <= 0 || maxAmount <= 0) {
+            throw new IllegalArgumentException("Invalid load profile");
+        }
+    }
+
+    public static LoadProfile defaults() {
+        return new LoadProfile(OperationMix.defaults(), "zipf:0.99", 10_000, 1_000_000, 10_000,
+                1_000, false, Duration.ofSeconds(30), Duration.ofSeconds(1), 8, false, 42);
+    }
+}
@@ -0,0 +1,48 @@
+package org.skybank.core.loadgen;
+
+import java.util.List;
+import java.util.Map;
+
+public record LoadReport(
+        LoadProfile profile,
+        List<IntervalStats> intervals,
+        LatencyHistogram responseTimes,
+        LatencyHistogram serviceTimes,
+        Map<OperationType, Long> operations,
+        Map<OperationType, Long> errors,
+        long wallClockNanos,
+        JvmSample jvmStart,
+        JvmSample jvmEnd
+) {
+    public long totalOperations() {
+        return operations.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double throughput() {
+        return wallClockNanos == 0 ? 0 : totalOperations() * 1e9 / wallClockNanos;
+    }
+
+    public String toText() {
+        return String.format("%d ops (%d errors) in %.1f s = %.1f ops/s%n"
+                        + "response (CO-corrected) us: p50=%d p90=%d p99=%d p99.9=%d p99.99=%d max=%d%n"
+                        + "service us:                 p50=%d p90=%d p99=%d p99.9=%d p99.99=%d max=%d%n"
+                        + "per operation: %s, errors: %s%n"
+                        + "heap %d -> %d MB, %d GCs, %d ms GC time",
+                totalOperations(), totalErrors(), wallClockNanos / 1e9, throughput(),
+                micros(responseTimes, 50), micros(responseTimes, 90), micros(responseTimes, 99),
+                micros(responseTimes, 99.9), micros(responseTimes, 99.99), responseTimes.getMax() / 1_000,
+                micros(serviceTimes, 50), micros(serviceTimes, 90), micros(serviceTimes, 99),
+                micros(serviceTimes, 99.9), micros(serviceTimes, 99.99), serviceTimes.getMax() / 1_000,
+                operations, errors,
+                jvmStart.heapUsedBytes() >> 20, jvmEnd.heapUsedBytes() >> 20,
+                jvmEnd.gcCount() - jvmStart.gcCount(), jvmEnd.gcTimeMillis() - jvmStart.gcTimeMillis());
+    }
+
+    private static long micros(LatencyHistogram histogram, double percentile) {
+        return histogram.valueAtPercentile(percentile) / 1_000;
+    }
+}
@@ -0,0 +1,18 @@
+package org.skybank.core.loadgen;
+
+/**
+ * Front end the load generator drives. Implementations may call the services in-process or go
+ * through any remote interface; a thrown {@link RuntimeException} counts as a failed operation.
+ */
+public interface LoadTarget {
+
+    String createAccount();
+
+    void signIn(String accountNumber);
+
+    void deposit(String accountNumber, long amount);
+
+    void withdraw(String accountNumber, long amount);
+
+    void statement(String accountNumber);
+}
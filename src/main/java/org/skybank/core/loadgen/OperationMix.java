@@ -0,0 +1,68 @@
+package org.skybank.core.loadgen;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Relative weights of each operation type, e.g. {@code create=1,sign_in=9,deposit=45,withdraw=35,statement=10}.
+ */
+public final class OperationMix {
+    private static final OperationType[] TYPES = OperationType.values();
+
+    private final double[] cumulative = new double[TYPES.length];
+    private final Map<OperationType, Double> weights;
+
+    public OperationMix(Map<OperationType, Double> weights) {
+        double total = 0;
+        for (OperationType type : TYPES) {
+            double weight = weights.getOrDefault(type, 0.0);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + type);
+            }
+            total += weight;
+            cumulative[type.ordinal()] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Operation mix must have at least one positive weight");
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+        this.weights = new EnumMap<>(weights);
+    }
+
+    public static OperationMix defaults() {
+        return parse("create=1,sign_in=9,deposit=45,withdraw=35,statement=10");
+    }
+
+    public static OperationMix parse(String spec) {
+        Map<OperationType, Double> weights = new EnumMap<>(OperationType.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid operation mix entry: " + part);
+            }
+            weights.put(OperationType.valueOf(pair[0].trim().toUpperCase(Locale.ROOT).replace('-', '_')),
+                    Double.parseDouble(pair[1].trim()));
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Picks an operation for a uniform random number in [0, 1).
+     */
+    public OperationType pick(double uniform) {
+        for (int i = 0; i < cumulative.length; i++) {
+            if (uniform < cumulative[i]) {
+                return TYPES[i];
+            }
+        }
+        return TYPES[TYPES.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return weights.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package org.skybank.core.loadgen;
+
+public enum OperationType {
+    CREATE,
+    SIGN_IN,
+    DEPOSIT,
+    WITHDRAW,
+    STATEMENT
+}
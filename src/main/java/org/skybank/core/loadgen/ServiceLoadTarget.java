@@ -0,0 +1,69 @@
+package org.skybank.core.loadgen;
+
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.application.dto.response.CreateAccountResponse;
+import org.skybank.core.application.dto.response.SignInResponse;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.exception.AuthenticationException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.domain.service.AuthService;
+
+/**
+ * Drives {@link AuthService} and {@link AccountService} in-process. Money operations run as the
+ * target account's already-established session, so only {@link #signIn} pays for a sign-in.
+ */
+public class ServiceLoadTarget implements LoadTarget {
+    private final AuthService authService;
+    private final AccountService accountService;
+    private final AccountRepository accountRepository;
+
+    public ServiceLoadTarget(AuthService authService, AccountService accountService, AccountRepository accountRepository) {
+        this.authService = authService;
+        this.accountService = accountService;
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    public String createAccount() {
+        CreateAccountResponse response = authService.createAccount();
+        if (!response.success()) {
+            throw new IllegalStateException(response.message());
+        }
+        return response.accountNumber();
+    }
+
+    @Override
+    public void signIn(String accountNumber) {
+        SignInResponse response = authService.signIn(new SignInRequest(accountNumber));
+        if (!response.success()) {
+            throw new AuthenticationException(response.message());
+        }
+    }
+
+    @Override
+    public void deposit(String accountNumber, long amount) {
+        useSession(accountNumber);
+        accountService.deposit(amount);
+    }
+
+    @Override
+    public void withdraw(String accountNumber, long amount) {
+        useSession(accountNumber);
+        accountService.withdraw(amount);
+    }
+
+    @Override
+    public void statement(String accountNumber) {
+        useSession(accountNumber);
+        accountService.printStatement();
+    }
+
+    private void useSession(String accountNumber) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+        AccountContext.setCurrentAccount(account);
+    }
+}
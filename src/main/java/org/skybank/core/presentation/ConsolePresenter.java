@@ -4,7 +4,13 @@ import org.skybank.core.application.dto.request.SignInRequest;
 import org.skybank.core.application.dto.response.CreateAccountResponse;
 import org.skybank.core.application.dto.response.SignInResponse;
 import org.skybank.core.application.dto.response.SignOutResponse;
+import org.skybank.core.application.projection.AccountQueryService;
+import org.skybank.core.application.projection.AccountView;
 
+import org.skybank.core.domain.exception.AdmissionRejectedException;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.MoneyFormat;
 import org.skybank.core.domain.service.AccountService;
 import java.util.Scanner;
 import org.skybank.core.domain.model.Account;
@@ -18,12 +24,14 @@ public class ConsolePresenter {
 
     private final AuthService authService;
     private final AccountService accountService;
+    private final AccountQueryService accountQueries;
     private final Scanner scanner;
     private boolean running;
 
-    public ConsolePresenter(AuthService authService, AccountService accountService) {
+    public ConsolePresenter(AuthService authService, AccountService accountService, AccountQueryService accountQueries) {
         this.authService = authService;
         this.accountService = accountService;
+        this.accountQueries = accountQueries;
         this.scanner = new Scanner(System.in);
         this.running = true;
         logger.info("ConsolePresenter initialized");
@@ -79,7 +87,7 @@ public class ConsolePresenter {
             logger.info("Account created successfully: {}", response.accountNumber());
             logger.info("\n{} {}", SUCCESS_SYMBOL, response.message());
             logger.info("Account Number: {}", response.accountNumber());
-            logger.info("Initial Balance: {}", response.balance());
+            logger.info("Initial Balance: {}", MoneyFormat.format(response.balance(), CurrencyCode.BASE));
         } else {
             logger.error("Account creation failed: {}", response.message());
             logger.info("\n{} {}", ERROR_SYMBOL, response.message());
@@ -100,7 +108,7 @@ public class ConsolePresenter {
                 logger.info("Sign in successful: {}", response.account().accountNumber());
                 logger.info("\n{} {}", SUCCESS_SYMBOL, response.message());
                 logger.info("Account Number: {}", response.account().accountNumber());
-                logger.info("Current Balance: {}", response.account().balance());
+                logger.info("Current Balance: {}", MoneyFormat.format(response.account().balance(), CurrencyCode.BASE));
                 logger.info("Total Transactions: {}", response.account().transactionCount());
             } else {
                 logger.warn("Sign in failed: {}", response.message());
@@ -119,7 +127,9 @@ public class ConsolePresenter {
         logger.info("2. Withdraw money");
         logger.info("3. Print statement");
         logger.info("4. Sign out");
-        logger.info("5. Exit");
+        logger.info("5. Exchange currency");
+        logger.info("6. Account summary");
+        logger.info("7. Exit");
         logger.info("Your choice: ");
 
         String choice = scanner.nextLine();
@@ -131,13 +141,18 @@ public class ConsolePresenter {
                 handleWithdrawal();
                 break;
             case "3":
-                logger.debug("Printing statement");
-                accountService.printStatement();
+                handlePrintStatement();
                 break;
             case "4":
                 handleSignOut();
                 break;
             case "5":
+                handleExchange();
+                break;
+            case "6":
+                handleSummary();
+                break;
+            case "7":
                 exitApplication();
                 break;
             default:
@@ -146,19 +161,43 @@ public class ConsolePresenter {
         }
     }
 
+    private void handlePrintStatement() {
+        logger.debug("Printing statement");
+        try {
+            accountService.printStatement();
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Statement rejected: {}", e.getReason());
+            logger.info("\n{} {}. Please try again later.", ERROR_SYMBOL, e.getMessage());
+        }
+    }
+
+    private void handleSummary() {
+        Account currentAccount = authService.getCurrentAccount();
+        if (currentAccount == null) {
+            return;
+        }
+        AccountView summary = accountQueries.getSummary(currentAccount.getAccountNumber());
+        logger.info("\nAccount Number: {}", summary.accountNumber());
+        logger.info("Balance: {}", MoneyFormat.format(summary.balance(), CurrencyCode.BASE));
+        logger.info("Total Deposited: {}", MoneyFormat.format(summary.totalDeposited(), CurrencyCode.BASE));
+        logger.info("Total Withdrawn: {}", MoneyFormat.format(summary.totalWithdrawn(), CurrencyCode.BASE));
+        logger.info("Total Transactions: {}", summary.transactionCount());
+    }
+
     private void handleDeposit() {
-        logger.info("Enter amount to deposit: ");
+        logger.info("Enter amount to deposit (e.g. 25.50 or 25.50 EUR): ");
         try {
-            int amount = Integer.parseInt(scanner.nextLine());
-            logger.debug("Attempting to deposit amount: {}", amount);
-            accountService.deposit(amount);
+            MoneyInput input = parseMoney(scanner.nextLine());
+            long amount = input.amount();
+            logger.debug("Attempting to deposit amount: {} {}", amount, input.currency());
+            accountService.deposit(amount, input.currency());
             logger.info("Deposit successful for amount: {}", amount);
             logger.info("\n{} Deposit successful.", SUCCESS_SYMBOL);
 
 
             Account currentAccount = authService.getCurrentAccount();
             if (currentAccount != null) {
-                logger.info("New Balance: {}", currentAccount.getBalance());
+                logger.info("New Balance: {}", formatBalance(currentAccount, input.currency()));
             }
         } catch (NumberFormatException e) {
             logger.error("Invalid amount entered for deposit", e);
@@ -166,22 +205,26 @@ public class ConsolePresenter {
         } catch (IllegalArgumentException e) {
             logger.error("Deposit failed: {}", e.getMessage());
             logger.info("\n{} Error: {}", ERROR_SYMBOL, e.getMessage());
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Deposit rejected: {}", e.getReason());
+            logger.info("\n{} {}. Please try again later.", ERROR_SYMBOL, e.getMessage());
         }
     }
 
     private void handleWithdrawal() {
-        logger.info("Enter amount to withdraw: ");
+        logger.info("Enter amount to withdraw (e.g. 25.50 or 25.50 EUR): ");
         try {
-            int amount = Integer.parseInt(scanner.nextLine());
-            logger.debug("Attempting to withdraw amount: {}", amount);
-            accountService.withdraw(amount);
+            MoneyInput input = parseMoney(scanner.nextLine());
+            long amount = input.amount();
+            logger.debug("Attempting to withdraw amount: {} {}", amount, input.currency());
+            accountService.withdraw(amount, input.currency());
             logger.info("Withdrawal successful for amount: {}", amount);
             logger.info("\n{} Withdrawal successful.", SUCCESS_SYMBOL);
 
 
             Account currentAccount = authService.getCurrentAccount();
             if (currentAccount != null) {
-                logger.info("New Balance: {}", currentAccount.getBalance());
+                logger.info("New Balance: {}", formatBalance(currentAccount, input.currency()));
             }
         } catch (NumberFormatException e) {
             logger.error("Invalid amount entered for withdrawal", e);
@@ -189,9 +232,64 @@ public class ConsolePresenter {
         } catch (IllegalArgumentException e) {
             logger.error("Withdrawal failed: {}", e.getMessage());
             logger.info("\n{} Error: {}", ERROR_SYMBOL, e.getMessage());
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Withdrawal rejected: {}", e.getReason());
+            logger.info("\n{} {}. Please try again later.", ERROR_SYMBOL, e.getMessage());
+        } catch (VelocityLimitExceededException e) {
+            logger.warn("Withdrawal blocked by velocity rule {}", e.getRule());
+            logger.info("\n{} {}", ERROR_SYMBOL, e.getMessage());
+        }
+    }
+
+    private void handleExchange() {
+        logger.info("Enter amount and currency to sell (e.g. 25.50 EUR): ");
+        try {
+            MoneyInput input = parseMoney(scanner.nextLine());
+            logger.info("Enter currency to buy: ");
+            CurrencyCode target = CurrencyCode.fromIso(scanner.nextLine());
+            logger.debug("Attempting to exchange {} {} into {}", input.amount(), input.currency(), target);
+            long credited = accountService.exchange(input.amount(), input.currency(), target);
+            logger.info("\n{} Exchanged into {}.", SUCCESS_SYMBOL, MoneyFormat.format(credited, target) + " " + target);
+
+            Account currentAccount = authService.getCurrentAccount();
+            if (currentAccount != null) {
+                logger.info("New Balances: {}, {}", formatBalance(currentAccount, input.currency()), formatBalance(currentAccount, target));
+            }
+        } catch (NumberFormatException e) {
+            logger.error("Invalid amount entered for exchange", e);
+            logger.info("\n{} Invalid amount. Please enter a valid number.", ERROR_SYMBOL);
+        } catch (IllegalArgumentException e) {
+            logger.error("Exchange failed: {}", e.getMessage());
+            logger.info("\n{} Error: {}", ERROR_SYMBOL, e.getMessage());
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Exchange rejected: {}", e.getReason());
+            logger.info("\n{} {}. Please try again later.", ERROR_SYMBOL, e.getMessage());
+        } catch (VelocityLimitExceededException e) {
+            logger.warn("Exchange blocked by velocity rule {}", e.getRule());
+            logger.info("\n{} {}", ERROR_SYMBOL, e.getMessage());
         }
     }
 
+    private static MoneyInput parseMoney(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length > 2) {
+            throw new NumberFormatException("Invalid amount: " + line);
+        }
+        CurrencyCode currency = parts.length == 2 ? CurrencyCode.fromIso(parts[1]) : CurrencyCode.BASE;
+        return new MoneyInput(MoneyFormat.parse(parts[0], currency), currency);
+    }
+
+    // The projection only tracks the base currency; other balances come from the account itself.
+    private String formatBalance(Account account, CurrencyCode currency) {
+        long balance = currency == CurrencyCode.BASE
+                ? accountQueries.getBalance(account.getAccountNumber())
+                : account.getBalance(currency);
+        return MoneyFormat.format(balance, currency) + " " + currency;
+    }
+
+    private record MoneyInput(long amount, CurrencyCode currency) {
+    }
+
     private void handleSignOut() {
         logger.debug("Signing out user");
 
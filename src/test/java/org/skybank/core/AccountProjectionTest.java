@@ -0,0 +1,166 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.application.dto.response.CreateAccountResponse;
+import org.skybank.core.application.dto.response.SignInResponse;
+import org.skybank.core.application.projection.AccountProjection;
+import org.skybank.core.application.projection.AccountQueryService;
+import org.skybank.core.application.projection.AccountView;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.infrastructure.replication.ReplicationLag;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountProjectionTest {
+
+    private TransactionJournal journal;
+    private InMemoryAccountRepository repository;
+    private AccountProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        journal = new TransactionJournal();
+        repository = new InMemoryAccountRepository(journal);
+        projection = new AccountProjection(journal);
+        projection.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projection.close();
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Projection should maintain an immutable summary per account")
+    void testProjection_MaintainsSummary() {
+        Account account = openAccount("ACC000000001");
+        account.deposit(1000, new Date());
+        account.deposit(500, new Date());
+        account.withdraw(200, new Date());
+
+        AccountView view = projection.find("ACC000000001", journal.lastPosition(), 5_000).orElseThrow();
+
+        assertEquals(1300, view.balance());
+        assertEquals(3, view.transactionCount());
+        assertEquals(1500, view.totalDeposited());
+        assertEquals(200, view.totalWithdrawn());
+        assertEquals(journal.lastPosition(), view.position());
+    }
+
+    @Test
+    @DisplayName("Query service should always reflect the caller's own writes")
+    void testQueryService_ReadYourWrites() {
+        AccountQueryService queries = new AccountQueryService(projection, repository, 1_000);
+        Account account = openAccount("ACC000000002");
+
+        for (int i = 1; i <= 50; i++) {
+            account.deposit(10, new Date());
+            assertEquals(10L * i, queries.getBalance("ACC000000002"));
+        }
+        assertEquals(50, queries.getAccount("ACC000000002").transactionCount());
+    }
+
+    @Test
+    @DisplayName("Sign-in should be served from the projected view")
+    void testSignIn_ServedFromProjection() {
+        AuthServiceImpl authService = new AuthServiceImpl(repository, projection);
+        AccountServiceImpl accountService = new AccountServiceImpl();
+
+        CreateAccountResponse created = authService.createAccount();
+        accountService.deposit(700);
+        accountService.withdraw(100);
+        authService.signOut();
+
+        SignInResponse response = authService.signIn(new SignInRequest(created.accountNumber()));
+
+        assertTrue(response.success());
+        assertEquals(600, response.account().balance());
+        assertEquals(2, response.account().transactionCount());
+    }
+
+    @Test
+    @DisplayName("Projection should expose lag and rebuild from the journal history")
+    void testProjection_LagAndRebuild() {
+        Account first = openAccount("ACC000000003");
+        Account second = openAccount("ACC000000004");
+        for (int i = 0; i < 100; i++) {
+            first.deposit(1, new Date());
+            second.deposit(2, new Date());
+        }
+        assertTrue(projection.find("ACC000000004", journal.lastPosition(), 5_000).isPresent());
+
+        ReplicationLag lag = projection.lag();
+        assertEquals(journal.lastPosition(), lag.appliedPosition());
+        assertEquals(0, lag.lagEntries());
+
+
+        assertTrue(projection.rebuild(5_000));
+        assertEquals(2, projection.size());
+        assertEquals(100, projection.find("ACC000000003").orElseThrow().balance());
+        assertEquals(200, projection.find("ACC000000004").orElseThrow().balance());
+
+
+        first.deposit(5, new Date());
+        assertEquals(105, projection.find("ACC000000003", journal.lastPosition(), 5_000).orElseThrow().balance());
+    }
+
+    @Test
+    @DisplayName("Fallback summary should count only base-currency amounts, like the projection")
+    void testQueryService_FallbackMatchesProjection() {
+        Account account = openAccount("ACC000000005");
+        account.deposit(1_000, new Date());
+        account.exchange(400, CurrencyCode.BASE, CurrencyCode.EUR, FxRateTable.defaults(), new Date());
+        account.withdraw(1, CurrencyCode.EUR, new Date());
+        AccountView projected = projection.find("ACC000000005", journal.lastPosition(), 5_000).orElseThrow();
+
+        AccountProjection stopped = new AccountProjection(journal);
+        AccountView fallback = new AccountQueryService(stopped, repository, 0).getSummary("ACC000000005");
+
+        assertEquals(projected.balance(), fallback.balance());
+        assertEquals(projected.transactionCount(), fallback.transactionCount());
+        assertEquals(projected.totalDeposited(), fallback.totalDeposited());
+        assertEquals(projected.totalWithdrawn(), fallback.totalWithdrawn());
+    }
+
+    @Test
+    @DisplayName("A reader without writes of its own should still see writes made before the read")
+    void testFindOwnWrites_WithoutOwnWritesWaitsForHead() throws Exception {
+        Account account = openAccount("ACC000000006");
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                account.deposit(1, new Date());
+            }
+        });
+        writer.start();
+        writer.join();
+        Thread reader = new Thread(() ->
+                assertEquals(200, projection.findOwnWrites("ACC000000006", 5_000).orElseThrow().balance()));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        reader.setUncaughtExceptionHandler((thread, error) -> failure.set(error));
+        reader.start();
+        reader.join();
+        assertNull(failure.get());
+    }
+
+    private Account openAccount(String accountNumber) {
+        Account account = new Account(accountNumber, 0, new ArrayList<>());
+        repository.save(account);
+        return account;
+    }
+}
@@ -47,7 +47,7 @@ class AccountServiceImplTest {
     void testDeposit_ValidAmount_Success() {
 
         int depositAmount = 1000;
-        int initialBalance = testAccount.getBalance();
+        long initialBalance = testAccount.getBalance();
 
 
         accountService.deposit(depositAmount);
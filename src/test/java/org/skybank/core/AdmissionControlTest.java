@@ -0,0 +1,258 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.admission.AdaptiveConcurrencyLimit;
+import org.skybank.core.application.admission.AdmissionControlledAccountService;
+import org.skybank.core.application.admission.AdmissionController;
+import org.skybank.core.application.admission.AdmissionPolicy;
+import org.skybank.core.application.admission.AdmissionResult;
+import org.skybank.core.application.admission.TokenBucket;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.AdmissionRejectedException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.service.AccountService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlTest {
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Token bucket should allow the burst and then reject until refilled")
+    void testTokenBucket_BurstThenReject() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 5, now);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(now));
+        }
+        assertFalse(bucket.tryAcquire(now));
+
+
+        assertTrue(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+        assertFalse(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    @DisplayName("Adaptive limit should back off on slow calls and grow again on fast ones")
+    void testAdaptiveLimit_Aimd() {
+        long target = TimeUnit.MILLISECONDS.toNanos(10);
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 5, 200, target, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        limit.release(target * 2, 0);
+        assertEquals(50, limit.getLimit());
+
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(1, target);
+        }
+        assertTrue(limit.getLimit() > 50);
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Adaptive limit should reject instead of queueing when full")
+    void testAdaptiveLimit_RejectsWhenFull() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 2, Long.MAX_VALUE, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should reject with a distinct result code once the account rate is exceeded")
+    void testAccountService_AccountRateExceeded() {
+        AdmissionPolicy policy = new AdmissionPolicy(1, 3, 1_000_000, 1_000_000, 8, 1, 8, Long.MAX_VALUE, 0.9);
+        AccountService service = new AdmissionControlledAccountService(new NoOpAccountService(), new AdmissionController(policy));
+        AccountContext.setCurrentAccount(account("ACC000000001"));
+
+        for (int i = 0; i < 3; i++) {
+            service.deposit(10);
+        }
+
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> service.deposit(10));
+        assertEquals(AdmissionResult.ACCOUNT_RATE_EXCEEDED.name(), exception.getReason());
+
+
+        AccountContext.setCurrentAccount(account("ACC000000002"));
+        assertDoesNotThrow(() -> service.deposit(10));
+    }
+
+    @Test
+    @DisplayName("Calls rejected on the session or concurrency limit should not use up the account's budget")
+    void testRejectedCalls_RefundAccountTokens() {
+        AdmissionPolicy policy = new AdmissionPolicy(1, 2, 1, 1, 8, 1, 8, Long.MAX_VALUE, 0.9);
+        AdmissionController controller = new AdmissionController(policy);
+
+        assertEquals(AdmissionResult.ADMITTED, controller.tryAdmit("ACC000000001", "session-1", 0));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(AdmissionResult.SESSION_RATE_EXCEEDED, controller.tryAdmit("ACC000000001", "session-1", 0));
+        }
+        assertEquals(AdmissionResult.ADMITTED, controller.tryAdmit("ACC000000001", "session-2", 0));
+        assertEquals(AdmissionResult.ACCOUNT_RATE_EXCEEDED, controller.tryAdmit("ACC000000001", "session-3", 0));
+    }
+
+    @Test
+    @DisplayName("Buckets of accounts and sessions that went quiet should be evicted while admitting")
+    void testTryAdmit_EvictsIdleBuckets() {
+        AdmissionPolicy policy = new AdmissionPolicy(10, 5, 10, 5, 8, 1, 8, Long.MAX_VALUE, 0.9);
+        AdmissionController controller = new AdmissionController(policy);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(AdmissionResult.ADMITTED, controller.tryAdmit(String.format("ACC%09d", i), "session-" + i, 0));
+            controller.complete(System.nanoTime());
+        }
+        assertEquals(2_000, controller.bucketCount());
+
+        long later = TimeUnit.SECONDS.toNanos(2);
+        assertEquals(AdmissionResult.ADMITTED, controller.tryAdmit("ACC000000001", "session-1", later));
+        assertEquals(2, controller.bucketCount());
+    }
+
+    @Test
+    @DisplayName("Well-behaved accounts should keep a bounded p99 while one account floods the service")
+    void testAbusiveAccount_DoesNotInflateP99() throws Exception {
+        AdmissionPolicy policy = new AdmissionPolicy(150, 5, 1_000_000, 1_000_000, 16, 2, 64,
+                TimeUnit.MILLISECONDS.toNanos(20), 0.9);
+        long serviceTime = TimeUnit.MILLISECONDS.toNanos(1);
+
+        Flood unprotected = flood(new SerializedAccountService(serviceTime));
+        Flood protectedRun = flood(new AdmissionControlledAccountService(
+                new SerializedAccountService(serviceTime), new AdmissionController(policy)));
+
+        assertEquals(0, unprotected.rejected, "Control run has no limiter");
+        assertTrue(protectedRun.rejected > 0, "Abusive account should have been rejected");
+        assertEquals(0, protectedRun.wellBehavedRejected);
+        assertTrue(protectedRun.p99 * 2 < unprotected.p99,
+                "p99 for well-behaved accounts should be well below the unprotected "
+                        + TimeUnit.NANOSECONDS.toMicros(unprotected.p99) + "us, was "
+                        + TimeUnit.NANOSECONDS.toMicros(protectedRun.p99) + "us");
+    }
+
+    /**
+     * Sixteen abusive clients hammer one account while four well-behaved ones make a call every
+     * 10 ms; returns the well-behaved p99 and the rejection counts.
+     */
+    private static Flood flood(AccountService service) throws InterruptedException {
+        int abusers = 16;
+        int wellBehaved = 4;
+        int opsPerClient = 100;
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong wellBehavedRejected = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(wellBehaved);
+        long[][] latencies = new long[wellBehaved][opsPerClient];
+
+        for (int i = 0; i < abusers; i++) {
+            threads.add(new Thread(() -> {
+                AccountContext.setCurrentAccount(account("ACCABUSER001"));
+                while (running.get()) {
+                    try {
+                        service.deposit(1);
+                    } catch (AdmissionRejectedException e) {
+                        rejected.incrementAndGet();
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+                }
+            }));
+        }
+        for (int i = 0; i < wellBehaved; i++) {
+            int client = i;
+            threads.add(new Thread(() -> {
+                AccountContext.setCurrentAccount(account(String.format("ACCGOOD%05d", client)));
+                for (int op = 0; op < opsPerClient; op++) {
+                    long start = System.nanoTime();
+                    try {
+                        service.deposit(1);
+                    } catch (AdmissionRejectedException e) {
+                        wellBehavedRejected.incrementAndGet();
+                    }
+                    latencies[client][op] = System.nanoTime() - start;
+                    sleepQuietly(10);
+                }
+                done.countDown();
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Flood(all[(int) Math.ceil(all.length * 0.99) - 1], rejected.get(), wellBehavedRejected.get());
+    }
+
+    private record Flood(long p99, long rejected, long wellBehavedRejected) {
+    }
+
+    private static Account account(String accountNumber) {
+        Account account = new Account();
+        account.setAccountNumber(accountNumber);
+        account.setBalance(0);
+        account.setTransactions(new ArrayList<>());
+        return account;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class NoOpAccountService implements AccountService {
+        @Override
+        public void deposit(long amount, CurrencyCode currency) {
+        }
+
+        @Override
+        public void withdraw(long amount, CurrencyCode currency) {
+        }
+
+        @Override
+        public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
+            return 0;
+        }
+
+        @Override
+        public void printStatement() {
+        }
+    }
+
+    private static class SerializedAccountService extends NoOpAccountService {
+        private final long serviceTimeNanos;
+
+        SerializedAccountService(long serviceTimeNanos) {
+            this.serviceTimeNanos = serviceTimeNanos;
+        }
+
+        @Override
+        public synchronized void deposit(long amount, CurrencyCode currency) {
+            LockSupport.parkNanos(serviceTimeNanos);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppWiringTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Statements should be served by the in-process replica")
+    void testWiring_RoutesStatementsToReplica() {
+        try (App.Wiring wiring = App.wire(new String[] {"--h2", directory.toString(), "--replicas", "2"})) {
+            wiring.authService.createAccount();
+            wiring.accountService.deposit(500);
+            wiring.accountService.printStatement();
+
+            assertEquals(1, wiring.readRouter.getReplicaReads());
+            assertEquals(0, wiring.readRouter.getPrimaryReads());
+        }
+    }
+
+    @Test
+    @DisplayName("Without replicas statements should come from the primary")
+    void testWiring_NoReplicas() {
+        try (App.Wiring wiring = App.wire(new String[] {"--h2", directory.toString(), "--replicas", "0"})) {
+            wiring.authService.createAccount();
+            wiring.accountService.printStatement();
+
+            assertEquals(1, wiring.readRouter.getPrimaryReads());
+        }
+    }
+
+    @Test
+    @DisplayName("Balance and summary reads should come from the projection and include the caller's writes")
+    void testWiring_QueriesSeeOwnWrites() {
+        try (App.Wiring wiring = App.wire(new String[] {"--h2", directory.toString()})) {
+            String accountNumber = wiring.authService.createAccount().accountNumber();
+            wiring.accountService.deposit(500);
+            wiring.accountService.withdraw(200);
+
+            assertEquals(300, wiring.accountQueries.getBalance(accountNumber));
+            assertEquals(500, wiring.accountQueries.getSummary(accountNumber).totalDeposited());
+            assertEquals(2, wiring.accountQueries.getSummary(accountNumber).transactionCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Velocity windows should be restored from the journal file after a restart")
+    void testRestart_RestoresVelocityWindows() {
+        String[] args = {"--h2", directory.toString()};
+        String accountNumber;
+        try (App.Wiring wiring = App.wire(args)) {
+            accountNumber = wiring.authService.createAccount().accountNumber();
+            wiring.accountService.deposit(3_000_000);
+            wiring.accountService.withdraw(400_000);
+            wiring.authService.signOut();
+            wiring.accountRepository.flush();
+        }
+
+        try (App.Wiring restarted = App.wire(args)) {
+            assertTrue(restarted.authService.signIn(new SignInRequest(accountNumber)).success());
+            assertEquals(3, restarted.journal.lastPosition());
+            assertThrows(VelocityLimitExceededException.class, () -> restarted.accountService.withdraw(200_000));
+            assertEquals(2_600_000, restarted.authService.getCurrentAccount().getBalance());
+        }
+    }
+
+    @Test
+    @DisplayName("Accounts loaded from the database should be in the balance index after a restart")
+    void testRestart_BackfillsBalanceIndex() {
+        String[] args = {"--h2", directory.toString()};
+        String accountNumber;
+        try (App.Wiring wiring = App.wire(args)) {
+            accountNumber = wiring.authService.createAccount().accountNumber();
+            wiring.accountService.deposit(7_500);
+            wiring.accountRepository.flush();
+        }
+
+        try (App.Wiring restarted = App.wire(args)) {
+            assertEquals(7_500, restarted.balanceIndex.balanceOf(accountNumber, CurrencyCode.BASE));
+            assertEquals(accountNumber, restarted.balanceIndex.top(CurrencyCode.BASE, 1).get(0).accountNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("Unknown options should be rejected")
+    void testWiring_RejectsUnknownOption() {
+        assertThrows(IllegalArgumentException.class, () -> App.wire(new String[] {"--h3", "data"}));
+    }
+}
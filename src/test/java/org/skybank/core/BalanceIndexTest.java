@@ -0,0 +1,133 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.index.BalanceEntry;
+import org.skybank.core.application.index.BalanceIndex;
+import org.skybank.core.domain.event.CompositeAccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceIndexTest {
+
+    @Test
+    @DisplayName("Top-N and range scans should match a full walk of the accounts")
+    void testScans_MatchFullWalk() {
+        BalanceIndex index = new BalanceIndex();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(index);
+        for (int i = 0; i < 2_000; i++) {
+            Account account = open(repository, i);
+            if (i % 3 != 0) {
+                account.deposit((i * 7_919L) % 100_000 + 1, new Date());
+            }
+        }
+
+        List<String> expectedTop = repository.findAll().stream()
+                .sorted(Comparator.comparingLong((Account account) -> account.getBalance()).reversed()
+                        .thenComparing(Account::getAccountNumber, Comparator.reverseOrder()))
+                .limit(25)
+                .map(Account::getAccountNumber)
+                .collect(Collectors.toList());
+        assertEquals(expectedTop, numbers(index.top(CurrencyCode.BASE, 25)));
+
+        long inRange = repository.findAll().stream()
+                .filter(account -> account.getBalance() >= 20_000 && account.getBalance() <= 30_000)
+                .count();
+        List<BalanceEntry> range = index.range(CurrencyCode.BASE, 20_000, 30_000, Integer.MAX_VALUE);
+        assertEquals(inRange, range.size());
+        for (int i = 1; i < range.size(); i++) {
+            assertTrue(range.get(i - 1).balance() <= range.get(i).balance());
+        }
+
+        assertEquals(667, index.below(CurrencyCode.BASE, 1, Integer.MAX_VALUE).size());
+        assertEquals(10, index.bottom(CurrencyCode.BASE, 10).size());
+        assertEquals(2_000, index.size(CurrencyCode.BASE));
+        assertEquals(0, index.size(CurrencyCode.EUR));
+        assertTrue(index.range(CurrencyCode.BASE, 5, 4, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Index should follow deposits, withdrawals and exchanges in every currency")
+    void testIndex_FollowsBalanceChanges() {
+        TransactionJournal journal = new TransactionJournal();
+        BalanceIndex index = new BalanceIndex();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(new CompositeAccountEventListener(journal, index));
+        Account rich = open(repository, 1);
+        Account poor = open(repository, 2);
+
+        rich.deposit(1_000_000, new Date());
+        poor.deposit(500, new Date());
+        assertEquals(List.of("ACC000000001", "ACC000000002"), numbers(index.top(CurrencyCode.BASE, 5)));
+
+        rich.withdraw(999_900, new Date());
+        assertEquals(List.of("ACC000000002", "ACC000000001"), numbers(index.top(CurrencyCode.BASE, 5)));
+        assertEquals(100L, index.balanceOf("ACC000000001", CurrencyCode.BASE));
+
+        poor.exchange(500, CurrencyCode.BASE, CurrencyCode.EUR, FxRateTable.defaults(), new Date());
+        assertEquals(List.of("ACC000000002"), numbers(index.below(CurrencyCode.BASE, 1, 10)));
+        assertEquals(1, index.size(CurrencyCode.EUR));
+        assertEquals(2, index.size(CurrencyCode.BASE));
+
+        index.remove("ACC000000002");
+        assertEquals(List.of("ACC000000001"), numbers(index.top(CurrencyCode.BASE, 5)));
+        assertEquals(0, index.size(CurrencyCode.EUR));
+        assertTrue(journal.lastPosition() >= 5);
+    }
+
+    @Test
+    @DisplayName("Concurrent updates should leave exactly one entry per account at its final balance")
+    void testConcurrentUpdates_OneEntryPerAccount() throws Exception {
+        BalanceIndex index = new BalanceIndex();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(index);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            accounts.add(open(repository, i));
+        }
+
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            int seed = t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    Account account = accounts.get((i * 31 + seed) % accounts.size());
+                    account.deposit(1 + (i + seed) % 5, new Date());
+                }
+            });
+            writers[t].start();
+        }
+        while (writers[0].isAlive()) {
+            List<BalanceEntry> top = index.top(CurrencyCode.BASE, 64);
+            assertEquals(top.size(), top.stream().map(BalanceEntry::accountNumber).distinct().count());
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        List<BalanceEntry> all = index.bottom(CurrencyCode.BASE, Integer.MAX_VALUE);
+        assertEquals(64, all.size());
+        for (BalanceEntry entry : all) {
+            assertEquals(repository.findByAccountNumber(entry.accountNumber()).orElseThrow().getBalance(), entry.balance());
+        }
+    }
+
+    private static Account open(InMemoryAccountRepository repository, int number) {
+        Account account = new Account(String.format("ACC%09d", number), 0, new ArrayList<>());
+        repository.save(account);
+        return account;
+    }
+
+    private static List<String> numbers(List<BalanceEntry> entries) {
+        return entries.stream().map(BalanceEntry::accountNumber).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,132 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.application.dto.response.CreateAccountResponse;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.audit.AuditEventType;
+import org.skybank.core.infrastructure.audit.AuditLogDecoder;
+import org.skybank.core.infrastructure.audit.AuditOverflowPolicy;
+import org.skybank.core.infrastructure.audit.AuditRecord;
+import org.skybank.core.infrastructure.audit.BinaryAuditLog;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Services should audit sign-in, money movements and failures")
+    void testServices_RecordAuditTrail() {
+        BinaryAuditLog auditLog = new BinaryAuditLog(directory, 1024, 1 << 20, AuditOverflowPolicy.BLOCK);
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        AuthServiceImpl authService = new AuthServiceImpl(repository, null, auditLog);
+        AccountServiceImpl accountService = new AccountServiceImpl(auditLog);
+
+        CreateAccountResponse created = authService.createAccount();
+        accountService.deposit(1000);
+        accountService.withdraw(300);
+        assertThrows(InsufficientFundsException.class, () -> accountService.withdraw(5000));
+        authService.signOut();
+        authService.signIn(new SignInRequest("ACCUNKNOWN01"));
+        authService.signIn(new SignInRequest(created.accountNumber()));
+        auditLog.close();
+
+        List<AuditRecord> records = AuditLogDecoder.readAll(directory);
+        assertEquals(List.of(
+                        AuditEventType.ACCOUNT_CREATED,
+                        AuditEventType.DEPOSIT,
+                        AuditEventType.WITHDRAWAL,
+                        AuditEventType.WITHDRAWAL_FAILED,
+                        AuditEventType.SIGN_OUT,
+                        AuditEventType.SIGN_IN_FAILED,
+                        AuditEventType.SIGN_IN),
+                records.stream().map(AuditRecord::type).collect(Collectors.toList()));
+
+        AuditRecord withdrawal = records.get(2);
+        assertEquals(created.accountNumber(), withdrawal.accountNumber());
+        assertEquals(300, withdrawal.amount());
+        assertEquals(700, withdrawal.balance());
+        assertEquals(2, withdrawal.sequence());
+        assertTrue(withdrawal.toText().contains("WITHDRAWAL"));
+    }
+
+    @Test
+    @DisplayName("Drainer should roll over to a new file when the size cap is reached")
+    void testRollingFiles() {
+        BinaryAuditLog auditLog = new BinaryAuditLog(directory, 64, 16 + 64 * 4, AuditOverflowPolicy.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            auditLog.record(AuditEventType.DEPOSIT, "ACC000000001", i, i);
+        }
+        auditLog.close();
+
+        assertEquals(3, AuditLogDecoder.auditFiles(directory).size());
+        List<AuditRecord> records = AuditLogDecoder.readAll(directory);
+        assertEquals(10, records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, records.get(i).sequence());
+            assertEquals(i, records.get(i).amount());
+        }
+    }
+
+    @Test
+    @DisplayName("Blocking policy should never lose records even with a tiny buffer")
+    void testBlockPolicy_LosesNothing() throws Exception {
+        BinaryAuditLog auditLog = new BinaryAuditLog(directory, 4, 1 << 20, AuditOverflowPolicy.BLOCK);
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    auditLog.record(AuditEventType.DEPOSIT, "ACC000000001", 1, i);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        auditLog.close();
+
+        assertEquals(0, auditLog.getDroppedCount());
+        assertEquals(8_000, AuditLogDecoder.readAll(directory).size());
+    }
+
+    @Test
+    @DisplayName("Drop policy should account for every discarded record with a marker")
+    void testDropPolicy_MarksGaps() {
+        BinaryAuditLog auditLog = new BinaryAuditLog(directory, 2, 1 << 20, AuditOverflowPolicy.DROP_AND_MARK);
+        int total = 50_000;
+        for (int i = 0; i < total; i++) {
+            auditLog.record(AuditEventType.WITHDRAWAL, "ACC000000001", 1, i);
+        }
+        auditLog.close();
+
+        List<AuditRecord> records = AuditLogDecoder.readAll(directory);
+        long written = records.stream().filter(record -> record.type() != AuditEventType.RECORDS_DROPPED).count();
+        long dropped = records.stream()
+                .filter(record -> record.type() == AuditEventType.RECORDS_DROPPED)
+                .mapToLong(AuditRecord::amount)
+                .sum();
+
+        assertEquals(auditLog.getDroppedCount(), dropped);
+        assertEquals(total, written + dropped);
+    }
+}
@@ -0,0 +1,276 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.domain.exception.AccountNotFoundException;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.infrastructure.cluster.ClusterException;
+import org.skybank.core.infrastructure.cluster.ClusterNode;
+import org.skybank.core.infrastructure.cluster.NodeAddress;
+import org.skybank.core.infrastructure.cluster.PartitionRing;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterNodeTest {
+
+    private final List<ClusterNode> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ClusterNode seed = startNode("node-1");
+        startNode("node-2").join(seed.getAddress());
+        startNode("node-3").join(seed.getAddress());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ClusterNode::close);
+    }
+
+    @Test
+    @DisplayName("Consistent hashing should only move partitions to the new member")
+    void testPartitionRing_JoinMovesOnlyToNewMember() {
+        List<NodeAddress> members = List.of(
+                new NodeAddress("a", "127.0.0.1", 1),
+                new NodeAddress("b", "127.0.0.1", 2),
+                new NodeAddress("c", "127.0.0.1", 3));
+        PartitionRing before = new PartitionRing(256, 32, members);
+        NodeAddress newcomer = new NodeAddress("d", "127.0.0.1", 4);
+        PartitionRing after = before.withMember(newcomer);
+
+        int moved = 0;
+        for (int partition = 0; partition < 256; partition++) {
+            if (!before.ownerOf(partition).equals(after.ownerOf(partition))) {
+                assertEquals(newcomer, after.ownerOf(partition));
+                moved++;
+            }
+        }
+        assertTrue(moved > 0 && moved < 256);
+    }
+
+    @Test
+    @DisplayName("Accounts should be owned by a single node and reachable from any node")
+    void testForwarding_ToOwningNode() {
+        List<String> accounts = openAccounts(30);
+
+        Set<String> owners = new HashSet<>();
+        for (String account : accounts) {
+            long owning = nodes.stream().filter(node -> node.ownsAccount(account)).count();
+            assertEquals(1, owning);
+            nodes.stream().filter(node -> node.ownsAccount(account))
+                    .forEach(node -> owners.add(node.getAddress().nodeId()));
+        }
+        assertTrue(owners.size() > 1, "Accounts should be spread over several nodes");
+
+
+        for (int i = 0; i < accounts.size(); i++) {
+            nodes.get(i % nodes.size()).deposit(accounts.get(i), 1000);
+        }
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(1000, nodes.get((i + 1) % nodes.size()).balance(accounts.get(i)));
+        }
+        assertEquals(30, nodes.stream().mapToInt(ClusterNode::localAccountCount).sum());
+    }
+
+    @Test
+    @DisplayName("Cross-partition transfers should move funds atomically and reject overdrafts")
+    void testTransfer_AcrossNodes() {
+        List<String> accounts = openAccounts(20);
+        String from = accounts.get(0);
+        String to = accounts.stream()
+                .filter(account -> !ownerOf(account).equals(ownerOf(from)))
+                .findFirst()
+                .orElseThrow();
+
+        nodes.get(0).deposit(from, 500);
+        nodes.get(2).transfer(from, to, 200);
+
+        assertEquals(300, nodes.get(1).balance(from));
+        assertEquals(200, nodes.get(1).balance(to));
+
+
+        assertThrows(InsufficientFundsException.class, () -> nodes.get(1).transfer(from, to, 301));
+        assertThrows(AccountNotFoundException.class, () -> nodes.get(1).transfer(from, "ACCMISSING01", 10));
+        assertEquals(300, nodes.get(0).balance(from));
+        assertEquals(200, nodes.get(0).balance(to));
+
+
+        assertEquals(0, nodes.get(0).withdraw(from, 300));
+    }
+
+    @Test
+    @DisplayName("A transfer whose credit side is unreachable should release the debit reservation")
+    void testTransfer_AbortsWhenCreditSideUnreachable() {
+        List<String> accounts = openAccounts(30);
+        ClusterNode coordinator = nodes.get(0);
+        String from = accounts.stream().filter(coordinator::ownsAccount).findFirst().orElseThrow();
+        String to = accounts.stream().filter(account -> !coordinator.ownsAccount(account)).findFirst().orElseThrow();
+        ClusterNode creditOwner = nodes.stream().filter(node -> node.ownsAccount(to)).findFirst().orElseThrow();
+        coordinator.deposit(from, 500);
+
+        creditOwner.close();
+        assertThrows(ClusterException.class, () -> coordinator.transfer(from, to, 200));
+
+        assertEquals(0, coordinator.withdraw(from, 500), "The full balance is available again");
+        assertEquals(1, coordinator.pendingOutcomes(), "The abort for the unreachable side stays queued for retry");
+    }
+
+    @Test
+    @DisplayName("Participants should forget a committed transfer once every side acknowledged it")
+    void testTransfer_ForgetsCommittedKeys() {
+        List<String> accounts = openAccounts(20);
+        String from = accounts.get(0);
+        String to = accounts.stream()
+                .filter(account -> !ownerOf(account).equals(ownerOf(from)))
+                .findFirst()
+                .orElseThrow();
+        nodes.get(0).deposit(from, 500);
+
+        for (int i = 0; i < 5; i++) {
+            nodes.get(i % nodes.size()).transfer(from, to, 10);
+        }
+
+        assertEquals(450, nodes.get(0).balance(from));
+        assertEquals(0, nodes.stream().mapToInt(ClusterNode::rememberedTransfers).sum());
+        assertEquals(0, nodes.stream().mapToInt(ClusterNode::pendingOutcomes).sum());
+    }
+
+    @Test
+    @DisplayName("A PREPARE arriving after its ABORT should be refused and reserve nothing")
+    void testPrepare_RefusedAfterAbort() throws IOException {
+        ClusterNode node = nodes.get(0);
+        String account = openAccounts(30).stream().filter(node::ownsAccount).findFirst().orElseThrow();
+        node.deposit(account, 500);
+
+        assertEquals(0, send(node.getAddress(), (byte) 7, account, 0, "node-9-1"));
+        assertNotEquals(0, send(node.getAddress(), (byte) 5, account, -200, "node-9-1"));
+
+        assertEquals(0, node.reservedFunds());
+        assertEquals(0, node.withdraw(account, 500));
+    }
+
+    @Test
+    @DisplayName("A reservation whose coordinator never decides should be released after the prepare timeout")
+    void testPrepare_ExpiresWithoutCoordinator() throws IOException, InterruptedException {
+        ClusterNode node = new ClusterNode("solo", 8, 4, 200);
+        node.start();
+        nodes.add(node);
+        String account = node.openAccount();
+        node.deposit(account, 500);
+
+        assertEquals(0, send(node.getAddress(), (byte) 5, account, -200, "gone-1"));
+        assertEquals(200, node.reservedFunds());
+        assertThrows(InsufficientFundsException.class, () -> node.withdraw(account, 500));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (node.reservedFunds() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, node.reservedFunds(), "Presumed abort releases the reservation");
+        assertEquals(0, node.withdraw(account, 500));
+    }
+
+    @Test
+    @DisplayName("A joining node should take over partitions without losing balances")
+    void testRebalancing_WhenNodeJoins() {
+        List<String> accounts = openAccounts(60);
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            nodes.get(i % nodes.size()).deposit(accounts.get(i), 100 + i);
+            expected.put(accounts.get(i), 100L + i);
+        }
+
+        ClusterNode joiner = startNode("node-4");
+        joiner.join(nodes.get(0).getAddress());
+
+        assertTrue(joiner.localAccountCount() > 0, "New node should own some accounts after joining");
+        assertEquals(60, nodes.stream().mapToInt(ClusterNode::localAccountCount).sum());
+        for (ClusterNode node : nodes) {
+            assertEquals(4, node.getRing().members().size());
+            for (Map.Entry<String, Long> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), node.balance(entry.getKey()));
+            }
+        }
+
+
+        String moved = accounts.stream().filter(joiner::ownsAccount).findFirst().orElseThrow();
+        assertEquals(expected.get(moved) + 5, nodes.get(0).deposit(moved, 5));
+    }
+
+    @Test
+    @DisplayName("A handed-over account should keep its end-of-day marker and hot mode")
+    void testRebalancing_CarriesAccountState() {
+        List<String> accounts = openAccounts(60);
+        for (String accountNumber : accounts) {
+            Account account = nodes.stream()
+                    .map(node -> node.localAccount(accountNumber))
+                    .flatMap(Optional::stream)
+                    .findFirst()
+                    .orElseThrow();
+            account.setLastEndOfDay(19_000);
+            account.enableHotMode(4, 100);
+            account.deposit(25, new Date());
+        }
+
+        ClusterNode joiner = startNode("node-4");
+        joiner.join(nodes.get(0).getAddress());
+
+        String moved = accounts.stream().filter(joiner::ownsAccount).findFirst().orElseThrow();
+        Account account = joiner.localAccount(moved).orElseThrow();
+        assertEquals(19_000, account.getLastEndOfDay());
+        assertTrue(account.isHot());
+        assertEquals(4, account.getHotStripes());
+        assertEquals(100, account.getHotMaxPending());
+        assertEquals(25, account.getBalance());
+        assertEquals(1, account.getTransactions().size());
+    }
+
+    private ClusterNode startNode(String nodeId) {
+        ClusterNode node = new ClusterNode(nodeId, 32, 16);
+        node.start();
+        nodes.add(node);
+        return node;
+    }
+
+    private List<String> openAccounts(int count) {
+        List<String> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(nodes.get(i % nodes.size()).openAccount());
+        }
+        return accounts;
+    }
+
+    // Speaks the node protocol directly to stand in for a coordinator that is slow or gone.
+    private static byte send(NodeAddress target, byte op, String account, long amount, String txId) throws IOException {
+        try (Socket socket = new Socket(target.host(), target.port())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeByte(op);
+            out.writeUTF(account);
+            out.writeLong(amount);
+            out.writeUTF(txId);
+            out.writeInt(0);
+            out.flush();
+            return new DataInputStream(socket.getInputStream()).readByte();
+        }
+    }
+
+    private String ownerOf(String account) {
+        return nodes.get(0).getRing().ownerOfAccount(account).nodeId();
+    }
+}
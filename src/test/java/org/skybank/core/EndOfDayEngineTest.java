@@ -0,0 +1,230 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.batch.EndOfDayEngine;
+import org.skybank.core.application.batch.EndOfDayPolicy;
+import org.skybank.core.application.batch.EndOfDayReport;
+import org.skybank.core.domain.event.AccountEventListener;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndOfDayEngineTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+    private static final Date DURING_DAY = Date.from(BUSINESS_DATE.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant());
+    private static final Date AFTER_CUT_OVER = Date.from(BUSINESS_DATE.plusDays(1).atTime(0, 30).atZone(ZoneId.systemDefault()).toInstant());
+
+    // 36.5% a year is exactly 0.1% a day
+    private static final EndOfDayPolicy POLICY = new EndOfDayPolicy(3_650, 365, 5, 50_000, 64);
+
+    @TempDir
+    Path directory;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Run should post interest on every currency and charge fees below the waiver balance")
+    void testRun_PostsInterestAndFees() {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        Account rich = open(repository, "ACC000000001", 100_000);
+        Account poor = open(repository, "ACC000000002", 10_000);
+        Account empty = open(repository, "ACC000000003", 0);
+        rich.deposit(20_000, CurrencyCode.EUR, DURING_DAY);
+
+        EndOfDayReport report = new EndOfDayEngine(repository, POLICY, null, pool).run(BUSINESS_DATE);
+
+        assertTrue(report.completed());
+        assertEquals(3, report.accountsProcessed());
+        assertEquals(100_100, rich.getBalance());
+        assertEquals(20_020, rich.getBalance(CurrencyCode.EUR));
+        assertEquals(10_005, poor.getBalance());
+        assertEquals(0, empty.getBalance());
+        assertEquals(3, report.interestPostings());
+        assertEquals(1, report.feePostings());
+        assertEquals(110, report.interestPaidBase());
+        assertEquals(5, report.feesChargedBase());
+
+        Transaction fee = poor.getTransactions().get(poor.getTransactions().size() - 1);
+        assertEquals(-5, fee.getAmount());
+        assertEquals(BUSINESS_DATE.toEpochDay(), poor.getLastEndOfDay());
+    }
+
+    @Test
+    @DisplayName("Interest should accrue on the balance at cut-over, not on later live deposits")
+    void testRun_UsesCutOverBalance() {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        Account account = open(repository, "ACC000000004", 100_000);
+        account.deposit(900_000, AFTER_CUT_OVER);
+
+        new EndOfDayEngine(repository, POLICY, null, pool).run(BUSINESS_DATE);
+
+        assertEquals(1_000_100, account.getBalance());
+    }
+
+    @Test
+    @DisplayName("Re-running a business date should never post twice")
+    void testRun_IsIdempotent() {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        Account account = open(repository, "ACC000000005", 100_000);
+        Path checkpoint = directory.resolve("eod.checkpoint");
+
+        new EndOfDayEngine(repository, POLICY, checkpoint, pool).run(BUSINESS_DATE);
+        EndOfDayReport fromCheckpoint = new EndOfDayEngine(repository, POLICY, checkpoint, pool).run(BUSINESS_DATE);
+        EndOfDayReport withoutCheckpoint = new EndOfDayEngine(repository, POLICY, null, pool).run(BUSINESS_DATE);
+
+        assertEquals(POLICY.partitionCount(), fromCheckpoint.partitionsSkipped());
+        assertEquals(0, fromCheckpoint.accountsProcessed());
+        assertEquals(0, withoutCheckpoint.accountsProcessed());
+        assertEquals(100_100, account.getBalance());
+
+        new EndOfDayEngine(repository, POLICY, checkpoint, pool).run(BUSINESS_DATE.plusDays(1));
+        assertEquals(100_200, account.getBalance());
+    }
+
+    @Test
+    @DisplayName("An interrupted run should resume from its checkpoint and post each account once")
+    void testRun_ResumesFromCheckpoint() {
+        AtomicReference<EndOfDayEngine> running = new AtomicReference<>();
+        int[] postings = new int[1];
+        AccountEventListener stopAfterSome = new AccountEventListener() {
+            @Override
+            public void onAccountOpened(Account account) {
+            }
+
+            @Override
+            public void onTransaction(Account account, Transaction transaction) {
+                synchronized (postings) {
+                    if (++postings[0] == 300 && running.get() != null) {
+                        running.get().requestStop();
+                    }
+                }
+            }
+        };
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(stopAfterSome);
+        for (int i = 0; i < 2_000; i++) {
+            open(repository, String.format("ACC%09d", i), 100_000);
+        }
+        Path checkpoint = directory.resolve("eod.checkpoint");
+        synchronized (postings) {
+            postings[0] = 0;
+        }
+
+        EndOfDayEngine first = new EndOfDayEngine(repository, POLICY, checkpoint, pool);
+        running.set(first);
+        EndOfDayReport interrupted = first.run(BUSINESS_DATE);
+        running.set(null);
+
+        assertFalse(interrupted.completed());
+        assertTrue(interrupted.partitionsRun() > 0 && interrupted.partitionsRun() < POLICY.partitionCount());
+
+        EndOfDayReport resumed = new EndOfDayEngine(repository, POLICY, checkpoint, pool).run(BUSINESS_DATE);
+
+        assertTrue(resumed.completed());
+        assertEquals(interrupted.partitionsRun(), resumed.partitionsSkipped());
+        assertEquals(2_000, interrupted.accountsProcessed() + resumed.accountsProcessed());
+        for (Account account : repository.findAll()) {
+            assertEquals(100_100, account.getBalance(), account.getAccountNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("Results should not depend on the degree of parallelism")
+    void testRun_SameResultAtAnyParallelism() {
+        EndOfDayReport sequential = runOver(new ForkJoinPool(1), 5_000);
+        EndOfDayReport parallel = runOver(pool, 5_000);
+
+        assertEquals(sequential.accountsProcessed(), parallel.accountsProcessed());
+        assertEquals(sequential.interestPaidBase(), parallel.interestPaidBase());
+        assertEquals(sequential.feesChargedBase(), parallel.feesChargedBase());
+        assertEquals(4, parallel.parallelism());
+    }
+
+    @Test
+    @DisplayName("Each account's postings should be delivered in one call and flushed before the checkpoint")
+    void testRun_PostsAccountsInBulkAndFlushes() {
+        List<Integer> batches = new ArrayList<>();
+        List<Long> days = new ArrayList<>();
+        AccountEventListener recorder = new AccountEventListener() {
+            @Override
+            public void onAccountOpened(Account account) {
+            }
+
+            @Override
+            public void onTransaction(Account account, Transaction transaction) {
+            }
+
+            @Override
+            public void onEndOfDay(Account account, List<Transaction> postings, long epochDay) {
+                synchronized (batches) {
+                    batches.add(postings.size());
+                    days.add(account.getLastEndOfDay());
+                }
+            }
+        };
+        int[] flushes = new int[1];
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(recorder) {
+            @Override
+            public void flush() {
+                synchronized (flushes) {
+                    flushes[0]++;
+                }
+            }
+        };
+        Account rich = open(repository, "ACC000000006", 100_000);
+        rich.deposit(20_000, CurrencyCode.EUR, DURING_DAY);
+        open(repository, "ACC000000007", 10_000);
+        open(repository, "ACC000000008", 0);
+
+        EndOfDayReport report = new EndOfDayEngine(repository, POLICY, directory.resolve("eod.checkpoint"), pool).run(BUSINESS_DATE);
+
+        assertEquals(report.partitionsRun(), flushes[0]);
+        assertEquals(List.of(0, 2, 2), batches.stream().sorted().toList());
+        assertTrue(days.stream().allMatch(day -> day == BUSINESS_DATE.toEpochDay()));
+        assertEquals(100_100, rich.getBalance());
+        assertEquals(20_020, rich.getBalance(CurrencyCode.EUR));
+    }
+
+    private EndOfDayReport runOver(ForkJoinPool runPool, int accounts) {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        for (int i = 0; i < accounts; i++) {
+            open(repository, String.format("ACC%09d", i), (i * 7_919L) % 200_000);
+        }
+        try {
+            return new EndOfDayEngine(repository, POLICY, null, runPool).run(BUSINESS_DATE);
+        } finally {
+            if (runPool != pool) {
+                runPool.shutdownNow();
+            }
+        }
+    }
+
+    private static Account open(InMemoryAccountRepository repository, String accountNumber, long balance) {
+        Account account = new Account(accountNumber, 0, new ArrayList<>());
+        repository.save(account);
+        if (balance > 0) {
+            account.deposit(balance, DURING_DAY);
+        }
+        return account;
+    }
+}
@@ -0,0 +1,136 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.hot.HotAccountFolder;
+import org.skybank.core.application.hot.HotAccountPolicy;
+import org.skybank.core.application.reconciliation.LedgerReconciler;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotAccountTest {
+
+    @Test
+    @DisplayName("Concurrent deposits to a hot account should fold into an exact history")
+    void testHotDeposits_FoldExactly() throws Exception {
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        account.enableHotMode(8, 1_000);
+        int threads = 8;
+        int depositsPerThread = 20_000;
+
+        Thread[] depositors = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            CurrencyCode currency = t % 2 == 0 ? CurrencyCode.BASE : CurrencyCode.EUR;
+            depositors[t] = new Thread(() -> {
+                for (int i = 0; i < depositsPerThread; i++) {
+                    account.deposit(1 + i % 7, currency, new Date());
+                }
+            });
+            depositors[t].start();
+        }
+        for (Thread depositor : depositors) {
+            depositor.join();
+        }
+
+        long expectedPerThread = 0;
+        for (int i = 0; i < depositsPerThread; i++) {
+            expectedPerThread += 1 + i % 7;
+        }
+        assertEquals(expectedPerThread * threads / 2, account.getBalance());
+        assertEquals(expectedPerThread * threads / 2, account.getBalance(CurrencyCode.EUR));
+
+        account.foldCredits();
+        List<Transaction> history = account.getTransactionSnapshot();
+        assertEquals(threads * depositsPerThread, history.size());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertTrue(new LedgerReconciler(pool).verify(account).isEmpty());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Withdrawals from a hot account should see credits that are still pending")
+    void testWithdraw_SeesPendingCredits() {
+        Account account = new Account("ACC000000002", 0, new ArrayList<>());
+        account.enableHotMode(4, 1_000);
+
+        account.deposit(600, new Date());
+        account.deposit(400, new Date());
+        assertEquals(1_000, account.getBalance());
+        assertTrue(account.getTransactions().isEmpty());
+
+        account.withdraw(1_000, new Date());
+
+        assertEquals(0, account.getBalance());
+        assertThrows(IllegalArgumentException.class, () -> account.withdraw(1, new Date()));
+        List<Transaction> history = account.getTransactions();
+        assertEquals(3, history.size());
+        assertEquals(1_000, history.get(1).getBalance());
+        assertEquals(-1_000, history.get(2).getAmount());
+        assertThrows(IllegalArgumentException.class, () -> account.deposit(0, new Date()));
+    }
+
+    @Test
+    @DisplayName("A fold that would overflow the balance should apply nothing and keep the credits pending")
+    void testFold_RefusesOverflow() {
+        Account account = new Account("ACC000000004", 0, new ArrayList<>());
+        account.setBalance(Long.MAX_VALUE - 10);
+        account.enableHotMode(4, 1_000);
+
+        account.deposit(6, new Date());
+        account.deposit(6, new Date());
+
+        assertThrows(IllegalArgumentException.class, account::foldCredits);
+        assertTrue(account.getTransactions().isEmpty());
+        assertThrows(IllegalArgumentException.class, account::disableHotMode);
+        assertTrue(account.isHot());
+        assertThrows(IllegalArgumentException.class, () -> account.withdraw(1, new Date()));
+    }
+
+    @Test
+    @DisplayName("Folder should fold hot accounts into the journal and demotion should post directly again")
+    void testFolder_PromoteFoldDemote() {
+        TransactionJournal journal = new TransactionJournal();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(journal);
+        Account account = new Account("ACC000000003", 0, new ArrayList<>());
+        repository.save(account);
+        long before = journal.lastPosition();
+
+        HotAccountFolder folder = new HotAccountFolder(repository, new HotAccountPolicy(4, 3, 60_000));
+        folder.promote("ACC000000003");
+        assertTrue(folder.isHot("ACC000000003"));
+
+        account.deposit(10, new Date());
+        account.deposit(20, new Date());
+        assertEquals(before, journal.lastPosition());
+        assertEquals(2, folder.foldAll());
+        assertEquals(before + 2, journal.lastPosition());
+
+        for (int i = 0; i < 3; i++) {
+            account.deposit(1, new Date());
+        }
+        assertEquals(5, account.getTransactions().size(), "a full stripe is folded by its depositor");
+
+        account.deposit(5, new Date());
+        folder.demote("ACC000000003");
+        assertFalse(account.isHot());
+        assertEquals(6, account.getTransactions().size());
+
+        account.deposit(7, new Date());
+        assertEquals(7, account.getTransactions().size());
+        assertEquals(45, account.getBalance());
+        folder.close();
+    }
+}
@@ -0,0 +1,259 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.batch.EndOfDayEngine;
+import org.skybank.core.application.batch.EndOfDayPolicy;
+import org.skybank.core.application.dto.request.SignInRequest;
+import org.skybank.core.application.dto.response.CreateAccountResponse;
+import org.skybank.core.application.dto.response.SignInResponse;
+import org.skybank.core.application.reconciliation.LedgerReconciler;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.PersistenceException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.JdbcAccountRepository;
+import org.skybank.core.infrastructure.persistence.JdbcRepositoryPolicy;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcAccountRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Accounts and their history should survive a restart")
+    void testReopen_RestoresAccounts() {
+        JdbcAccountRepository repository = open(null);
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        repository.save(account);
+        account.deposit(10_000, new Date());
+        account.withdraw(2_500, new Date());
+        account.exchange(1_000, CurrencyCode.BASE, CurrencyCode.EUR, FxRateTable.defaults(), new Date());
+        long[] balances = account.getBalances();
+        long chainHash = account.getChainHash();
+        repository.close();
+
+        JdbcAccountRepository reopened = open(null);
+        try {
+            Account restored = reopened.findByAccountNumber("ACC000000001").orElseThrow();
+
+            assertArrayEquals(balances, restored.getBalances());
+            assertEquals(chainHash, restored.getChainHash());
+            List<Transaction> history = restored.getTransactions();
+            assertEquals(4, history.size());
+            assertEquals(-2_500, history.get(1).getAmount());
+            assertEquals(CurrencyCode.EUR, history.get(3).getCurrency());
+            assertEquals(1, reopened.count());
+            assertTrue(reopened.findByAccountNumber("ACC999999999").isEmpty());
+
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                assertTrue(new LedgerReconciler(pool).verify(restored).isEmpty());
+            } finally {
+                pool.shutdownNow();
+            }
+
+            restored.deposit(1, new Date());
+            reopened.flush();
+        } finally {
+            reopened.close();
+        }
+
+        JdbcAccountRepository again = open(null);
+        try {
+            assertEquals(7_501 - 1_000, again.findByAccountNumber("ACC000000001").orElseThrow().getBalance());
+        } finally {
+            again.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Sign-up, sign-in and money movements should go through the store")
+    void testServices_PersistThroughRepository() {
+        TransactionJournal journal = new TransactionJournal();
+        JdbcAccountRepository repository = open(journal);
+        AuthServiceImpl authService = new AuthServiceImpl(repository, null);
+        AccountServiceImpl accountService = new AccountServiceImpl();
+
+        CreateAccountResponse created = authService.createAccount();
+        accountService.deposit(700);
+        accountService.withdraw(200);
+        authService.signOut();
+        assertEquals(2, journal.lastPosition() - 1);
+        repository.close();
+
+        JdbcAccountRepository reopened = open(null);
+        try {
+            AuthServiceImpl restarted = new AuthServiceImpl(reopened, null);
+            SignInResponse response = restarted.signIn(new SignInRequest(created.accountNumber()));
+
+            assertTrue(response.success());
+            assertEquals(500, response.account().balance());
+            assertEquals(2, response.account().transactionCount());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent transactions should be batched without losing or reordering rows")
+    void testConcurrentWrites_BatchedExactly() throws Exception {
+        JdbcAccountRepository repository = open(null);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>());
+            repository.save(account);
+            accounts.add(account);
+        }
+
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            int seed = t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 2_500; i++) {
+                    Account account = accounts.get((i * 7 + seed) % accounts.size());
+                    account.deposit(3, new Date());
+                    if (i % 4 == 0) {
+                        account.withdraw(1, new Date());
+                    }
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        repository.flush();
+        assertEquals(0, repository.backlog());
+        repository.close();
+
+        JdbcAccountRepository reopened = open(null);
+        try {
+            long total = 0;
+            int transactions = 0;
+            for (Account account : reopened.findAll()) {
+                assertEquals(account.getTransactions().get(account.getTransactions().size() - 1).getBalance(), account.getBalance());
+                total += account.getBalance();
+                transactions += account.getTransactions().size();
+            }
+            assertEquals(4 * (2_500 * 3 - 625), total);
+            assertEquals(4 * (2_500 + 625), transactions);
+
+            assertTrue(reopened.delete("ACC000000000").isPresent());
+            assertEquals(19, reopened.count());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("End-of-day postings and the business date they close should be stored together")
+    void testEndOfDay_PersistsLastEndOfDay() {
+        LocalDate businessDate = LocalDate.of(2024, 3, 15);
+        Date duringDay = Date.from(businessDate.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant());
+        EndOfDayPolicy policy = new EndOfDayPolicy(3_650, 365, 5, 50_000, 8);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            JdbcAccountRepository repository = open(null);
+            for (int i = 0; i < 10; i++) {
+                Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>());
+                repository.save(account);
+                account.deposit(100_000, duringDay);
+            }
+            assertEquals(10, new EndOfDayEngine(repository, policy, null, pool).run(businessDate).accountsProcessed());
+            repository.close();
+
+            JdbcAccountRepository reopened = open(null);
+            try {
+                Account account = reopened.findByAccountNumber("ACC000000003").orElseThrow();
+                assertEquals(businessDate.toEpochDay(), account.getLastEndOfDay());
+                assertEquals(100_100, account.getBalance());
+                assertEquals(2, account.getTransactions().size());
+
+                assertEquals(0, new EndOfDayEngine(reopened, policy, null, pool).run(businessDate).accountsProcessed());
+                assertEquals(100_100, reopened.findByAccountNumber("ACC000000007").orElseThrow().getBalance());
+            } finally {
+                reopened.close();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A batch that keeps failing should stop the writer instead of being skipped")
+    void testWriteFailure_StopsWriter() throws Exception {
+        JdbcAccountRepository repository = open(null);
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        repository.save(account);
+        try (Connection connection = DriverManager.getConnection(url())) {
+            connection.createStatement().executeUpdate("INSERT INTO transactions (account_number, seq, booked_at, currency, amount,"
+                    + " balance, chain_hash) VALUES ('ACC000000001', 0, 0, 0, 1, 1, 0)");
+        }
+
+        account.deposit(500, new Date());
+        assertThrows(PersistenceException.class, repository::flush);
+        assertThrows(PersistenceException.class, () -> account.deposit(1, new Date()));
+        assertThrows(PersistenceException.class, () -> account.withdraw(100, new Date()));
+        assertEquals(500, account.getBalance(), "Refused before the balance changed");
+        assertEquals(1, account.getTransactions().size());
+        assertEquals(1, repository.count(), "Connections discarded after the failed batches are reopened");
+        repository.close();
+
+        JdbcAccountRepository reopened = open(null);
+        try {
+            Account restored = reopened.findByAccountNumber("ACC000000001").orElseThrow();
+            assertEquals(0, restored.getBalance());
+            assertEquals(1, restored.getTransactions().size(), "Only the conflicting row, nothing written past the failed batch");
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Transactions after close should be rejected rather than block on the queue")
+    void testClose_RejectsLaterTransactions() {
+        JdbcAccountRepository repository = JdbcAccountRepository.h2(directory, new JdbcRepositoryPolicy(2, 1, 1), null);
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        repository.save(account);
+        repository.close();
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PersistenceException.class, () -> account.deposit(1, new Date()));
+        }
+        assertEquals(0, account.getBalance());
+        assertTrue(account.getTransactions().isEmpty());
+    }
+
+    private String url() {
+        return "jdbc:h2:file:" + directory.resolve("skybank").toAbsolutePath();
+    }
+
+    private JdbcAccountRepository open(TransactionJournal journal) {
+        return JdbcAccountRepository.h2(directory, new JdbcRepositoryPolicy(2, 256, 1_024), journal);
+    }
+}
@@ -0,0 +1,173 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.reconciliation.AccountChecksum;
+import org.skybank.core.application.reconciliation.Discrepancy;
+import org.skybank.core.application.reconciliation.DiscrepancyType;
+import org.skybank.core.application.reconciliation.LedgerDigest;
+import org.skybank.core.application.reconciliation.LedgerReconciler;
+import org.skybank.core.application.reconciliation.ReconciliationReport;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.infrastructure.replication.LocalJournalSource;
+import org.skybank.core.infrastructure.replication.ReadReplica;
+import org.skybank.core.infrastructure.replication.ReplicaAccount;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerReconciliationTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final LedgerReconciler reconciler = new LedgerReconciler(pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A consistent book should reconcile cleanly in parallel")
+    void testVerifyAll_CleanBook() {
+        InMemoryAccountRepository repository = populate(new InMemoryAccountRepository(), 3_000);
+
+        ReconciliationReport report = reconciler.verifyAll(repository.findAll());
+
+        assertTrue(report.isClean());
+        assertEquals(3_000, report.accountsChecked());
+        assertEquals(3_000 * 5, report.transactionsChecked());
+    }
+
+    @Test
+    @DisplayName("Verifier should pinpoint the first divergent entry of a corrupted history")
+    void testVerify_PinpointsFirstDivergence() {
+        InMemoryAccountRepository repository = populate(new InMemoryAccountRepository(), 3);
+        List<Account> accounts = new ArrayList<>(repository.findAll());
+
+        Transaction wrongBalance = accounts.get(0).getTransactions().get(2);
+        wrongBalance.setBalance(wrongBalance.getBalance() + 1);
+
+        Transaction rewritten = accounts.get(1).getTransactions().get(1);
+        rewritten.setAmount(rewritten.getAmount() + 50);
+        rewritten.setBalance(rewritten.getBalance() + 50);
+        Transaction next = accounts.get(1).getTransactions().get(2);
+        next.setBalance(next.getBalance() + 50);
+        accounts.get(1).setBalance(accounts.get(1).getBalance() + 50);
+
+        accounts.get(2).setBalance(CurrencyCode.EUR, 1);
+
+        Discrepancy first = reconciler.verify(accounts.get(0)).orElseThrow();
+        assertEquals(DiscrepancyType.RUNNING_BALANCE, first.type());
+        assertEquals(2, first.entryIndex());
+
+        Discrepancy second = reconciler.verify(accounts.get(1)).orElseThrow();
+        assertEquals(DiscrepancyType.CHAIN_HASH, second.type());
+        assertEquals(1, second.entryIndex());
+
+        Discrepancy third = reconciler.verify(accounts.get(2)).orElseThrow();
+        assertEquals(DiscrepancyType.CLOSING_BALANCE, third.type());
+        assertEquals(5, third.entryIndex());
+
+        assertEquals(3, reconciler.verifyAll(accounts).discrepancies().size());
+    }
+
+    @Test
+    @DisplayName("Sampling should check a deterministic fraction of the book")
+    void testVerifySample_Deterministic() {
+        InMemoryAccountRepository repository = populate(new InMemoryAccountRepository(), 5_000);
+
+        ReconciliationReport sample = reconciler.verifySample(repository.findAll(), 0.1, 42);
+        ReconciliationReport again = reconciler.verifySample(repository.findAll(), 0.1, 42);
+
+        assertTrue(sample.isClean());
+        assertTrue(sample.accountsChecked() > 350 && sample.accountsChecked() < 650, "checked " + sample.accountsChecked());
+        assertEquals(sample.accountsChecked(), again.accountsChecked());
+    }
+
+    @Test
+    @DisplayName("Primary and replica should be compared by digest and diverging accounts identified")
+    void testCompare_PrimaryAgainstReplica() {
+        TransactionJournal journal = new TransactionJournal();
+        InMemoryAccountRepository repository = populate(new InMemoryAccountRepository(journal), 500);
+        ReadReplica replica = new ReadReplica("reconcile", new LocalJournalSource(journal));
+        replica.start();
+        assertTrue(replica.awaitPosition(journal.lastPosition(), 5_000));
+        replica.close();
+
+        List<AccountChecksum> replicaBook = replica.getAccounts().stream()
+                .map(AccountChecksum::of)
+                .collect(Collectors.toList());
+        assertTrue(LedgerDigest.of(primaryBook(repository), 64).matches(LedgerDigest.of(replicaBook, 64)));
+        assertTrue(reconciler.compare(primaryBook(repository), replicaBook, 64).isEmpty());
+
+        Account diverged = repository.findByAccountNumber("ACC000000007").orElseThrow();
+        diverged.deposit(1, new Date());
+        repository.save(new Account("ACC999999999", 0, new ArrayList<>()));
+
+        List<Discrepancy> differences = reconciler.compare(primaryBook(repository), replicaBook, 64);
+
+        assertEquals(2, differences.size());
+        assertTrue(differences.stream().anyMatch(d ->
+                d.accountNumber().equals("ACC000000007") && d.type() == DiscrepancyType.CHECKSUM_MISMATCH && d.entryIndex() == -1));
+        assertTrue(differences.stream().anyMatch(d ->
+                d.accountNumber().equals("ACC999999999") && d.type() == DiscrepancyType.MISSING_ACCOUNT));
+
+        Map<String, List<Transaction>> replicaHistories = replica.getAccounts().stream()
+                .collect(Collectors.toMap(ReplicaAccount::getAccountNumber, ReplicaAccount::getTransactions));
+        differences = reconciler.compare(primaryBook(repository), replicaBook, 64,
+                accountNumber -> repository.findByAccountNumber(accountNumber).orElseThrow().getTransactionSnapshot(),
+                replicaHistories::get);
+
+        assertEquals(2, differences.size());
+        assertTrue(differences.stream().anyMatch(d ->
+                d.accountNumber().equals("ACC000000007") && d.type() == DiscrepancyType.CHECKSUM_MISMATCH && d.entryIndex() == 5));
+        assertTrue(differences.stream().anyMatch(d ->
+                d.accountNumber().equals("ACC999999999") && d.type() == DiscrepancyType.MISSING_ACCOUNT));
+    }
+
+    @Test
+    @DisplayName("Bisection should find the first divergent entry, not the shorter history's length")
+    void testFirstDivergence_InsideHistory() {
+        InMemoryAccountRepository repository = populate(new InMemoryAccountRepository(), 1);
+        List<Transaction> primary = repository.findByAccountNumber("ACC000000000").orElseThrow().getTransactionSnapshot();
+        List<Transaction> copy = new ArrayList<>();
+        for (int i = 0; i < primary.size(); i++) {
+            Transaction original = primary.get(i);
+            long chainHash = i < 2 ? original.getChainHash() : ~original.getChainHash();
+            copy.add(new Transaction(original.getDate(), original.getAmount(), original.getBalance(), original.getCurrency(), chainHash));
+        }
+
+        assertEquals(2, LedgerReconciler.firstDivergence(primary, copy));
+        assertEquals(primary.size(), LedgerReconciler.firstDivergence(primary, primary));
+        assertEquals(3, LedgerReconciler.firstDivergence(primary, primary.subList(0, 3)));
+    }
+
+    private static List<AccountChecksum> primaryBook(InMemoryAccountRepository repository) {
+        return repository.findAll().stream().map(AccountChecksum::of).collect(Collectors.toList());
+    }
+
+    private static InMemoryAccountRepository populate(InMemoryAccountRepository repository, int accounts) {
+        FxRateTable rates = FxRateTable.defaults();
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>());
+            repository.save(account);
+            account.deposit(10_000 + i, new Date());
+            account.withdraw(2_500, new Date());
+            account.deposit(700, CurrencyCode.EUR, new Date());
+            account.exchange(1_000, CurrencyCode.BASE, CurrencyCode.EUR, rates, new Date());
+        }
+        return repository;
+    }
+}
@@ -0,0 +1,151 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.domain.service.implemantation.AuthServiceImpl;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.loadgen.KeyDistribution;
+import org.skybank.core.loadgen.LatencyHistogram;
+import org.skybank.core.loadgen.LoadGenerator;
+import org.skybank.core.loadgen.LoadProfile;
+import org.skybank.core.loadgen.LoadReport;
+import org.skybank.core.loadgen.LoadTarget;
+import org.skybank.core.loadgen.OperationMix;
+import org.skybank.core.loadgen.OperationType;
+import org.skybank.core.loadgen.ServiceLoadTarget;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private final PrintStream originalOut = System.out;
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Skewed key distributions should concentrate traffic on popular accounts")
+    void testKeyDistributions_Skew() {
+        SplittableRandom random = new SplittableRandom(7);
+        int samples = 200_000;
+
+        KeyDistribution zipf = KeyDistribution.parse("zipf:0.99", 10_000);
+        KeyDistribution hot = KeyDistribution.parse("hot:0.01:0.9", 10_000);
+        KeyDistribution uniform = KeyDistribution.parse("uniform", 10_000);
+        int zipfTop = 0;
+        int hotTop = 0;
+        int uniformTop = 0;
+        for (int i = 0; i < samples; i++) {
+            int z = zipf.next(random);
+            int h = hot.next(random);
+            int u = uniform.next(random);
+            assertTrue(z >= 0 && z < 10_000 && h >= 0 && h < 10_000 && u >= 0 && u < 10_000);
+            zipfTop += z < 100 ? 1 : 0;
+            hotTop += h < 100 ? 1 : 0;
+            uniformTop += u < 100 ? 1 : 0;
+        }
+
+        assertTrue(zipfTop > samples / 2, "zipf top 1% share " + zipfTop);
+        assertEquals(0.9, hotTop / (double) samples, 0.01);
+        assertEquals(0.01, uniformTop / (double) samples, 0.005);
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles should stay within 1% and drain should reset")
+    void testHistogram_PercentilesAndDrain() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(500_000_000, histogram.valueAtPercentile(50), 5_000_000);
+        assertEquals(990_000_000, histogram.valueAtPercentile(99), 9_900_000);
+        assertTrue(histogram.valueAtPercentile(99) >= 990_000_000);
+        assertEquals(1_000_000_000, histogram.getMax());
+
+        LatencyHistogram drained = histogram.drain();
+        assertEquals(1_000_000, drained.getTotalCount());
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.valueAtPercentile(99));
+    }
+
+    @Test
+    @DisplayName("An open-loop run should drive the services at the scheduled rate")
+    void testRun_DrivesServices() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        ServiceLoadTarget target = new ServiceLoadTarget(new AuthServiceImpl(repository), new AccountServiceImpl(), repository);
+        LoadProfile profile = new LoadProfile(OperationMix.defaults(), "zipf:0.99", 200, 1_000_000, 1_000,
+                2_000, true, Duration.ofSeconds(1), Duration.ofMillis(200), 4, false, 42);
+        AtomicInteger reported = new AtomicInteger();
+
+        LoadReport report = new LoadGenerator(profile, target, stats -> reported.incrementAndGet()).run();
+
+        assertEquals(2_000, report.totalOperations(), 300);
+        assertEquals(0, report.totalErrors());
+        assertTrue(report.operations().get(OperationType.DEPOSIT) > report.operations().get(OperationType.CREATE));
+        assertTrue(reported.get() >= 3, "intervals " + reported.get());
+        assertEquals(report.totalOperations(), report.responseTimes().getTotalCount());
+        assertEquals(report.intervals().stream().mapToLong(i -> i.operations()).sum(), report.totalOperations());
+        assertTrue(report.toText().contains("ops/s"));
+    }
+
+    @Test
+    @DisplayName("A stall should show in corrected response times but not in service times")
+    void testRun_CorrectsCoordinatedOmission() {
+        AtomicInteger calls = new AtomicInteger();
+        LoadTarget stallingTarget = new LoadTarget() {
+            @Override
+            public String createAccount() {
+                return "ACC" + calls.get();
+            }
+
+            @Override
+            public void signIn(String accountNumber) {
+            }
+
+            @Override
+            public void deposit(String accountNumber, long amount) {
+                // The first operation stalls the only worker for 500 ms, everything else is instant.
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public void withdraw(String accountNumber, long amount) {
+            }
+
+            @Override
+            public void statement(String accountNumber) {
+            }
+        };
+        LoadProfile profile = new LoadProfile(OperationMix.parse("deposit=1"), "uniform", 1, 0, 100,
+                500, false, Duration.ofSeconds(1), Duration.ofMillis(250), 1, false, 1);
+
+        LoadReport report = new LoadGenerator(profile, stallingTarget).run();
+
+        assertEquals(500, report.totalOperations(), 5);
+        // Roughly half of all operations were scheduled during the stall and queued behind it.
+        assertTrue(report.responseTimes().valueAtPercentile(75) > 50_000_000,
+                "corrected p75 " + report.responseTimes().valueAtPercentile(75));
+        assertTrue(report.serviceTimes().valueAtPercentile(90) < 50_000_000,
+                "service p90 " + report.serviceTimes().valueAtPercentile(90));
+    }
+}
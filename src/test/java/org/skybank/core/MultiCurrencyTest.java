@@ -0,0 +1,150 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.exception.InvalidAmountException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.money.MoneyFormat;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.infrastructure.audit.AuditLog;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiCurrencyTest {
+
+    private Account account;
+    private AccountServiceImpl accountService;
+
+    @BeforeEach
+    void setUp() {
+        FxRateTable rates = new FxRateTable(CurrencyCode.USD, Map.of(
+                CurrencyCode.EUR, new BigDecimal("0.80"),
+                CurrencyCode.JPY, new BigDecimal("150")));
+        accountService = new AccountServiceImpl(AuditLog.NOOP, rates);
+        account = new Account("ACC000000001", 0, new ArrayList<>());
+        AccountContext.setCurrentAccount(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Money should be parsed and formatted using each currency's minor units")
+    void testMoneyFormat_MinorUnits() {
+        assertEquals(1250, MoneyFormat.parse("12.5", CurrencyCode.USD));
+        assertEquals(1500, MoneyFormat.parse("1500", CurrencyCode.JPY));
+        assertEquals(1_234, MoneyFormat.parse("1.234", CurrencyCode.KWD));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parse("1.5", CurrencyCode.JPY));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parse("-3", CurrencyCode.USD));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parse("99999999999999999999", CurrencyCode.USD));
+
+        assertEquals("12.05", MoneyFormat.format(1205, CurrencyCode.USD));
+        assertEquals("-0.07", MoneyFormat.format(-7, CurrencyCode.EUR));
+        assertEquals("+1500", MoneyFormat.formatSigned(1500, CurrencyCode.JPY));
+        assertEquals("0.001", MoneyFormat.format(1, CurrencyCode.KWD));
+    }
+
+    @Test
+    @DisplayName("FX table should convert between minor units with half-even rounding")
+    void testFxRateTable_Converts() {
+        FxRateTable rates = new FxRateTable(CurrencyCode.USD, Map.of(
+                CurrencyCode.EUR, new BigDecimal("0.80"),
+                CurrencyCode.JPY, new BigDecimal("150")));
+
+        assertEquals(15_000, rates.convert(10_000, CurrencyCode.USD, CurrencyCode.JPY));
+        assertEquals(8_000, rates.convert(10_000, CurrencyCode.USD, CurrencyCode.EUR));
+        assertEquals(10_000, rates.convert(8_000, CurrencyCode.EUR, CurrencyCode.USD));
+        assertEquals(100, rates.convert(150, CurrencyCode.JPY, CurrencyCode.USD));
+        assertEquals(1, rates.convert(1, CurrencyCode.JPY, CurrencyCode.USD));
+
+        // 1.00 EUR = 187.5 JPY and 3.00 EUR = 562.5 JPY, ties go to the even neighbour
+        assertEquals(188, rates.convert(100, CurrencyCode.EUR, CurrencyCode.JPY));
+        assertEquals(562, rates.convert(300, CurrencyCode.EUR, CurrencyCode.JPY));
+        assertEquals(-188, rates.convert(-100, CurrencyCode.EUR, CurrencyCode.JPY));
+
+        long huge = 4_000_000_000_000_000L;
+        assertEquals(huge / 100 * 80, rates.convert(huge, CurrencyCode.USD, CurrencyCode.EUR));
+        assertThrows(ArithmeticException.class, () -> rates.convert(Long.MAX_VALUE, CurrencyCode.USD, CurrencyCode.JPY));
+        assertThrows(IllegalArgumentException.class, () -> rates.convert(100, CurrencyCode.USD, CurrencyCode.GBP));
+    }
+
+    @Test
+    @DisplayName("Accounts should hold independent long balances per currency")
+    void testAccount_PerCurrencyBalances() {
+        long beyondInt = 5_000_000_000L;
+        accountService.deposit(beyondInt);
+        accountService.deposit(2_500, CurrencyCode.EUR);
+        accountService.withdraw(500, CurrencyCode.EUR);
+
+        assertEquals(beyondInt, account.getBalance());
+        assertEquals(2_000, account.getBalance(CurrencyCode.EUR));
+        assertEquals(0, account.getBalance(CurrencyCode.JPY));
+
+        InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
+                () -> accountService.withdraw(1, CurrencyCode.JPY));
+        assertTrue(exception.getMessage().contains("Insufficient funds"));
+
+        account.setBalance(Long.MAX_VALUE - 10);
+        assertThrows(InvalidAmountException.class, () -> accountService.deposit(11));
+        assertEquals(Long.MAX_VALUE - 10, account.getBalance());
+
+        List<Transaction> transactions = account.getTransactions();
+        assertEquals(CurrencyCode.USD, transactions.get(0).getCurrency());
+        assertEquals(CurrencyCode.EUR, transactions.get(2).getCurrency());
+        assertEquals(-500, transactions.get(2).getAmount());
+    }
+
+    @Test
+    @DisplayName("Exchange should move funds between currencies at the table rate")
+    void testExchange_UsesRateTable() {
+        accountService.deposit(10_000);
+
+        long credited = accountService.exchange(4_000, CurrencyCode.USD, CurrencyCode.JPY);
+
+        assertEquals(6_000, credited);
+        assertEquals(6_000, account.getBalance());
+        assertEquals(6_000, account.getBalance(CurrencyCode.JPY));
+        assertEquals(3, account.getTransactions().size());
+
+        assertThrows(InsufficientFundsException.class,
+                () -> accountService.exchange(7_000, CurrencyCode.USD, CurrencyCode.EUR));
+        assertThrows(InvalidAmountException.class,
+                () -> accountService.exchange(100, CurrencyCode.USD, CurrencyCode.GBP));
+        assertThrows(InvalidAmountException.class,
+                () -> accountService.exchange(100, CurrencyCode.JPY, CurrencyCode.JPY));
+        assertEquals(6_000, account.getBalance());
+        assertDoesNotThrow(() -> accountService.printStatement());
+    }
+
+    @Test
+    @DisplayName("Journal should carry the currency of every transaction")
+    void testJournal_RecordsCurrency() {
+        TransactionJournal journal = new TransactionJournal();
+        Account journaled = new Account("ACC000000002", 0, new ArrayList<>());
+        new InMemoryAccountRepository(journal).save(journaled);
+
+        journaled.deposit(300, CurrencyCode.GBP, new Date());
+        journaled.deposit(100, new Date());
+
+        assertEquals(CurrencyCode.GBP, journal.entry(2).currency());
+        assertEquals(300, journal.entry(2).balance());
+        assertEquals(CurrencyCode.USD, journal.entry(3).currency());
+    }
+}
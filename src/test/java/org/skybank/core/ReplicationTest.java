@@ -0,0 +1,242 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.dto.response.AccountResponse;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.infrastructure.journal.JournalEntry;
+import org.skybank.core.infrastructure.journal.JournalEntryType;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.infrastructure.replication.JournalShippingServer;
+import org.skybank.core.infrastructure.replication.JournalSource;
+import org.skybank.core.infrastructure.replication.LocalJournalSource;
+import org.skybank.core.infrastructure.replication.ReadReplica;
+import org.skybank.core.infrastructure.replication.ReplicaReadRouter;
+import org.skybank.core.infrastructure.replication.ReplicationLag;
+import org.skybank.core.infrastructure.replication.SocketJournalSource;
+import org.skybank.core.infrastructure.replication.StalenessBound;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationTest {
+
+    private TransactionJournal journal;
+    private InMemoryAccountRepository repository;
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        journal = new TransactionJournal();
+        repository = new InMemoryAccountRepository(journal);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Journal should record account events in order and replay them from file")
+    void testJournal_ReplaysFromFile(@TempDir Path dir) {
+        Path file = dir.resolve("journal.bin");
+        TransactionJournal durable = new TransactionJournal(file);
+        Account account = openAccount(new InMemoryAccountRepository(durable), "ACC000000001");
+        account.deposit(1000, new Date());
+        account.withdraw(300, new Date());
+        durable.close();
+
+        TransactionJournal reopened = new TransactionJournal(file);
+        assertEquals(3, reopened.lastPosition());
+        assertEquals(JournalEntryType.OPEN, reopened.entry(1).type());
+        assertEquals(-300, reopened.entry(3).amount());
+        assertEquals(700, reopened.entry(3).balance());
+        assertEquals(4, reopened.append(JournalEntryType.DEPOSIT, "ACC000000001", 0, 5, 705));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Local replica should apply the journal and serve reads")
+    void testLocalReplica_AppliesJournal() {
+        ReadReplica replica = startReplica("local", new LocalJournalSource(journal));
+        Account account = openAccount(repository, "ACC000000001");
+        account.deposit(1000, new Date());
+        account.withdraw(250, new Date());
+
+        assertTrue(replica.awaitPosition(journal.lastPosition(), 5_000));
+        assertEquals(750, replica.findAccount("ACC000000001").orElseThrow().getBalance());
+        assertEquals(2, replica.findAccount("ACC000000001").orElseThrow().getTransactionCount());
+
+        ReplicationLag lag = replica.lag();
+        assertEquals(3, lag.appliedPosition());
+        assertEquals(0, lag.lagEntries());
+        assertEquals(3, lag.appliedEntries());
+    }
+
+    @Test
+    @DisplayName("Replica fed over a loopback socket should converge on the primary")
+    void testSocketReplica_ConvergesOnPrimary() {
+        JournalShippingServer server = new JournalShippingServer(journal);
+        resources.add(server);
+        int port = server.start();
+        ReadReplica replica = startReplica("socket", new SocketJournalSource("127.0.0.1", port));
+
+        Account account = openAccount(repository, "ACC000000002");
+        for (int i = 0; i < 2_000; i++) {
+            account.deposit(1, new Date());
+        }
+
+        assertTrue(replica.awaitPosition(journal.lastPosition(), 10_000));
+        assertEquals(2_000, replica.findAccount("ACC000000002").orElseThrow().getBalance());
+        assertTrue(replica.lag().maxApplyLagMicros() >= 0);
+    }
+
+    @Test
+    @DisplayName("Router should provide read-your-writes and fall back to the primary when replicas lag")
+    void testRouter_ReadYourWrites() {
+        ReadReplica stalled = new ReadReplica("stalled", new LocalJournalSource(journal));
+        resources.add(stalled);
+        ReplicaReadRouter router = new ReplicaReadRouter(repository, journal, List.of(stalled),
+                new StalenessBound(Long.MAX_VALUE, 50));
+
+        Account account = openAccount(repository, "ACC000000003");
+        account.deposit(400, new Date());
+
+
+        AccountResponse fromPrimary = router.getAccount("ACC000000003");
+        assertEquals(400, fromPrimary.balance());
+        assertEquals(1, router.getPrimaryReads());
+
+
+        stalled.start();
+        AccountResponse fromReplica = router.getAccount("ACC000000003");
+        assertEquals(400, fromReplica.balance());
+        assertEquals(1, fromReplica.transactionCount());
+        assertEquals(1, router.getReplicaReads());
+
+        List<Transaction> statement = router.getStatement("ACC000000003");
+        assertEquals(1, statement.size());
+        assertEquals(400, statement.get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("Router should honour the staleness bound relative to the primary head")
+    void testRouter_StalenessBound() {
+        ReadReplica never = new ReadReplica("never", new LocalJournalSource(journal));
+        resources.add(never);
+        ReplicaReadRouter strict = new ReplicaReadRouter(repository, journal, List.of(never),
+                new StalenessBound(0, 0));
+        ReplicaReadRouter relaxed = new ReplicaReadRouter(repository, journal, List.of(never),
+                new StalenessBound(10, 0));
+
+        openAccount(repository, "ACC000000004");
+
+        strict.getAccount("ACC000000004", 0);
+        assertEquals(1, strict.getPrimaryReads());
+
+
+        List<JournalEntry> sink = new ArrayList<>();
+        assertEquals(1, journal.read(1, 10, sink));
+        relaxed.getAccount("ACC000000004", 0);
+        assertEquals(1, relaxed.getPrimaryReads(), "Replica within the bound but missing the account falls back");
+    }
+
+    @Test
+    @DisplayName("Read-your-writes position should be tracked per journal")
+    void testJournal_WritePositionPerInstance() {
+        TransactionJournal other = new TransactionJournal();
+        openAccount(repository, "ACC000000005").deposit(100, new Date());
+
+        assertEquals(2, journal.lastPositionWrittenByCurrentThread());
+        assertEquals(0, other.lastPositionWrittenByCurrentThread());
+    }
+
+    @Test
+    @DisplayName("Replica should wait out a gap in the source and apply entries in order")
+    void testReplica_WaitsOutGap() {
+        Account account = openAccount(repository, "ACC000000006");
+        account.deposit(100, new Date());
+        account.deposit(50, new Date());
+        ReadReplica replica = startReplica("gappy", new GappySource(journal, 2, 5));
+
+        assertTrue(replica.awaitPosition(3, 5_000));
+        assertEquals(150, replica.findAccount("ACC000000006").orElseThrow().getBalance());
+        assertFalse(replica.isFailed());
+    }
+
+    @Test
+    @DisplayName("Replica should stop rather than skip an entry its source never delivers")
+    void testReplica_FailsOnPersistentGap() {
+        Account account = openAccount(repository, "ACC000000007");
+        account.deposit(100, new Date());
+        account.deposit(50, new Date());
+        ReadReplica replica = startReplica("broken", new GappySource(journal, 2, Integer.MAX_VALUE));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!replica.isFailed() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(replica.isFailed());
+        assertEquals(1, replica.appliedPosition());
+        assertEquals(0, replica.findAccount("ACC000000007").orElseThrow().getTransactionCount());
+    }
+
+    private ReadReplica startReplica(String name, JournalSource source) {
+        ReadReplica replica = new ReadReplica(name, source);
+        resources.add(replica);
+        replica.start();
+        return replica;
+    }
+
+    private static Account openAccount(InMemoryAccountRepository repository, String accountNumber) {
+        Account account = new Account(accountNumber, 0, new ArrayList<>());
+        repository.save(account);
+        return account;
+    }
+
+    /**
+     * Drops {@code missing} from the first {@code drops} polls that would have returned it.
+     */
+    private static final class GappySource implements JournalSource {
+        private final LocalJournalSource delegate;
+        private final long missing;
+        private int drops;
+
+        GappySource(TransactionJournal journal, long missing, int drops) {
+            this.delegate = new LocalJournalSource(journal);
+            this.missing = missing;
+            this.drops = drops;
+        }
+
+        @Override
+        public int poll(long fromPosition, int maxEntries, List<JournalEntry> sink, long timeoutMillis) {
+            int start = sink.size();
+            delegate.poll(fromPosition, maxEntries, sink, timeoutMillis);
+            if (drops > 0 && sink.removeIf(entry -> entry.position() == missing)) {
+                drops--;
+            }
+            return sink.size() - start;
+        }
+
+        @Override
+        public long headPosition() {
+            return delegate.headPosition();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skybank.core.application.standing.Frequency;
+import org.skybank.core.application.standing.StandingOrderPolicy;
+import org.skybank.core.application.standing.StandingOrderRun;
+import org.skybank.core.application.standing.StandingOrderScheduler;
+import org.skybank.core.application.standing.StandingOrderType;
+import org.skybank.core.application.standing.TimingWheel;
+import org.skybank.core.application.velocity.VelocityCheckedAccountService;
+import org.skybank.core.application.velocity.VelocityLimits;
+import org.skybank.core.application.velocity.VelocityPolicy;
+import org.skybank.core.application.velocity.VelocityRule;
+import org.skybank.core.domain.exception.AdmissionRejectedException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.service.AccountService;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandingOrderSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final Instant START = LocalDate.of(2024, 1, 31).atTime(9, 0).atZone(ZONE).toInstant();
+    private static final StandingOrderPolicy POLICY = new StandingOrderPolicy(1_000, 4, 2, 3_600_000, 1_000, ZONE);
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock(START);
+    private final InMemoryAccountRepository repository = new InMemoryAccountRepository();
+    private final AccountServiceImpl accountService = new AccountServiceImpl();
+
+    @Test
+    @DisplayName("Timing wheel should expire every entry exactly at its tick across all levels")
+    void testTimingWheel_ExpiresOnTime() {
+        TimingWheel wheel = new TimingWheel(1_000);
+        SplittableRandom random = new SplittableRandom(3);
+        long[] due = new long[20_000];
+        for (int id = 0; id < due.length; id++) {
+            due[id] = 1_000 + random.nextLong(1L << (8 + random.nextInt(24)));
+            wheel.schedule(id, due[id]);
+        }
+        for (int id = 0; id < due.length; id += 10) {
+            assertTrue(wheel.cancel(id));
+        }
+        due[5] = 999;
+        wheel.schedule(5, due[5]);
+
+        long[] firedAt = new long[due.length];
+        int[] fired = new int[1];
+        while (wheel.size() > 0) {
+            long target = wheel.nextTick() + random.nextLong(1L << (random.nextInt(3) * 8 + 8));
+            wheel.advanceTo(target, id -> {
+                firedAt[id] = wheel.nextTick() - 1;
+                fired[0]++;
+            });
+        }
+
+        assertEquals(due.length - due.length / 10, fired[0]);
+        assertEquals(1_000, firedAt[5]);
+        for (int id = 1; id < due.length; id++) {
+            if (id % 10 != 0 && id != 5) {
+                assertEquals(due[id], firedAt[id], "id " + id);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Timing wheel should hand entries out in the tick they fall due")
+    void testTimingWheel_ExactTick() {
+        TimingWheel wheel = new TimingWheel(0);
+        long[] ticks = {0, 1, 255, 256, 257, 16_383, 16_384, 1_048_577, 70_000_000};
+        for (int id = 0; id < ticks.length; id++) {
+            wheel.schedule(id, ticks[id]);
+        }
+        for (int id = 0; id < ticks.length; id++) {
+            long tick = ticks[id];
+            int expected = id;
+            wheel.advanceTo(tick - 1, expired -> fail("entry " + expired + " fired before tick " + tick));
+            int[] seen = {-1};
+            wheel.advanceTo(tick, expired -> seen[0] = expired);
+            assertEquals(expected, seen[0], "tick " + tick);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Orders should post on their schedule, monthly ones on the anchor day or month end")
+    void testRunDue_PostsOnSchedule() {
+        Account payer = open("ACC000000001", 100_000);
+        Account payee = open("ACC000000002", 0);
+        StandingOrderScheduler scheduler = new StandingOrderScheduler(repository, accountService, POLICY, null, clock);
+        int rent = scheduler.create(StandingOrderType.TRANSFER, "ACC000000001", "ACC000000002", CurrencyCode.BASE,
+                10_000, Frequency.MONTHLY, START, -1);
+        scheduler.create(StandingOrderType.DEPOSIT, null, "ACC000000002", CurrencyCode.EUR,
+                500, Frequency.WEEKLY, START.plus(Duration.ofDays(1)), 2);
+
+        assertEquals(1, scheduler.runDue().posted());
+        assertEquals(0, scheduler.runDue().total());
+        assertEquals(90_000, payer.getBalance());
+        assertEquals(10_000, payee.getBalance());
+
+        clock.set(at(2024, 2, 28));
+        assertEquals(new StandingOrderRun(2, 0, 0, 0), scheduler.runDue());
+        assertEquals(1_000, payee.getBalance(CurrencyCode.EUR));
+        assertEquals(1, scheduler.size());
+        assertEquals(at(2024, 2, 29), scheduler.find(rent).orElseThrow().nextOccurrence());
+
+        clock.set(at(2024, 3, 31));
+        assertEquals(2, scheduler.runDue().posted());
+        assertEquals(70_000, payer.getBalance());
+        assertEquals(at(2024, 4, 30), scheduler.find(rent).orElseThrow().nextOccurrence());
+    }
+
+    @Test
+    @DisplayName("Insufficient funds should be retried and the occurrence skipped after the last retry")
+    void testRunDue_RetriesInsufficientFunds() {
+        Account payer = open("ACC000000003", 5_000);
+        open("ACC000000004", 0);
+        StandingOrderScheduler scheduler = new StandingOrderScheduler(repository, accountService, POLICY, null, clock);
+        int id = scheduler.create(StandingOrderType.TRANSFER, "ACC000000003", "ACC000000004", CurrencyCode.BASE,
+                8_000, Frequency.DAILY, START, -1);
+
+        assertEquals(new StandingOrderRun(0, 1, 0, 0), scheduler.runDue());
+        assertEquals(1, scheduler.find(id).orElseThrow().attempts());
+        assertEquals(START, scheduler.find(id).orElseThrow().nextOccurrence());
+
+        clock.advance(Duration.ofMinutes(30));
+        assertEquals(0, scheduler.runDue().total());
+
+        payer.deposit(4_000, new Date());
+        clock.advance(Duration.ofMinutes(30));
+        assertEquals(new StandingOrderRun(1, 0, 0, 0), scheduler.runDue());
+        assertEquals(1_000, payer.getBalance());
+        assertEquals(0, scheduler.find(id).orElseThrow().attempts());
+
+        clock.set(START.plus(Duration.ofDays(1)));
+        assertEquals(1, scheduler.runDue().retried());
+        clock.advance(Duration.ofHours(1));
+        assertEquals(1, scheduler.runDue().retried());
+        clock.advance(Duration.ofHours(1));
+        assertEquals(new StandingOrderRun(0, 0, 1, 0), scheduler.runDue());
+        assertEquals(START.plus(Duration.ofDays(2)), scheduler.find(id).orElseThrow().nextOccurrence());
+    }
+
+    @Test
+    @DisplayName("Orders should survive a restart and post every missed occurrence exactly once")
+    void testRestart_CatchesUpOnce() {
+        Account payee = open("ACC000000005", 0);
+        StandingOrderScheduler first = new StandingOrderScheduler(repository, accountService, POLICY, directory, clock);
+        int daily = first.create(StandingOrderType.DEPOSIT, null, "ACC000000005", CurrencyCode.BASE,
+                100, Frequency.DAILY, START, 10);
+        int cancelled = first.create(StandingOrderType.DEPOSIT, null, "ACC000000005", CurrencyCode.BASE,
+                1, Frequency.DAILY, START, -1);
+        for (int i = 0; i < 20; i++) {
+            first.create(StandingOrderType.DEPOSIT, null, "ACC000000005", CurrencyCode.GBP,
+                    1, Frequency.WEEKLY, START.plus(Duration.ofDays(400)), -1);
+        }
+        assertEquals(2, first.runDue().posted());
+        assertTrue(first.cancel(cancelled));
+        first.close();
+
+        clock.advance(Duration.ofDays(3));
+        StandingOrderScheduler second = new StandingOrderScheduler(repository, accountService, POLICY, directory, clock);
+        assertEquals(21, second.size());
+        assertTrue(second.find(cancelled).isEmpty());
+        assertEquals(3, second.runDue().posted());
+        assertEquals(401, payee.getBalance());
+        second.close();
+
+        StandingOrderScheduler third = new StandingOrderScheduler(repository, accountService, POLICY, directory, clock);
+        assertEquals(0, third.runDue().total());
+        assertEquals(6, third.find(daily).orElseThrow().remaining());
+
+        clock.advance(Duration.ofDays(30));
+        assertEquals(6, third.runDue().posted());
+        assertEquals(1_001, payee.getBalance());
+        assertTrue(third.find(daily).isEmpty());
+        third.close();
+
+        StandingOrderScheduler fourth = new StandingOrderScheduler(repository, accountService, POLICY, directory, clock);
+        assertEquals(20, fourth.size());
+        fourth.close();
+    }
+
+    @Test
+    @DisplayName("Orders on a closed account should be cancelled")
+    void testRunDue_CancelsWhenAccountClosed() {
+        open("ACC000000006", 0);
+        StandingOrderScheduler scheduler = new StandingOrderScheduler(repository, accountService, POLICY, null, clock);
+        int id = scheduler.create(StandingOrderType.DEPOSIT, null, "ACC000000006", CurrencyCode.BASE,
+                100, Frequency.DAILY, START, -1);
+        repository.delete("ACC000000006");
+
+        assertEquals(new StandingOrderRun(0, 0, 0, 1), scheduler.runDue());
+        assertTrue(scheduler.find(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("A transfer whose credit is refused should refund the debit even if the service keeps refusing")
+    void testRunDue_RefundsRefusedTransfer() {
+        Account payer = open("ACC000000007", 10_000);
+        Account payee = open("ACC000000008", 0);
+        AccountService refusesCredits = new AccountService() {
+            @Override
+            public void deposit(long amount, CurrencyCode currency) {
+                throw new AdmissionRejectedException("ACCOUNT_RATE");
+            }
+
+            @Override
+            public void withdraw(long amount, CurrencyCode currency) {
+                accountService.withdraw(amount, currency);
+            }
+
+            @Override
+            public long exchange(long amount, CurrencyCode from, CurrencyCode to) {
+                return accountService.exchange(amount, from, to);
+            }
+
+            @Override
+            public void printStatement() {
+                accountService.printStatement();
+            }
+        };
+        StandingOrderScheduler scheduler = new StandingOrderScheduler(repository, refusesCredits, POLICY, null, clock);
+        scheduler.create(StandingOrderType.TRANSFER, "ACC000000007", "ACC000000008", CurrencyCode.BASE,
+                4_000, Frequency.DAILY, START, -1);
+
+        assertEquals(new StandingOrderRun(0, 1, 0, 0), scheduler.runDue());
+        assertEquals(10_000, payer.getBalance());
+        assertEquals(0, payee.getBalance());
+        assertEquals(3, payer.getTransactions().size());
+    }
+
+    @Test
+    @DisplayName("Scheduled debits should count towards velocity limits and be retried when over them")
+    void testRunDue_RetriesOverVelocityLimit() {
+        Account payer = open("ACC000000009", 10_000);
+        open("ACC000000010", 0);
+        VelocityLimits limits = new VelocityLimits(new VelocityPolicy(List.of(new VelocityRule("per-day", 86_400_000, 24, 1_000_000, 1))));
+        StandingOrderScheduler scheduler = new StandingOrderScheduler(repository,
+                new VelocityCheckedAccountService(accountService, limits), POLICY, null, clock);
+        scheduler.create(StandingOrderType.TRANSFER, "ACC000000009", "ACC000000010", CurrencyCode.BASE,
+                1_000, Frequency.DAILY, START, -1);
+        scheduler.create(StandingOrderType.TRANSFER, "ACC000000009", "ACC000000010", CurrencyCode.BASE,
+                1_000, Frequency.DAILY, START, -1);
+
+        assertEquals(new StandingOrderRun(1, 1, 0, 0), scheduler.runDue());
+        assertEquals(1, limits.usage("ACC000000009", 0, System.currentTimeMillis()).count());
+        assertEquals(9_000, payer.getBalance());
+    }
+
+    private Account open(String accountNumber, long balance) {
+        Account account = new Account(accountNumber, 0, new ArrayList<>());
+        repository.save(account);
+        if (balance > 0) {
+            account.deposit(balance, new Date());
+        }
+        return account;
+    }
+
+    private static Instant at(int year, int month, int day) {
+        return LocalDate.of(year, month, day).atTime(9, 0).atZone(ZONE).toInstant();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.query.Aggregate;
+import org.skybank.core.application.query.TimeBucket;
+import org.skybank.core.application.query.TransactionColumns;
+import org.skybank.core.application.query.TransactionFilter;
+import org.skybank.core.application.query.TransactionQueryEngine;
+import org.skybank.core.application.query.TransactionRow;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionQueryTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Filtered aggregates should match a plain scan for scalar and vector kernels")
+    void testAggregate_MatchesPlainScan() {
+        List<Account> accounts = populate(2_000, 60);
+        TransactionColumns columns = TransactionColumns.of(accounts, ZONE);
+        TransactionFilter filter = TransactionFilter.all()
+                .withdrawals()
+                .amountAtLeast(2_000)
+                .between(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 15), ZONE);
+
+        Aggregate expected = scan(accounts, filter);
+        assertTrue(expected.count() > 1_000);
+
+        for (TransactionQueryEngine engine : engines()) {
+            assertEquals(expected, engine.aggregate(columns, filter), engine.kernelName());
+            assertEquals(scan(accounts, TransactionFilter.all()), engine.aggregate(columns, TransactionFilter.all()));
+            assertEquals(scan(accounts, TransactionFilter.all().currency(CurrencyCode.EUR).deposits()),
+                    engine.aggregate(columns, TransactionFilter.all().currency(CurrencyCode.EUR).deposits()));
+        }
+        assertEquals(Aggregate.EMPTY, engines().get(0).aggregate(columns, TransactionFilter.all().currency(CurrencyCode.CHF)));
+    }
+
+    @Test
+    @DisplayName("Group-by should bucket sums per day and per month")
+    void testAggregateBy_DayAndMonth() {
+        List<Account> accounts = populate(500, 40);
+        TransactionColumns columns = TransactionColumns.of(accounts, ZONE);
+        TransactionFilter deposits = TransactionFilter.all().deposits();
+
+        for (TransactionQueryEngine engine : engines()) {
+            NavigableMap<LocalDate, Aggregate> byDay = engine.aggregateBy(columns, deposits, TimeBucket.DAY);
+            NavigableMap<LocalDate, Aggregate> byMonth = engine.aggregateBy(columns, deposits, TimeBucket.MONTH);
+
+            LocalDate day = LocalDate.of(2024, 2, 10);
+            TransactionFilter oneDay = deposits.between(day, day, ZONE);
+            assertEquals(scan(accounts, oneDay), byDay.get(day));
+            assertEquals(scan(accounts, deposits.between(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), ZONE)),
+                    byMonth.get(LocalDate.of(2024, 3, 1)));
+            assertEquals(byDay.firstKey().withDayOfMonth(1), byMonth.firstKey());
+            assertEquals(scan(accounts, deposits).sum(), byMonth.values().stream().mapToLong(Aggregate::sum).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("Select should project matching rows of the requested accounts in order")
+    void testSelect_AccountsAndLimit() {
+        List<Account> accounts = populate(300, 30);
+        TransactionColumns columns = TransactionColumns.of(accounts, ZONE);
+        TransactionFilter filter = TransactionFilter.all()
+                .accounts(Set.of("ACC000000007", "ACC000000123"))
+                .amountBetween(1_000, 4_000);
+
+        for (TransactionQueryEngine engine : engines()) {
+            List<TransactionRow> rows = engine.select(columns, filter, 1_000);
+            assertEquals(scan(accounts, filter).count(), rows.size());
+            assertTrue(rows.stream().allMatch(row -> Set.of("ACC000000007", "ACC000000123").contains(row.accountNumber())));
+            assertEquals("ACC000000007", rows.get(0).accountNumber());
+            assertEquals("ACC000000123", rows.get(rows.size() - 1).accountNumber());
+
+            Transaction first = accounts.get(7).getTransactions().stream()
+                    .filter(t -> t.getCurrency() == CurrencyCode.BASE && Math.abs(t.getAmount()) >= 1_000 && Math.abs(t.getAmount()) <= 4_000)
+                    .findFirst().orElseThrow();
+            assertEquals(first.getAmount(), rows.get(0).amount());
+            assertEquals(first.getBalance(), rows.get(0).balance());
+            assertEquals(first.getDate().toInstant(), rows.get(0).timestamp());
+
+            List<TransactionRow> limited = engine.select(columns, TransactionFilter.all(), 5);
+            assertEquals(rows(accounts.get(0)).subList(0, 5), limited.stream().map(TransactionRow::amount).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot should pair every history with its own account even if the collection changes while copied")
+    void testColumns_SinglePassOverLiveCollection() {
+        List<Account> accounts = populate(3, 10);
+        Collection<Account> shifting = new AbstractCollection<>() {
+            private int iterations;
+
+            @Override
+            public Iterator<Account> iterator() {
+                List<Account> view = new ArrayList<>(accounts);
+                if (iterations++ > 0) {
+                    Collections.reverse(view);
+                    view.remove(0);
+                }
+                return view.iterator();
+            }
+
+            @Override
+            public int size() {
+                return accounts.size();
+            }
+        };
+
+        TransactionColumns columns = TransactionColumns.of(shifting, ZONE);
+
+        assertEquals(30, columns.rowCount());
+        for (Account account : accounts) {
+            List<Long> selected = new TransactionQueryEngine(pool, false)
+                    .select(columns, TransactionFilter.all().accounts(Set.of(account.getAccountNumber())), 100)
+                    .stream().map(TransactionRow::amount).toList();
+            assertEquals(rows(account), selected, account.getAccountNumber());
+        }
+    }
+
+    private List<TransactionQueryEngine> engines() {
+        return List.of(new TransactionQueryEngine(pool, false), new TransactionQueryEngine(pool, true));
+    }
+
+    private static List<Long> rows(Account account) {
+        return account.getTransactions().stream()
+                .filter(t -> t.getCurrency() == CurrencyCode.BASE)
+                .map(Transaction::getAmount)
+                .toList();
+    }
+
+    private static Aggregate scan(List<Account> accounts, TransactionFilter filter) {
+        Aggregate result = Aggregate.EMPTY;
+        for (Account account : accounts) {
+            if (filter.accounts() != null && !filter.accounts().contains(account.getAccountNumber())) {
+                continue;
+            }
+            for (Transaction transaction : account.getTransactions()) {
+                if (transaction.getCurrency() == filter.currency()
+                        && filter.matches(transaction.getAmount(), transaction.getDate().getTime())) {
+                    long amount = transaction.getAmount();
+                    result = result.plus(new Aggregate(1, amount, amount, amount));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Account> populate(int accounts, int transactionsPerAccount) {
+        SplittableRandom random = new SplittableRandom(11);
+        long start = FIRST_DAY.atStartOfDay(ZONE).toInstant().toEpochMilli();
+        List<Account> result = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>());
+            long time = start + random.nextLong(86_400_000L);
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                time += random.nextLong(3 * 86_400_000L);
+                CurrencyCode currency = random.nextInt(4) == 0 ? CurrencyCode.EUR : CurrencyCode.BASE;
+                long amount = 1 + random.nextLong(5_000);
+                if (account.getBalance(currency) >= amount && random.nextBoolean()) {
+                    account.withdraw(amount, currency, new Date(time));
+                } else {
+                    account.deposit(amount, currency, new Date(time));
+                }
+            }
+            result.add(account);
+        }
+        return result;
+    }
+}
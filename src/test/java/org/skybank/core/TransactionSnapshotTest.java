@@ -0,0 +1,125 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.model.TransactionLog;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.infrastructure.audit.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSnapshotTest {
+
+    @Test
+    @DisplayName("A snapshot should keep the history as of the moment it was taken")
+    void testSnapshot_FixedWhileAppending() {
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        for (int i = 0; i < 300; i++) {
+            account.deposit(1, new Date());
+        }
+
+        List<Transaction> snapshot = account.getTransactionSnapshot();
+        for (int i = 0; i < 1_000; i++) {
+            account.deposit(1, new Date());
+        }
+
+        assertEquals(300, snapshot.size());
+        assertEquals(300, snapshot.get(299).getBalance());
+        assertEquals(300, snapshot.toArray(new Transaction[0]).length);
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(300));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new Transaction(new Date(), 1, 1)));
+        assertEquals(1_300, account.getTransactions().size());
+        assertEquals(1_300, account.getTransactionSnapshot().get(1_299).getBalance());
+    }
+
+    @Test
+    @DisplayName("Snapshots taken during concurrent deposits should always be complete prefixes")
+    void testSnapshot_ConsistentUnderConcurrentWrites() throws Exception {
+        Account account = new Account("ACC000000002", 0, new ArrayList<>());
+        int deposits = 200_000;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < deposits; i++) {
+                account.deposit(1, new Date());
+            }
+            writing.set(false);
+        });
+        writer.start();
+
+        int previousSize = 0;
+        int snapshots = 0;
+        while (writing.get() || snapshots == 0) {
+            List<Transaction> snapshot = account.getTransactionSnapshot();
+            assertTrue(snapshot.size() >= previousSize);
+            for (int i = 0; i < snapshot.size(); i++) {
+                assertEquals(i + 1, snapshot.get(i).getBalance());
+            }
+            previousSize = snapshot.size();
+            snapshots++;
+        }
+        writer.join();
+
+        assertEquals(deposits, account.getTransactionSnapshot().size());
+        assertEquals(deposits, new TransactionLog(account.getTransactions()).size());
+    }
+
+    @Test
+    @DisplayName("Printing a statement should not wait for a writer holding the account lock")
+    void testPrintStatement_DoesNotBlockOnWriters() throws Exception {
+        Account account = new Account("ACC000000003", 0, new ArrayList<>());
+        for (int i = 0; i < 1_000; i++) {
+            account.deposit(10, new Date());
+        }
+        AccountServiceImpl accountService = new AccountServiceImpl(AuditLog.NOOP);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            synchronized (account) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        writer.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch printed = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            AccountContext.setCurrentAccount(account);
+            try {
+                accountService.printStatement();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                AccountContext.clear();
+                printed.countDown();
+            }
+        });
+        reader.start();
+
+        try {
+            assertTrue(printed.await(10, TimeUnit.SECONDS), "statement blocked behind the account lock");
+            assertNull(failure.get());
+        } finally {
+            release.countDown();
+            writer.join();
+            reader.join();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.skybank.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skybank.core.application.velocity.EndOfDayVelocityRecorder;
+import org.skybank.core.application.velocity.VelocityCheckedAccountService;
+import org.skybank.core.application.velocity.VelocityLimits;
+import org.skybank.core.application.velocity.VelocityPolicy;
+import org.skybank.core.application.velocity.VelocityRule;
+import org.skybank.core.domain.context.AccountContext;
+import org.skybank.core.domain.event.CompositeAccountEventListener;
+import org.skybank.core.domain.exception.InsufficientFundsException;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.model.Transaction;
+import org.skybank.core.domain.money.CurrencyCode;
+import org.skybank.core.domain.money.FxRateTable;
+import org.skybank.core.domain.service.implemantation.AccountServiceImpl;
+import org.skybank.core.infrastructure.journal.TransactionJournal;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VelocityLimitsTest {
+
+    private static final long T0 = 1_700_000_040_000L;
+    private static final VelocityPolicy POLICY = new VelocityPolicy(List.of(
+            new VelocityRule("per-minute", 60_000, 6, 10_000, 3),
+            new VelocityRule("per-hour", 3_600_000, 60, 25_000, 100)));
+
+    @AfterEach
+    void tearDown() {
+        AccountContext.clear();
+    }
+
+    @Test
+    @DisplayName("Withdrawals beyond the count or amount of a window should be refused without being recorded")
+    void testCheckAndRecord_EnforcesRules() {
+        VelocityLimits limits = new VelocityLimits(POLICY);
+
+        limits.checkAndRecord("ACC000000001", 1_000, T0);
+        limits.checkAndRecord("ACC000000001", 1_000, T0 + 1_000);
+        limits.checkAndRecord("ACC000000001", 1_000, T0 + 2_000);
+        VelocityLimitExceededException tooOften = assertThrows(VelocityLimitExceededException.class,
+                () -> limits.checkAndRecord("ACC000000001", 1, T0 + 3_000));
+        assertEquals("per-minute", tooOften.getRule());
+        assertEquals(3, limits.usage("ACC000000001", 0, T0 + 3_000).count());
+
+        limits.checkAndRecord("ACC000000002", 9_000, T0);
+        assertThrows(VelocityLimitExceededException.class, () -> limits.checkAndRecord("ACC000000002", 1_001, T0));
+        limits.checkAndRecord("ACC000000002", 1_000, T0);
+        assertEquals(10_000, limits.usage("ACC000000002", 0, T0).amount());
+        assertEquals(0, limits.usage("ACC000000003", 0, T0).count());
+    }
+
+    @Test
+    @DisplayName("Windows should slide a bucket at a time and longer rules should keep counting")
+    void testWindows_Slide() {
+        VelocityLimits limits = new VelocityLimits(POLICY);
+        for (int i = 0; i < 3; i++) {
+            limits.checkAndRecord("ACC000000004", 5_000 / 3 * 2, T0 + i * 5_000);
+        }
+
+        // The first withdrawal sits in the oldest of six 10 s buckets and leaves at T0 + 60 s.
+        assertThrows(VelocityLimitExceededException.class, () -> limits.checkAndRecord("ACC000000004", 1, T0 + 59_999));
+        limits.checkAndRecord("ACC000000004", 1, T0 + 60_000);
+        assertEquals(2, limits.usage("ACC000000004", 0, T0 + 60_000).count());
+        assertEquals(4, limits.usage("ACC000000004", 1, T0 + 60_000).count());
+
+        for (int minute = 2; minute < 8; minute++) {
+            long now = T0 + minute * 60_000L;
+            limits.checkAndRecord("ACC000000004", 2_000, now);
+        }
+        VelocityLimitExceededException hourly = assertThrows(VelocityLimitExceededException.class,
+                () -> limits.checkAndRecord("ACC000000004", 5_000, T0 + 11 * 60_000L));
+        assertEquals("per-hour", hourly.getRule());
+
+        assertEquals(0, limits.usage("ACC000000004", 1, T0 + 2 * 3_600_000L).count());
+        limits.checkAndRecord("ACC000000004", 9_000, T0 + 2 * 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("Service withdrawals should be checked, and refused withdrawals should not count")
+    void testService_ChecksWithdrawals() {
+        VelocityLimits limits = new VelocityLimits(POLICY);
+        VelocityCheckedAccountService service = new VelocityCheckedAccountService(new AccountServiceImpl(), limits);
+        Account account = new Account("ACC000000005", 0, new ArrayList<>());
+        account.deposit(9_000, new Date());
+        AccountContext.setCurrentAccount(account);
+
+        assertThrows(InsufficientFundsException.class, () -> service.withdraw(9_500));
+        assertEquals(0, limits.usage("ACC000000005", 0, System.currentTimeMillis()).count());
+
+        service.withdraw(4_000);
+        service.withdraw(4_000, CurrencyCode.BASE);
+        assertThrows(VelocityLimitExceededException.class, () -> service.withdraw(1_000 + 2_001));
+        assertEquals(1_000, account.getBalance());
+        service.deposit(1_000);
+        service.withdraw(1_000);
+        assertEquals(1_000, account.getBalance());
+        assertThrows(VelocityLimitExceededException.class, () -> service.withdraw(1));
+    }
+
+    @Test
+    @DisplayName("Exchanges and end-of-day fees should count live exactly as the journal restores them")
+    void testLiveWindows_MatchRestore() {
+        TransactionJournal journal = new TransactionJournal();
+        VelocityLimits live = new VelocityLimits(POLICY);
+        FxRateTable rates = FxRateTable.defaults();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(
+                new CompositeAccountEventListener(journal, new EndOfDayVelocityRecorder(live, rates)));
+        VelocityCheckedAccountService service = new VelocityCheckedAccountService(new AccountServiceImpl(), live);
+        Account account = new Account("ACC000000008", 0, new ArrayList<>());
+        repository.save(account);
+        AccountContext.setCurrentAccount(account);
+
+        service.deposit(20_000);
+        service.withdraw(1_000);
+        service.exchange(2_000, CurrencyCode.BASE, CurrencyCode.EUR);
+        service.exchange(50, CurrencyCode.EUR, CurrencyCode.BASE);
+        account.postEndOfDay(List.of(new Transaction(new Date(), -300, 0, CurrencyCode.BASE)), 19_000);
+        long now = System.currentTimeMillis();
+
+        VelocityLimits restored = new VelocityLimits(POLICY);
+        assertEquals(4, restored.restore(journal, rates, now));
+        assertEquals(restored.usage("ACC000000008", 0, now), live.usage("ACC000000008", 0, now));
+        assertEquals(4, live.usage("ACC000000008", 1, now).count());
+        assertThrows(VelocityLimitExceededException.class, () -> service.exchange(10_000, CurrencyCode.BASE, CurrencyCode.EUR));
+    }
+
+    @Test
+    @DisplayName("Windows should be restored from the journal")
+    void testRestore_FromJournal() {
+        TransactionJournal journal = new TransactionJournal();
+        InMemoryAccountRepository repository = new InMemoryAccountRepository(journal);
+        Account account = new Account("ACC000000006", 0, new ArrayList<>());
+        repository.save(account);
+        long now = System.currentTimeMillis();
+        account.deposit(50_000, new Date(now));
+        account.withdraw(3_000, new Date(now - 1_000));
+        account.withdraw(4_000, new Date(now - 30 * 60_000L));
+        account.deposit(500, CurrencyCode.EUR, new Date(now));
+        account.withdraw(100, CurrencyCode.EUR, new Date(now - 2_000));
+
+        VelocityLimits limits = new VelocityLimits(POLICY);
+        FxRateTable rates = FxRateTable.defaults();
+        long euroInBase = rates.toBase(100, CurrencyCode.EUR);
+        assertEquals(3, limits.restore(journal, rates, now));
+
+        assertEquals(2, limits.usage("ACC000000006", 0, now).count());
+        assertEquals(3_000 + euroInBase, limits.usage("ACC000000006", 0, now).amount());
+        assertEquals(3, limits.usage("ACC000000006", 1, now).count());
+        assertThrows(VelocityLimitExceededException.class,
+                () -> limits.checkAndRecord("ACC000000006", 10_000 - 3_000 - euroInBase + 1, now));
+        limits.checkAndRecord("ACC000000006", 10_000 - 3_000 - euroInBase, now);
+    }
+
+    @Test
+    @DisplayName("Concurrent withdrawals on one account should never exceed the count limit")
+    void testCheckAndRecord_Concurrent() throws Exception {
+        VelocityLimits limits = new VelocityLimits(new VelocityPolicy(List.of(
+                new VelocityRule("per-minute", 60_000, 12, Long.MAX_VALUE / 2, 1_000))));
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    try {
+                        limits.checkAndRecord("ACC000000007", 1, T0);
+                        admitted.incrementAndGet();
+                    } catch (VelocityLimitExceededException e) {
+                        // expected once the limit is reached
+                    }
+                    limits.checkAndRecord("ACC1" + (i % 100), 1, T0 + i);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1_000, admitted.get());
+        assertEquals(101, limits.accountCount());
+    }
+}
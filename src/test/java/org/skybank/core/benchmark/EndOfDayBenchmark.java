@@ -0,0 +1,64 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.application.batch.EndOfDayEngine;
+import org.skybank.core.application.batch.EndOfDayPolicy;
+import org.skybank.core.application.batch.EndOfDayReport;
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Wall-clock and per-core scaling of a full end-of-day run. Each parallelism level posts a new
+ * business date over the same book, so every run does the same amount of work.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.skybank.core.benchmark.EndOfDayBenchmark -Dexec.args="10000000"
+ * </pre>
+ * Ten million accounts need roughly 8 GB of heap ({@code MAVEN_OPTS=-Xmx8g}).
+ */
+public final class EndOfDayBenchmark {
+
+    private EndOfDayBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int maxParallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        LocalDate businessDate = LocalDate.now().minusYears(1);
+        Date openedAt = Date.from(businessDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        long loadStart = System.nanoTime();
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>(4));
+            account.deposit(1_000 + (i * 7_919L) % 500_000, openedAt);
+            repository.save(account);
+        }
+        System.out.printf("Loaded %,d accounts in %d ms%n", accounts, (System.nanoTime() - loadStart) / 1_000_000);
+
+        EndOfDayPolicy policy = EndOfDayPolicy.defaults();
+        double baseline = 0;
+        System.out.printf("%-12s %12s %16s %10s%n", "parallelism", "wall ms", "accounts/s", "speedup");
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                EndOfDayReport report = new EndOfDayEngine(repository, policy, null, pool).run(businessDate);
+                businessDate = businessDate.plusDays(1);
+                double seconds = report.wallClockNanos() / 1e9;
+                if (parallelism == 1) {
+                    baseline = seconds;
+                }
+                System.out.printf("%-12d %12d %,16.0f %9.2fx%n", parallelism, report.wallClockNanos() / 1_000_000,
+                        report.accountsPerSecond(), baseline / seconds);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
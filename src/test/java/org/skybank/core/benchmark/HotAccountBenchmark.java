@@ -0,0 +1,89 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.domain.model.Account;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deposit throughput on a single receiving account as depositor threads are added, with every
+ * deposit serialized on the account and with the account in hot mode (striped credits, folded
+ * by a background thread every few milliseconds).
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.skybank.core.benchmark.HotAccountBenchmark -Dexec.args="2000"
+ * </pre>
+ */
+public final class HotAccountBenchmark {
+
+    private HotAccountBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 2_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%-8s %18s %18s%n", "threads", "serialized dep/s", "hot dep/s");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double serialized = run(false, threads, millis);
+            double hot = run(true, threads, millis);
+            System.out.printf("%-8d %,18.0f %,18.0f%n", threads, serialized, hot);
+        }
+    }
+
+    private static double run(boolean hot, int threads, long millis) throws InterruptedException {
+        Account account = new Account("ACC000000001", 0, new ArrayList<>());
+        if (hot) {
+            account.enableHotMode(threads * 2, 4_096);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder deposits = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(threads);
+        Thread[] depositors = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            depositors[t] = new Thread(() -> {
+                Date now = new Date();
+                long count = 0;
+                ready.countDown();
+                while (running.get()) {
+                    account.deposit(1, now);
+                    count++;
+                }
+                deposits.add(count);
+            });
+        }
+        Thread folder = new Thread(() -> {
+            while (running.get()) {
+                account.foldCredits();
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        for (Thread depositor : depositors) {
+            depositor.start();
+        }
+        ready.await();
+        folder.start();
+        long start = System.nanoTime();
+        Thread.sleep(millis);
+        running.set(false);
+        for (Thread depositor : depositors) {
+            depositor.join();
+        }
+        folder.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        account.foldCredits();
+        if (account.getTransactions().size() != deposits.sum() || account.getBalance() != deposits.sum()) {
+            throw new IllegalStateException("Lost deposits");
+        }
+        return deposits.sum() / seconds;
+    }
+}
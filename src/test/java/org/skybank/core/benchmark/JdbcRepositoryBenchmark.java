@@ -0,0 +1,102 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.domain.model.Account;
+import org.skybank.core.domain.repository.AccountRepository;
+import org.skybank.core.infrastructure.persistence.InMemoryAccountRepository;
+import org.skybank.core.infrastructure.persistence.JdbcAccountRepository;
+import org.skybank.core.infrastructure.persistence.JdbcRepositoryPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sustained deposit/withdraw throughput against the in-memory repository and against the embedded
+ * H2 repository with a range of write batch sizes. The H2 figure includes the time to flush every
+ * queued transaction to disk, so it measures what the store can absorb rather than how fast the
+ * queue fills.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.skybank.core.benchmark.JdbcRepositoryBenchmark -Dexec.args="1000 200000 4"
+ * </pre>
+ */
+public final class JdbcRepositoryBenchmark {
+
+    private JdbcRepositoryBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        System.out.printf("%-20s %14s%n", "repository", "ops/s");
+        System.out.printf("%-20s %,14.0f%n", "in-memory", run(new InMemoryAccountRepository(), accounts, operations, threads));
+        for (int batchSize : new int[] {1, 64, 1_024}) {
+            Path directory = Files.createTempDirectory("skybank-h2");
+            JdbcAccountRepository repository = JdbcAccountRepository.h2(directory, new JdbcRepositoryPolicy(4, batchSize, 65_536), null);
+            try {
+                System.out.printf("%-20s %,14.0f%n", "h2 batch=" + batchSize, run(repository, accounts, operations, threads));
+            } finally {
+                repository.close();
+                delete(directory);
+            }
+        }
+    }
+
+    private static double run(AccountRepository repository, int accountCount, int operations, int threads) throws InterruptedException {
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account(String.format("ACC%09d", i), 0, new ArrayList<>());
+            repository.save(account);
+            account.deposit(operations, new Date());
+            accounts.add(account);
+        }
+        if (repository instanceof JdbcAccountRepository) {
+            ((JdbcAccountRepository) repository).flush();
+        }
+
+        LongAdder done = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                Date now = new Date();
+                int perThread = operations / threads;
+                for (int i = 0; i < perThread; i++) {
+                    Account account = accounts.get((int) ((i * 2_654_435_761L + seed) % accounts.size()));
+                    if (i % 3 == 2) {
+                        account.withdraw(1, now);
+                    } else {
+                        account.deposit(2, now);
+                    }
+                }
+                done.add(perThread);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (repository instanceof JdbcAccountRepository) {
+            ((JdbcAccountRepository) repository).flush();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return done.sum() / seconds;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
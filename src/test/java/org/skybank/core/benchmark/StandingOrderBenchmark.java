@@ -0,0 +1,52 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.application.standing.TimingWheel;
+
+import java.util.SplittableRandom;
+
+/**
+ * Cost of advancing the standing-order timing wheel as the number of schedules grows. Schedules
+ * are spread uniformly over a year of one-second ticks; each size advances through the same
+ * simulated day, so the expiries per tick grow with the book while the cost per tick should not.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.skybank.core.benchmark.StandingOrderBenchmark -Dexec.args="10000000"
+ * </pre>
+ */
+public final class StandingOrderBenchmark {
+    private static final long YEAR_TICKS = 365L * 86_400;
+    private static final long DAY_TICKS = 86_400;
+
+    private StandingOrderBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int maxSchedules = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        System.out.printf("%12s %12s %14s %14s %16s%n", "schedules", "expired", "ns/tick", "ns/expiry", "insert ns/each");
+        for (int schedules = 10_000; schedules <= maxSchedules; schedules *= 10) {
+            SplittableRandom random = new SplittableRandom(schedules);
+            TimingWheel wheel = new TimingWheel(0, schedules);
+            long insertStart = System.nanoTime();
+            for (int id = 0; id < schedules; id++) {
+                wheel.schedule(id, 1 + random.nextLong(YEAR_TICKS));
+            }
+            long insertNanos = System.nanoTime() - insertStart;
+
+            // Warm up on the first simulated day, measure the second.
+            long[] expired = new long[1];
+            wheel.advanceTo(DAY_TICKS, id -> expired[0]++);
+            expired[0] = 0;
+            long start = System.nanoTime();
+            for (long tick = DAY_TICKS + 1; tick <= 2 * DAY_TICKS; tick++) {
+                wheel.advanceTo(tick, id -> expired[0]++);
+            }
+            long nanos = System.nanoTime() - start;
+
+            System.out.printf("%,12d %,12d %14.1f %14.1f %16.1f%n", schedules, expired[0],
+                    (double) nanos / DAY_TICKS, expired[0] == 0 ? 0 : (double) nanos / expired[0],
+                    (double) insertNanos / schedules);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.application.query.Aggregate;
+import org.skybank.core.application.query.TimeBucket;
+import org.skybank.core.application.query.TransactionColumns;
+import org.skybank.core.application.query.TransactionFilter;
+import org.skybank.core.application.query.TransactionQueryEngine;
+import org.skybank.core.domain.money.CurrencyCode;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+
+/**
+ * Scalar against Vector API kernels, single-threaded and on every core, over a synthetic book
+ * generated straight into columns.
+ *
+ * <pre>
+ * MAVEN_OPTS="-Xmx6g --add-modules jdk.incubator.vector" mvn -q -Pvector test-compile exec:java \
+ *     -Dexec.classpathScope=test -Dexec.mainClass=org.skybank.core.benchmark.TransactionQueryBenchmark \
+ *     -Dexec.args="100000000 1000000"
+ * </pre>
+ * A hundred million rows take about 2.8 GB of columns. Without the profile and the module
+ * only the scalar kernels run.
+ */
+public final class TransactionQueryBenchmark {
+    private static final int ROUNDS = 5;
+
+    private TransactionQueryBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        int accounts = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        long loadStart = System.nanoTime();
+        TransactionColumns columns = generate(rows, accounts);
+        System.out.printf("Generated %,d rows over %,d accounts in %d ms%n",
+                rows, accounts, (System.nanoTime() - loadStart) / 1_000_000);
+
+        LocalDate from = LocalDate.of(2023, 3, 1);
+        TransactionFilter everything = TransactionFilter.all();
+        TransactionFilter largeWithdrawals = TransactionFilter.all()
+                .withdrawals()
+                .amountAtLeast(50_000)
+                .between(from, from.plusMonths(3), ZoneOffset.UTC);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-28s %-12s %8s %12s %16s%n", "query", "kernels", "threads", "best ms", "rows/s");
+        for (int threads : cores > 1 ? new int[]{1, cores} : new int[]{1}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                for (boolean vectorized : new boolean[]{false, true}) {
+                    TransactionQueryEngine engine = new TransactionQueryEngine(pool, vectorized);
+                    if (vectorized && engine.kernelName().equals("scalar")) {
+                        continue;
+                    }
+                    measure("sum(all)", engine, threads, rows, e -> e.aggregate(columns, everything).sum());
+                    measure("withdrawals >= 500 in Q2", engine, threads, rows, e -> e.aggregate(columns, largeWithdrawals).count());
+                    measure("deposits by day", engine, threads, rows,
+                            e -> e.aggregateBy(columns, everything.deposits(), TimeBucket.DAY).size());
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        Aggregate check = new TransactionQueryEngine().aggregate(columns, largeWithdrawals);
+        System.out.printf("large withdrawals: %,d totalling %,d%n", check.count(), check.sum());
+    }
+
+    private static void measure(String name, TransactionQueryEngine engine, int threads, int rows,
+                                ToLongFunction<TransactionQueryEngine> query) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            query.applyAsLong(engine);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-28s %-12s %8d %12.1f %,16.0f%n", name, engine.kernelName(), threads,
+                best / 1e6, rows * 1e9 / best);
+    }
+
+    /**
+     * One segment per account in the base currency, over the calendar year 2023, with balances
+     * kept non-negative.
+     */
+    private static TransactionColumns generate(int rows, int accounts) {
+        SplittableRandom random = new SplittableRandom(2024);
+        String[] numbers = new String[accounts];
+        CurrencyCode[] currencies = new CurrencyCode[accounts];
+        int[] starts = new int[accounts + 1];
+        long[] amounts = new long[rows];
+        long[] balances = new long[rows];
+        long[] timestamps = new long[rows];
+        long yearStart = LocalDate.of(2023, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        long yearMillis = 365L * 86_400_000L;
+
+        for (int a = 0; a < accounts; a++) {
+            numbers[a] = String.format("ACC%09d", a);
+            starts[a] = (int) ((long) rows * a / accounts);
+        }
+        starts[accounts] = rows;
+        Arrays.fill(currencies, CurrencyCode.BASE);
+
+        for (int a = 0; a < accounts; a++) {
+            int count = starts[a + 1] - starts[a];
+            long step = count == 0 ? 0 : yearMillis / count;
+            long time = yearStart;
+            long balance = 0;
+            for (int row = starts[a]; row < starts[a + 1]; row++) {
+                long amount = 1 + random.nextLong(100_000);
+                if (balance >= amount && random.nextInt(5) < 2) {
+                    amount = -amount;
+                }
+                balance += amount;
+                time += 1 + random.nextLong(Math.max(1, step));
+                amounts[row] = amount;
+                balances[row] = balance;
+                timestamps[row] = time;
+            }
+        }
+        return new TransactionColumns(numbers, currencies, starts, amounts, balances, timestamps, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,53 @@
+package org.skybank.core.benchmark;
+
+import org.skybank.core.application.velocity.VelocityLimits;
+import org.skybank.core.application.velocity.VelocityPolicy;
+import org.skybank.core.domain.exception.VelocityLimitExceededException;
+
+import java.util.SplittableRandom;
+
+/**
+ * Cost of one inline velocity check with the default minute/hour/day rules, over a book of
+ * accounts touched at random while the clock advances a second per thousand checks.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.skybank.core.benchmark.VelocityCheckBenchmark -Dexec.args="100000"
+ * </pre>
+ */
+public final class VelocityCheckBenchmark {
+    private static final int CHECKS = 5_000_000;
+
+    private VelocityCheckBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        String[] numbers = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            numbers[i] = String.format("ACC%09d", i);
+        }
+        VelocityLimits limits = new VelocityLimits(VelocityPolicy.defaults());
+        long now = System.currentTimeMillis();
+        for (String number : numbers) {
+            limits.record(number, 1, now);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            SplittableRandom random = new SplittableRandom(round);
+            long refused = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < CHECKS; i++) {
+                try {
+                    limits.checkAndRecord(numbers[random.nextInt(accounts)], 1 + random.nextInt(10_000), now + i / 1_000);
+                } catch (VelocityLimitExceededException e) {
+                    refused++;
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf("round %d: %,d checks over %,d accounts, %.1f ns/check, %,d refused%n",
+                    round, CHECKS, accounts, (double) nanos / CHECKS, refused);
+            now += CHECKS / 1_000 + 86_400_000L;
+        }
+    }
+}